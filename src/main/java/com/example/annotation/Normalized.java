@@ -0,0 +1,26 @@
+package com.example.annotation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation class for string fields with an indexed lowercase shadow field.
+ *
+ * <p>Case-insensitive filters on the annotated field are run against the shadow field instead of
+ * wrapping the column in {@code LOWER(...)}, so they can use its index. The shadow field is mapped
+ * to a nullable column, so it can be added to a populated table, and the rows stored before it are
+ * filled at startup by {@link com.example.config.NormalizedColumnInitializer}.
+ */
+@Target(FIELD)
+@Retention(RUNTIME)
+public @interface Normalized {
+    /**
+     * The name of the shadow field holding the lowercase value.
+     *
+     * @return the shadow field name
+     */
+    String value();
+}
@@ -0,0 +1,31 @@
+package com.example.annotation;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation class for entities whose query results are held in service result caches.
+ *
+ * <p>Every committed insert, update or delete of the annotated entity clears the caches named by
+ * {@link #value()} and evicts the written entity from the caches named by {@link #byId()}.
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+public @interface ResultCaches {
+    /**
+     * The names of the result caches.
+     *
+     * @return the cache names
+     */
+    String[] value();
+
+    /**
+     * The names of the result caches keyed by the entity id.
+     *
+     * @return the cache names
+     */
+    String[] byId() default {};
+}
@@ -0,0 +1,18 @@
+package com.example.annotation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation class for string fields backed by an n-gram full-text index.
+ *
+ * <p>{@code CONTAINS} and {@code ENDS_WITH} filters on the annotated field are narrowed with the
+ * index before the {@code LIKE} is checked. The index is built on the column the filter targets,
+ * which is the {@link Normalized} shadow column when there is one.
+ */
+@Target(FIELD)
+@Retention(RUNTIME)
+public @interface Searchable {}
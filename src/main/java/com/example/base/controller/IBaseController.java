@@ -1,5 +1,6 @@
 package com.example.base.controller;
 
+import com.example.enums.PaginationMode;
 import com.example.utils.dto.request.FilteringDTO;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +20,14 @@ public interface IBaseController<CreateDTO, UpdateDTO> {
      */
     ResponseEntity<?> create(CreateDTO createDTO);
 
+    /**
+     * Gets an entity by ID.
+     *
+     * @param id the id of the entity to get
+     * @return the response entity
+     */
+    ResponseEntity<?> get(Long id);
+
     /**
      * Gets entities.
      *
@@ -26,6 +35,8 @@ public interface IBaseController<CreateDTO, UpdateDTO> {
      * @param limit the number of entities per page
      * @param orderBy the field to order by
      * @param orderDirection the direction to order by
+     * @param pagination the pagination mode
+     * @param cursor the cursor of the previous page in cursor mode
      * @param filteringDTOList the search parameters
      * @return the response entity
      */
@@ -34,22 +45,35 @@ public interface IBaseController<CreateDTO, UpdateDTO> {
             int limit,
             String orderBy,
             String orderDirection,
+            PaginationMode pagination,
+            String cursor,
             List<FilteringDTO> filteringDTOList);
 
     /**
      * Updates an existing entity.
      *
      * @param id the id of the entity to update
+     * @param ifMatch the ETag the entity must still have, or null to update any version
      * @param updateDTO the DTO containing the entity's details
      * @return the response entity
      */
-    ResponseEntity<?> update(Long id, UpdateDTO updateDTO);
+    ResponseEntity<?> update(Long id, String ifMatch, UpdateDTO updateDTO);
 
     /**
      * Deletes an entity.
      *
      * @param id the id of the entity to delete
+     * @param ifMatch the ETag the entity must still have, or null to delete any version
+     * @return the response entity
+     */
+    ResponseEntity<?> delete(Long id, String ifMatch);
+
+    /**
+     * Deletes the entities matching a filter.
+     *
+     * @param dryRun true to only count the matching entities
+     * @param filteringDTOList the search parameters
      * @return the response entity
      */
-    ResponseEntity<?> delete(Long id);
+    ResponseEntity<?> delete(boolean dryRun, List<FilteringDTO> filteringDTOList);
 }
@@ -3,8 +3,10 @@ package com.example.base.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.time.Instant;
+import java.util.Locale;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -29,4 +31,20 @@ public abstract class BaseEntity {
     private Instant updatedAt;
 
     private String updatedBy;
+
+    // Rows stored before the column was added start at version 0
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Converts a value for a normalized shadow field.
+     *
+     * @param value the value to convert
+     * @return the lowercase value, or null if the value is null
+     */
+    protected static String toLowerCase(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
 }
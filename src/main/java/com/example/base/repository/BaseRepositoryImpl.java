@@ -0,0 +1,409 @@
+package com.example.base.repository;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+import com.example.annotation.Normalized;
+import com.example.base.model.BaseEntity;
+import com.example.enums.CountStrategy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Selection;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.Session;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaDelete;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaCriteriaUpdate;
+import org.hibernate.query.criteria.JpaRoot;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Base repository class for common operations.
+ *
+ * @param <T> the entity type
+ * @param <ID> the id type
+ */
+@Log4j2
+public class BaseRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID>
+        implements IBaseRepository<T, ID> {
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+    private static final String FIELD_UPDATED_BY = "updatedBy";
+    private static final String FIELD_VERSION = "version";
+
+    private final JpaEntityInformation<T, ?> entityInformation;
+    private final EntityManager entityManager;
+
+    private volatile EntityPersister[] cascadedPersisters;
+
+    /**
+     * Creates a new base repository.
+     *
+     * @param entityInformation the entity information
+     * @param entityManager the entity manager
+     */
+    public BaseRepositoryImpl(
+            JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityInformation = entityInformation;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Finds a page of projected rows without loading entities.
+     *
+     * <p>With {@link CountStrategy#WINDOW} the total is selected with {@code COUNT(*) OVER ()} next
+     * to every row, which is evaluated before the limit, so it always matches the page. A separate
+     * count query is only executed for {@link CountStrategy#QUERY} or when a page past the end
+     * comes back empty.
+     *
+     * @param specification the specification to filter by, or null for all entities
+     * @param pageable the page to find
+     * @param projection the projection of a row
+     * @param countStrategy the way of counting the total number of matches
+     * @return the page of projected rows
+     * @param <R> the result type
+     */
+    @Override
+    public <R> Page<R> findAll(
+            Specification<T> specification,
+            Pageable pageable,
+            ITupleProjection<T, R> projection,
+            CountStrategy countStrategy) {
+        log.debug("findAll called");
+
+        HibernateCriteriaBuilder criteriaBuilder =
+                entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        JpaRoot<T> root = query.from(getDomainClass());
+
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        List<Selection<?>> selections = new ArrayList<>(projection.select(root, criteriaBuilder));
+        boolean windowCount = countStrategy == CountStrategy.WINDOW;
+
+        if (windowCount) {
+            selections.add(criteriaBuilder.count(root, criteriaBuilder.createWindow()));
+        }
+
+        query.multiselect(selections);
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Tuple> rows = typedQuery.getResultList();
+        List<R> content = rows.stream().map(projection::map).toList();
+
+        return PageableExecutionUtils.getPage(
+                content,
+                pageable,
+                () ->
+                        windowCount && !rows.isEmpty()
+                                ? rows.get(0).get(selections.size() - 1, Long.class)
+                                : count(specification));
+    }
+
+    /**
+     * Finds the ids of the entities matching a specification without loading the entities.
+     *
+     * @param specification the specification to filter by, or null for all entities
+     * @param limit the maximum number of ids to find
+     * @return the ids, in ascending order
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ID> findIds(Specification<T> specification, int limit) {
+        log.debug("findIds called");
+
+        HibernateCriteriaBuilder criteriaBuilder =
+                entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaQuery<Object> query = criteriaBuilder.createQuery(Object.class);
+        JpaRoot<T> root = query.from(getDomainClass());
+        Path<Object> id = root.get(entityInformation.getRequiredIdAttribute().getName());
+
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        query.select(id).orderBy(criteriaBuilder.asc(id));
+
+        return (List<ID>) entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Updates entities by id with a single criteria UPDATE, without loading them.
+     *
+     * <p>Bulk statements bypass the entity callbacks, so the lowercase shadow fields of the updated
+     * {@link Normalized} attributes and the audit fields of {@link BaseEntity} are set by the
+     * statement itself.
+     *
+     * @param ids the ids of the entities to update
+     * @param values the new values by attribute name
+     * @param updatedBy the user making the update
+     * @return the number of updated entities
+     */
+    @Override
+    public int updateAllByIdInBatch(Collection<ID> ids, Map<String, ?> values, String updatedBy) {
+        log.debug("updateAllByIdInBatch called");
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return update(
+                (root, update, criteriaBuilder) ->
+                        root.get(entityInformation.getRequiredIdAttribute().getName()).in(ids),
+                values,
+                updatedBy);
+    }
+
+    /**
+     * Updates the entities matching a condition with a single criteria UPDATE, without loading
+     * them.
+     *
+     * @param condition the condition of the entities to update
+     * @param values the new values by attribute name
+     * @param updatedBy the user making the update
+     * @return the number of updated entities
+     */
+    @Override
+    public int updateAll(IUpdateCondition<T> condition, Map<String, ?> values, String updatedBy) {
+        log.debug("updateAll called");
+
+        return update(condition, values, updatedBy);
+    }
+
+    /**
+     * Updates the entities matching a condition with a single criteria UPDATE, but only the rows
+     * where at least one of the given attributes differs from its new value.
+     *
+     * <p>Only the given attributes, their {@link Normalized} shadow fields and the audit fields of
+     * {@link BaseEntity} are written, and rows that would not change are neither written nor
+     * locked.
+     *
+     * @param condition the condition of the entities to update
+     * @param values the new values by attribute name, none of them null
+     * @param updatedBy the user making the update
+     * @return the number of updated entities
+     */
+    @Override
+    public int updateIfChanged(
+            IUpdateCondition<T> condition, Map<String, ?> values, String updatedBy) {
+        log.debug("updateIfChanged called");
+
+        return update(
+                (root, update, criteriaBuilder) ->
+                        criteriaBuilder.and(
+                                condition.toPredicate(root, update, criteriaBuilder),
+                                criteriaBuilder.or(
+                                        values.entrySet().stream()
+                                                .map(
+                                                        entry ->
+                                                                criteriaBuilder.notEqual(
+                                                                        root.get(entry.getKey()),
+                                                                        entry.getValue()))
+                                                .toArray(Predicate[]::new))),
+                values,
+                updatedBy);
+    }
+
+    /**
+     * Deletes the entities matching a condition with a single criteria DELETE, without loading
+     * them.
+     *
+     * <p>Entities whose foreign key to this entity cascades deletes with {@link OnDelete} are
+     * deleted by the database along with it, which Hibernate does not know of, so their
+     * second-level cache regions are evicted like the region of this entity.
+     *
+     * @param condition the condition of the entities to delete
+     * @return the number of deleted entities
+     */
+    @Override
+    public int deleteAll(IDeleteCondition<T> condition) {
+        log.debug("deleteAll called");
+
+        Session session = entityManager.unwrap(Session.class);
+        HibernateCriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+        JpaCriteriaDelete<T> delete = criteriaBuilder.createCriteriaDelete(getDomainClass());
+        JpaRoot<T> root = delete.from(getDomainClass());
+
+        delete.where(condition.toPredicate(root, delete, criteriaBuilder));
+
+        // Like a clearing @Modifying query, so no managed entity outlives the rows it maps
+        entityManager.flush();
+
+        EntityPersister[] cascadedPersisters = getCascadedPersisters(session);
+
+        if (cascadedPersisters.length > 0) {
+            BulkOperationCleanupAction.schedule(
+                    session.unwrap(SharedSessionContractImplementor.class), cascadedPersisters);
+        }
+
+        int deleted = entityManager.createQuery(delete).executeUpdate();
+
+        if (deleted > 0) {
+            entityManager.clear();
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Updates the entities matching a condition with a single criteria UPDATE, setting the given
+     * attributes, their {@link Normalized} shadow fields and the audit fields and version of {@link
+     * BaseEntity}, which bulk statements would otherwise leave untouched.
+     *
+     * <p>Hibernate cannot tell which rows a bulk statement changes, so executing one evicts the
+     * whole second-level cache region of the entity, not just the updated rows.
+     *
+     * @param condition the condition of the entities to update
+     * @param values the new values by attribute name
+     * @param updatedBy the user making the update
+     * @return the number of updated entities
+     */
+    private int update(IUpdateCondition<T> condition, Map<String, ?> values, String updatedBy) {
+        HibernateCriteriaBuilder criteriaBuilder =
+                entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaUpdate<T> update = criteriaBuilder.createCriteriaUpdate(getDomainClass());
+        JpaRoot<T> root = update.from(getDomainClass());
+
+        values.forEach(
+                (attribute, value) -> {
+                    update.set(attribute, value);
+
+                    Field field = ReflectionUtils.findField(getDomainClass(), attribute);
+                    Normalized normalized =
+                            field != null ? field.getAnnotation(Normalized.class) : null;
+
+                    if (normalized != null) {
+                        update.set(
+                                normalized.value(),
+                                value != null ? value.toString().toLowerCase(Locale.ROOT) : null);
+                    }
+                });
+
+        if (BaseEntity.class.isAssignableFrom(getDomainClass())) {
+            Path<Long> version = root.get(FIELD_VERSION);
+
+            update.set(FIELD_UPDATED_AT, Instant.now());
+            update.set(FIELD_UPDATED_BY, updatedBy);
+            update.set(version, criteriaBuilder.sum(version, 1L));
+        }
+
+        update.where(condition.toPredicate(root, update, criteriaBuilder));
+
+        // Like a clearing @Modifying query, so no managed entity outlives the rows it maps
+        entityManager.flush();
+
+        int updated = entityManager.createQuery(update).executeUpdate();
+
+        if (updated > 0) {
+            entityManager.clear();
+        }
+
+        return updated;
+    }
+
+    /**
+     * Finds an entity by its natural id, resolving it through the natural id cache of the entity if
+     * it has one.
+     *
+     * @param naturalId the value of the single natural id attribute
+     * @return the entity, or empty if there is no entity with the natural id
+     * @throws org.hibernate.HibernateException if the entity has no single natural id attribute
+     */
+    @Override
+    public Optional<T> findByNaturalId(Object naturalId) {
+        log.debug("findByNaturalId called");
+
+        return entityManager
+                .unwrap(Session.class)
+                .bySimpleNaturalId(getDomainClass())
+                .loadOptional(naturalId);
+    }
+
+    /**
+     * Gets the persisters of the entities whose foreign key to this entity cascades deletes with
+     * {@link OnDelete}.
+     *
+     * @param session the session
+     * @return the persisters, empty if no foreign key to this entity cascades
+     */
+    private EntityPersister[] getCascadedPersisters(Session session) {
+        EntityPersister[] persisters = cascadedPersisters;
+
+        if (persisters == null) {
+            List<EntityPersister> cascaded = new ArrayList<>();
+
+            session.getSessionFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel()
+                    .forEachEntityDescriptor(
+                            persister ->
+                                    ReflectionUtils.doWithFields(
+                                            persister.getMappedClass(),
+                                            field -> cascaded.add(persister),
+                                            this::cascadesDeletes));
+
+            persisters = cascaded.toArray(EntityPersister[]::new);
+            cascadedPersisters = persisters;
+        }
+
+        return persisters;
+    }
+
+    /**
+     * Checks if a field is a foreign key to this entity that cascades deletes.
+     *
+     * @param field the field
+     * @return true if the field references this entity with a cascading {@link OnDelete}, false
+     *     otherwise
+     */
+    private boolean cascadesDeletes(Field field) {
+        OnDelete onDelete = field.getAnnotation(OnDelete.class);
+
+        return onDelete != null
+                && onDelete.action() == OnDeleteAction.CASCADE
+                && field.getType().isAssignableFrom(getDomainClass());
+    }
+}
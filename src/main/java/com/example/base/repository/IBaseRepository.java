@@ -0,0 +1,118 @@
+package com.example.base.repository;
+
+import com.example.enums.CountStrategy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Repository interface for common operations.
+ *
+ * @param <T> the entity type
+ * @param <ID> the id type
+ */
+@NoRepositoryBean
+public interface IBaseRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+    /**
+     * Finds a page of projected rows without loading entities.
+     *
+     * @param specification the specification to filter by, or null for all entities
+     * @param pageable the page to find
+     * @param projection the projection of a row
+     * @param countStrategy the way of counting the total number of matches
+     * @return the page of projected rows
+     * @param <R> the result type
+     */
+    <R> Page<R> findAll(
+            Specification<T> specification,
+            Pageable pageable,
+            ITupleProjection<T, R> projection,
+            CountStrategy countStrategy);
+
+    /**
+     * Finds the ids of the entities matching a specification without loading the entities.
+     *
+     * @param specification the specification to filter by, or null for all entities
+     * @param limit the maximum number of ids to find
+     * @return the ids, in ascending order
+     */
+    List<ID> findIds(Specification<T> specification, int limit);
+
+    /**
+     * Updates entities by id with a single criteria UPDATE, without loading them.
+     *
+     * <p>Bulk statements bypass the entity callbacks, so the lowercase shadow fields of the updated
+     * {@link com.example.annotation.Normalized} attributes and the audit fields of {@link
+     * com.example.base.model.BaseEntity}, including the version, are set by the statement itself.
+     * Pending changes are flushed first and the persistence context is cleared if any row is
+     * updated. Like every bulk statement, the update evicts the whole second-level cache region of
+     * the entity.
+     *
+     * @param ids the ids of the entities to update
+     * @param values the new values by attribute name
+     * @param updatedBy the user making the update
+     * @return the number of updated entities
+     */
+    int updateAllByIdInBatch(Collection<ID> ids, Map<String, ?> values, String updatedBy);
+
+    /**
+     * Updates the entities matching a condition with a single criteria UPDATE, without loading
+     * them.
+     *
+     * <p>Like {@link #updateAllByIdInBatch(Collection, Map, String)}, but the condition may also
+     * check the version the caller expects. With no values only the audit fields and the version
+     * are written.
+     *
+     * @param condition the condition of the entities to update
+     * @param values the new values by attribute name
+     * @param updatedBy the user making the update
+     * @return the number of updated entities
+     */
+    int updateAll(IUpdateCondition<T> condition, Map<String, ?> values, String updatedBy);
+
+    /**
+     * Updates the entities matching a condition with a single criteria UPDATE, but only the rows
+     * where at least one of the given attributes differs from its new value.
+     *
+     * <p>Only the given attributes, their {@link com.example.annotation.Normalized} shadow fields
+     * and the audit fields of {@link com.example.base.model.BaseEntity} are written, and rows that
+     * would not change are neither written nor locked. Pending changes are flushed first and the
+     * persistence context is cleared if any row is updated.
+     *
+     * @param condition the condition of the entities to update
+     * @param values the new values by attribute name, none of them null
+     * @param updatedBy the user making the update
+     * @return the number of updated entities
+     */
+    int updateIfChanged(IUpdateCondition<T> condition, Map<String, ?> values, String updatedBy);
+
+    /**
+     * Deletes the entities matching a condition with a single criteria DELETE, without loading
+     * them.
+     *
+     * <p>Pending changes are flushed first and the persistence context is cleared if any row is
+     * deleted. Like every bulk statement, the delete evicts the whole second-level cache region of
+     * the entity.
+     *
+     * @param condition the condition of the entities to delete
+     * @return the number of deleted entities
+     */
+    int deleteAll(IDeleteCondition<T> condition);
+
+    /**
+     * Finds an entity by its natural id, resolving it through the natural id cache of the entity if
+     * it has one.
+     *
+     * @param naturalId the value of the single natural id attribute
+     * @return the entity, or empty if there is no entity with the natural id
+     * @throws org.hibernate.HibernateException if the entity has no single natural id attribute
+     */
+    Optional<T> findByNaturalId(Object naturalId);
+}
@@ -0,0 +1,24 @@
+package com.example.base.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Condition of a criteria DELETE, which unlike a specification may build subqueries of the delete.
+ *
+ * @param <T> the entity type
+ */
+@FunctionalInterface
+public interface IDeleteCondition<T> {
+    /**
+     * Creates the predicate of the condition.
+     *
+     * @param root the root of the delete
+     * @param delete the delete
+     * @param criteriaBuilder the criteria builder
+     * @return the predicate
+     */
+    Predicate toPredicate(Root<T> root, CriteriaDelete<T> delete, CriteriaBuilder criteriaBuilder);
+}
@@ -0,0 +1,32 @@
+package com.example.base.repository;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.List;
+
+/**
+ * Projection of an entity query onto the columns a result needs.
+ *
+ * @param <T> the entity type
+ * @param <R> the result type
+ */
+public interface ITupleProjection<T, R> {
+    /**
+     * Selects the columns of the result.
+     *
+     * @param root the root of the query
+     * @param criteriaBuilder the criteria builder
+     * @return the selections, in the order {@link #map(Tuple)} reads them
+     */
+    List<Selection<?>> select(Root<T> root, CriteriaBuilder criteriaBuilder);
+
+    /**
+     * Maps a row to a result.
+     *
+     * @param tuple the row
+     * @return the result
+     */
+    R map(Tuple tuple);
+}
@@ -0,0 +1,24 @@
+package com.example.base.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Condition of a criteria UPDATE, which unlike a specification may build subqueries of the update.
+ *
+ * @param <T> the entity type
+ */
+@FunctionalInterface
+public interface IUpdateCondition<T> {
+    /**
+     * Creates the predicate of the condition.
+     *
+     * @param root the root of the update
+     * @param update the update
+     * @param criteriaBuilder the criteria builder
+     * @return the predicate
+     */
+    Predicate toPredicate(Root<T> root, CriteriaUpdate<T> update, CriteriaBuilder criteriaBuilder);
+}
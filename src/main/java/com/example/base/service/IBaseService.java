@@ -1,6 +1,9 @@
 package com.example.base.service;
 
 import com.example.utils.dto.request.FilteringDTO;
+import com.example.utils.dto.response.CursorPageResponseDTO;
+import com.example.utils.dto.response.SliceResponseDTO;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 
@@ -20,6 +23,14 @@ public interface IBaseService<CreateDTO, UpdateDTO, GetDTO> {
      */
     GetDTO create(CreateDTO createDTO);
 
+    /**
+     * Gets an entity by ID.
+     *
+     * @param id the id of the entity to get
+     * @return the entity
+     */
+    GetDTO get(Long id);
+
     /**
      * Gets entities.
      *
@@ -37,19 +48,66 @@ public interface IBaseService<CreateDTO, UpdateDTO, GetDTO> {
             String orderDirection,
             List<FilteringDTO> filteringDTOList);
 
+    /**
+     * Gets entities without counting the total number of matches.
+     *
+     * @param page the page number
+     * @param limit the number of entities per page
+     * @param orderBy the field to order by
+     * @param orderDirection the direction to order by
+     * @param filteringDTOList the search parameters
+     * @return the entities and whether a next page exists
+     */
+    SliceResponseDTO<GetDTO> getSlice(
+            int page,
+            int limit,
+            String orderBy,
+            String orderDirection,
+            List<FilteringDTO> filteringDTOList);
+
+    /**
+     * Gets entities by keyset pagination.
+     *
+     * @param cursor the cursor of the previous page, or null for the first page
+     * @param limit the number of entities per page
+     * @param orderBy the field to order by
+     * @param orderDirection the direction to order by
+     * @param filteringDTOList the search parameters
+     * @return the entities and the cursor of the next page
+     */
+    CursorPageResponseDTO<GetDTO> getByCursor(
+            String cursor,
+            int limit,
+            String orderBy,
+            String orderDirection,
+            List<FilteringDTO> filteringDTOList);
+
     /**
      * Updates an existing entity.
      *
      * @param id the id of the entity to update
      * @param updateDTO the DTO containing the entity's details
+     * @param versions the versions one of which the entity must still have, or null to update any
+     *     version
      * @return the updated entity
      */
-    GetDTO update(Long id, UpdateDTO updateDTO);
+    GetDTO update(Long id, UpdateDTO updateDTO, Collection<Long> versions);
 
     /**
      * Deletes an entity.
      *
      * @param id the id of the entity to delete
+     * @param versions the versions one of which the entity must still have, or null to delete any
+     *     version
+     */
+    void delete(Long id, Collection<Long> versions);
+
+    /**
+     * Deletes the entities matching a filter with set-based statements, without loading them.
+     *
+     * @param filteringDTOList the search parameters, at least one
+     * @param dryRun true to only count the matching entities
+     * @return the number of deleted entities, or of matching entities in a dry run
      */
-    void delete(Long id);
+    long delete(List<FilteringDTO> filteringDTOList, boolean dryRun);
 }
@@ -1,21 +1,53 @@
 package com.example.base.specification;
 
+import static com.example.config.SearchFunctionContributor.NGRAM_MATCH;
+
+import com.example.annotation.Normalized;
+import com.example.annotation.Searchable;
 import com.example.enums.FilterOperator;
+import com.example.enums.FilterValueType;
+import com.example.enums.LogicalOperator;
+import com.example.exception.InvalidCursorException;
 import com.example.exception.InvalidDateFormatException;
 import com.example.exception.InvalidFilterException;
+import com.example.utils.criteria.JoinRegistry;
+import com.example.utils.criteria.ParameterPadding;
+import com.example.utils.criteria.RangeBounds;
 import com.example.utils.dto.request.FilteringDTO;
+import com.example.utils.pagination.KeysetCursorCodec;
+import com.example.utils.parser.IsoInstantParser;
 import com.example.utils.service.IMessageService;
+import jakarta.persistence.Column;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.lang.reflect.Field;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Abstract specification class for filtering entities.
@@ -27,22 +59,43 @@ import org.springframework.data.jpa.domain.Specification;
 public abstract class BaseSpecificationImpl<T> implements IBaseSpecification<T> {
     protected final IMessageService messageService;
 
-    public static final String STRING = "String";
-    public static final String INSTANT = "Instant";
-    public static final String LONG = "Long";
+    private final Map<List<FilterShape>, FilterPlan> filterPlanCache = new ConcurrentHashMap<>();
+    private final Class<?> entityClass =
+            GenericTypeResolver.resolveTypeArgument(getClass(), BaseSpecificationImpl.class);
+
+    public static final String ID = "id";
 
     public static final String DATE_REGEX = "\\d{4}-\\d{2}-\\d{2}";
     public static final String DATE_TIME_REGEX = "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}";
     public static final String DATE_TIME_WITH_MILLIS_REGEX =
             "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{6}Z";
     public static final String UTC = "UTC";
+    public static final char LIKE_ESCAPE = '\\';
+
+    public static final int MAX_CACHED_FILTER_PLANS = 512;
+    public static final int NGRAM_TOKEN_SIZE = 2;
+    public static final int MAX_IN_CHUNK_SIZE = 512;
+    public static final int MAX_FILTER_VALUES = 10_000;
+    public static final int MAX_FILTER_DEPTH = 8;
+
+    public static final int RANK_INDEXED_EQUALITY = 0;
+    public static final int RANK_INDEXED_RANGE = 1;
+    public static final int RANK_EQUALITY = 2;
+    public static final int RANK_RANGE = 3;
+    public static final int RANK_RESIDUAL = 4;
+    public static final int RANK_GROUP = 5;
 
     public static final String ERROR_INVALID_FILTER = "error.invalid_filter";
     public static final String ERROR_INVALID_DATE_FORMAT = "error.invalid_date_format";
+    public static final String ERROR_INVALID_CURSOR = "error.invalid_cursor";
 
     /**
      * Build a specification.
      *
+     * <p>The filter list is compiled into a {@link FilterPlan} once per distinct filter shape and
+     * entity, so executing the specification (including the count query of a page) only binds the
+     * filter values.
+     *
      * @param filteringDTOList the search parameters
      * @param orderBy the field to order by
      * @param orderDirection the direction to order by
@@ -56,48 +109,180 @@ public abstract class BaseSpecificationImpl<T> implements IBaseSpecification<T>
         log.debug("buildSpecification called");
 
         return (root, query, criteriaBuilder) -> {
-            if (filteringDTOList == null) {
+            JoinRegistry joins = new JoinRegistry(root);
+
+            // Count queries drop the ordering anyway, so a nested sort key must not add a join.
+            if (orderBy != null && orderDirection != null && !isCountQuery(query)) {
+                Path<?> sortPath = joins.get(orderBy.split("\\."));
+
+                if ("asc".equalsIgnoreCase(orderDirection)) {
+                    Objects.requireNonNull(query).orderBy(criteriaBuilder.asc(sortPath));
+                } else if ("desc".equalsIgnoreCase(orderDirection)) {
+                    Objects.requireNonNull(query).orderBy(criteriaBuilder.desc(sortPath));
+                }
+            }
+
+            if (filteringDTOList == null || filteringDTOList.isEmpty()) {
                 return criteriaBuilder.conjunction();
             }
 
-            List<Predicate> predicates = new ArrayList<>();
+            List<CompiledFilter> compiledFilters =
+                    getFilterPlan(root.getModel(), filteringDTOList).getFilters();
+
+            return criteriaBuilder.and(
+                    bindFilters(criteriaBuilder, joins, compiledFilters, filteringDTOList, true));
+        };
+    }
 
-            for (FilteringDTO filter : filteringDTOList) {
-                String key = filter.getField();
-                String value = filter.getValue();
-                FilterOperator operator = filter.getOperator();
-                String otherValue = filter.getOtherValue();
+    /**
+     * Fetch associations in the same query as the entities, except in count queries.
+     *
+     * <p>Without the fetch join, eager associations are loaded with one extra select per row. Count
+     * queries are left join-free, as they don't return entities.
+     *
+     * @param specification the specification to extend
+     * @param attributes the associations to fetch
+     * @return the specification
+     */
+    @Override
+    public Specification<T> withFetch(Specification<T> specification, String... attributes) {
+        log.debug("withFetch called");
 
-                if (isNullOrEmpty(value) || isNullOrEmpty(key) || operator == null) {
-                    throw new InvalidFilterException(
-                            messageService.getMessage(ERROR_INVALID_FILTER));
-                }
+        Specification<T> fetch =
+                (root, query, criteriaBuilder) -> {
+                    if (!isCountQuery(query)) {
+                        for (String attribute : attributes) {
+                            root.fetch(attribute);
+                        }
+                    }
 
-                Path<?> path = getNestedField(root, key);
-                Class<?> javaType = path.getJavaType();
-
-                switch (javaType.getSimpleName()) {
-                    case STRING -> predicates.add(
-                            buildStringPredicate(criteriaBuilder, path, value, operator));
-                    case INSTANT -> predicates.add(
-                            buildDatePredicate(criteriaBuilder, path, value, operator, otherValue));
-                    case LONG -> predicates.add(
-                            buildLongPredicate(criteriaBuilder, path, value, operator, otherValue));
-                    default -> throw new InvalidFilterException(
-                            messageService.getMessage(ERROR_INVALID_FILTER));
-                }
+                    return null;
+                };
+
+        // The fetch joins are added first, so that filters and sort keys reuse them.
+        return specification == null ? fetch : fetch.and(specification);
+    }
+
+    /**
+     * Build a specification for keyset pagination.
+     *
+     * <p>The ordering is not part of the specification, it is applied from {@link
+     * #buildKeysetSort(String, String)} together with the seek predicate of the position.
+     *
+     * @param filteringDTOList the search parameters
+     * @param orderBy the field to order by, which must be a non-nullable filterable field
+     * @return the specification
+     * @throws InvalidDateFormatException if the date format is invalid
+     * @throws InvalidFilterException if the filter or the field to order by is invalid
+     */
+    @Override
+    public Specification<T> buildKeysetSpecification(
+            List<FilteringDTO> filteringDTOList, String orderBy) {
+        log.debug("buildKeysetSpecification called");
+
+        Specification<T> specification = buildSpecification(filteringDTOList, null, null);
+
+        return (root, query, criteriaBuilder) -> {
+            validateKeysetSortKey(root.getModel(), orderBy);
+
+            return specification.toPredicate(root, query, criteriaBuilder);
+        };
+    }
+
+    /**
+     * Build the sort for keyset pagination, using the id as tiebreaker.
+     *
+     * @param orderBy the field to order by
+     * @param orderDirection the direction to order by
+     * @return the sort
+     */
+    @Override
+    public Sort buildKeysetSort(String orderBy, String orderDirection) {
+        log.debug("buildKeysetSort called");
+
+        Sort.Direction direction =
+                "desc".equalsIgnoreCase(orderDirection) ? Sort.Direction.DESC : Sort.Direction.ASC;
+
+        if (orderBy == null || ID.equals(orderBy)) {
+            return Sort.by(direction, ID);
+        }
+
+        return Sort.by(direction, orderBy).and(Sort.by(direction, ID));
+    }
+
+    /**
+     * Parse a cursor into a keyset position.
+     *
+     * @param cursor the cursor, or null for the first page
+     * @param sort the keyset sort the cursor must belong to
+     * @return the keyset position
+     * @throws InvalidCursorException if the cursor is malformed, belongs to another sort or holds a
+     *     value of another type than its sort field
+     */
+    @Override
+    public KeysetScrollPosition parseCursor(String cursor, Sort sort) {
+        log.debug("parseCursor called");
+
+        if (isNullOrEmpty(cursor)) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> keys = KeysetCursorCodec.decode(cursor);
+        Set<String> sortProperties =
+                sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+
+        if (keys == null || !sortProperties.equals(keys.keySet())) {
+            throw new InvalidCursorException(messageService.getMessage(ERROR_INVALID_CURSOR));
+        }
+
+        for (String property : sortProperties) {
+            FilterValueType valueType = FilterValueType.of(resolveJavaType(property));
+
+            // A value of another type would only fail once bound to the keyset query
+            if (valueType == null
+                    || valueType != FilterValueType.of(keys.get(property).getClass())) {
+                throw new InvalidCursorException(messageService.getMessage(ERROR_INVALID_CURSOR));
             }
+        }
 
-            if (orderBy != null && orderDirection != null) {
-                if ("asc".equalsIgnoreCase(orderDirection)) {
-                    Objects.requireNonNull(query).orderBy(criteriaBuilder.asc(root.get(orderBy)));
-                } else if ("desc".equalsIgnoreCase(orderDirection)) {
-                    Objects.requireNonNull(query).orderBy(criteriaBuilder.desc(root.get(orderBy)));
-                }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Create a cursor from a keyset position.
+     *
+     * @param position the position of the last returned row
+     * @return the cursor
+     */
+    @Override
+    public String createCursor(ScrollPosition position) {
+        log.debug("createCursor called");
+
+        return KeysetCursorCodec.encode(((KeysetScrollPosition) position).getKeys());
+    }
+
+    /**
+     * Resolve the Java type of a possibly nested field of the entity.
+     *
+     * @param field the field, with nested attribute names separated by dots
+     * @return the Java type, or null if the field does not exist
+     */
+    protected Class<?> resolveJavaType(String field) {
+        log.debug("resolveJavaType called");
+
+        Class<?> type = entityClass;
+
+        for (String part : field.split("\\.")) {
+            Field javaField = type != null ? ReflectionUtils.findField(type, part) : null;
+
+            if (javaField == null) {
+                return null;
             }
 
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
+            type = javaField.getType();
+        }
+
+        return type;
     }
 
     /**
@@ -112,9 +297,26 @@ public abstract class BaseSpecificationImpl<T> implements IBaseSpecification<T>
 
         if (filteringDTOList != null) {
             filteringDTOList.removeIf(filteringDTO -> key.equals(filteringDTO.getField()));
+
+            for (FilteringDTO filteringDTO : filteringDTOList) {
+                removeParam(filteringDTO.getFilters(), key);
+            }
         }
     }
 
+    /**
+     * Check if a query is a count query.
+     *
+     * @param query the query
+     * @return true if the query returns a count, false otherwise
+     */
+    protected boolean isCountQuery(CriteriaQuery<?> query) {
+        log.debug("isCountQuery called");
+
+        return query != null
+                && (Long.class == query.getResultType() || long.class == query.getResultType());
+    }
+
     /**
      * Check if a string is null or empty.
      *
@@ -128,52 +330,787 @@ public abstract class BaseSpecificationImpl<T> implements IBaseSpecification<T>
     }
 
     /**
-     * Get a nested field from a root.
+     * Get the compiled plan for a filter list, compiling and caching it on first use.
+     *
+     * @param entityType the metamodel type of the entity
+     * @param filteringDTOList the search parameters
+     * @return the filter plan
+     * @throws InvalidFilterException if the filter is invalid
+     */
+    protected FilterPlan getFilterPlan(
+            ManagedType<?> entityType, List<FilteringDTO> filteringDTOList) {
+        log.debug("getFilterPlan called");
+
+        List<FilterShape> shapes = getFilterShapes(filteringDTOList, 1);
+        FilterPlan plan = filterPlanCache.get(shapes);
+
+        if (plan == null) {
+            plan = compileFilterPlan(entityType, shapes);
+
+            if (filterPlanCache.size() < MAX_CACHED_FILTER_PLANS) {
+                filterPlanCache.putIfAbsent(shapes, plan);
+            }
+        }
+
+        return plan;
+    }
+
+    /**
+     * Get the value-independent shapes of a filter list.
+     *
+     * @param filteringDTOList the search parameters
+     * @param depth the nesting depth of the list, starting at 1
+     * @return the filter shapes
+     * @throws InvalidFilterException if a filter or group is incomplete, or the groups are nested
+     *     too deep
+     */
+    protected List<FilterShape> getFilterShapes(List<FilteringDTO> filteringDTOList, int depth) {
+        log.debug("getFilterShapes called");
+
+        if (depth > MAX_FILTER_DEPTH) {
+            throw new InvalidFilterException(messageService.getMessage(ERROR_INVALID_FILTER));
+        }
+
+        List<FilterShape> shapes = new ArrayList<>(filteringDTOList.size());
+
+        for (FilteringDTO filter : filteringDTOList) {
+            if (filter.getLogic() != null) {
+                if (filter.getFilters() == null || filter.getFilters().isEmpty()) {
+                    throw new InvalidFilterException(
+                            messageService.getMessage(ERROR_INVALID_FILTER));
+                }
+
+                shapes.add(
+                        new FilterShape(
+                                null,
+                                null,
+                                filter.getLogic(),
+                                getFilterShapes(filter.getFilters(), depth + 1)));
+            } else if (isNullOrEmpty(filter.getField()) || filter.getOperator() == null) {
+                throw new InvalidFilterException(messageService.getMessage(ERROR_INVALID_FILTER));
+            } else {
+                shapes.add(
+                        new FilterShape(filter.getField(), filter.getOperator(), null, List.of()));
+            }
+        }
+
+        return shapes;
+    }
+
+    /**
+     * Compile filter shapes into a plan by resolving them against the JPA metamodel.
+     *
+     * @param entityType the metamodel type of the entity
+     * @param shapes the filter shapes
+     * @return the filter plan
+     * @throws InvalidFilterException if a field does not exist, has an unsupported type or does not
+     *     support the operator
+     */
+    protected FilterPlan compileFilterPlan(ManagedType<?> entityType, List<FilterShape> shapes) {
+        log.debug("compileFilterPlan called");
+
+        return new FilterPlan(compileFilters(entityType, shapes));
+    }
+
+    /**
+     * Compile the filter shapes of one list, ordered by their selectivity rank.
+     *
+     * <p>The filters of a list are either all combined with AND or all with OR, so their order does
+     * not change the result. Cheap, selective filters are placed first, so databases that evaluate
+     * the remaining conditions in order reject rows early. The sort is stable, so filters of the
+     * same rank keep the order of the request.
+     *
+     * @param entityType the metamodel type of the entity
+     * @param shapes the filter shapes
+     * @return the compiled filters
+     * @throws InvalidFilterException if a field does not exist, has an unsupported type or does not
+     *     support the operator
+     */
+    protected List<CompiledFilter> compileFilters(
+            ManagedType<?> entityType, List<FilterShape> shapes) {
+        log.debug("compileFilters called");
+
+        List<CompiledFilter> compiledFilters = new ArrayList<>(shapes.size());
+
+        for (int i = 0; i < shapes.size(); i++) {
+            FilterShape shape = shapes.get(i);
+
+            compiledFilters.add(
+                    shape.getLogic() != null
+                            ? compileGroup(entityType, shape, i)
+                            : compileFilter(entityType, shape, i));
+        }
+
+        compiledFilters.sort(Comparator.comparingInt(CompiledFilter::getRank));
+
+        return compiledFilters;
+    }
+
+    /**
+     * Compile the shape of a filter group.
+     *
+     * <p>An AND group ranks like its most selective filter, OR and NOT groups are ranked last.
+     *
+     * @param entityType the metamodel type of the entity
+     * @param shape the shape of the group
+     * @param index the position of the group in its list
+     * @return the compiled group
+     * @throws InvalidFilterException if a filter of the group is invalid
+     */
+    protected CompiledFilter compileGroup(ManagedType<?> entityType, FilterShape shape, int index) {
+        log.debug("compileGroup called");
+
+        List<CompiledFilter> children = compileFilters(entityType, shape.getChildren());
+
+        return CompiledFilter.builder()
+                .logic(shape.getLogic())
+                .children(List.copyOf(children))
+                .index(index)
+                .rank(
+                        shape.getLogic() == LogicalOperator.AND
+                                ? children.get(0).getRank()
+                                : RANK_GROUP)
+                .build();
+    }
+
+    /**
+     * Compile the shape of a single filter.
+     *
+     * @param entityType the metamodel type of the entity
+     * @param shape the shape of the filter
+     * @param index the position of the filter in its list
+     * @return the compiled filter
+     * @throws InvalidFilterException if the field does not exist, has an unsupported type or does
+     *     not support the operator
+     */
+    protected CompiledFilter compileFilter(
+            ManagedType<?> entityType, FilterShape shape, int index) {
+        log.debug("compileFilter called");
+
+        String[] path = shape.getField().split("\\.");
+        Attribute<?, ?> attribute = resolveAttribute(entityType, path);
+        FilterValueType valueType = FilterValueType.of(attribute.getJavaType());
+
+        if (valueType == null || !valueType.supports(shape.getOperator())) {
+            throw new InvalidFilterException(messageService.getMessage(ERROR_INVALID_FILTER));
+        }
+
+        boolean isString = valueType == FilterValueType.STRING;
+        String shadowField = isString ? getNormalizedField(attribute) : null;
+        boolean searchable = isString && isSearchableField(attribute);
+
+        if (shadowField != null) {
+            path[path.length - 1] = shadowField;
+            attribute = resolveAttribute(entityType, path);
+        }
+
+        return CompiledFilter.builder()
+                .path(path)
+                .valueType(valueType)
+                .operator(shape.getOperator())
+                .normalized(shadowField != null)
+                .searchable(searchable)
+                .index(index)
+                .rank(rankFilter(shape.getOperator(), isIndexedField(attribute), searchable))
+                .build();
+    }
+
+    /**
+     * Estimate the selectivity rank of a single filter.
+     *
+     * @param operator the operator
+     * @param indexed whether the filtered column leads an index
+     * @param searchable whether the field is backed by a full-text index
+     * @return the rank, lower ranks are more selective
+     */
+    protected int rankFilter(FilterOperator operator, boolean indexed, boolean searchable) {
+        log.debug("rankFilter called");
+
+        return switch (operator) {
+            case EQUALS, IN, IS_NULL -> indexed ? RANK_INDEXED_EQUALITY : RANK_EQUALITY;
+            case GREATER_THAN, LESS_THAN, BETWEEN, STARTS_WITH -> indexed
+                    ? RANK_INDEXED_RANGE
+                    : RANK_RANGE;
+            case CONTAINS, ENDS_WITH -> searchable ? RANK_INDEXED_RANGE : RANK_RESIDUAL;
+            default -> RANK_RESIDUAL;
+        };
+    }
+
+    /**
+     * Check if the column of an attribute is an id, unique, a natural id or the leading column of
+     * an index.
+     *
+     * @param attribute the attribute
+     * @return true if the column can be looked up through an index, false otherwise
+     */
+    protected boolean isIndexedField(Attribute<?, ?> attribute) {
+        log.debug("isIndexedField called");
+
+        if (attribute instanceof SingularAttribute<?, ?> singular && singular.isId()) {
+            return true;
+        }
+
+        if (!(attribute.getJavaMember() instanceof Field field)) {
+            return false;
+        }
+
+        Column column = field.getAnnotation(Column.class);
+
+        if ((column != null && column.unique()) || field.isAnnotationPresent(NaturalId.class)) {
+            return true;
+        }
+
+        Table table = field.getDeclaringClass().getAnnotation(Table.class);
+
+        if (table == null) {
+            return false;
+        }
+
+        for (Index index : table.indexes()) {
+            String leadingColumn = index.columnList().split(",")[0].trim().split("\\s+")[0];
+
+            if (field.getName().equals(leadingColumn)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Get the lowercase shadow field of an attribute.
+     *
+     * @param attribute the attribute
+     * @return the name of the shadow field, or null if the attribute has none
+     */
+    protected String getNormalizedField(Attribute<?, ?> attribute) {
+        log.debug("getNormalizedField called");
+
+        Normalized normalized =
+                attribute.getJavaMember() instanceof Field field
+                        ? field.getAnnotation(Normalized.class)
+                        : null;
+
+        return normalized != null ? normalized.value() : null;
+    }
+
+    /**
+     * Check if an attribute is backed by a full-text index.
+     *
+     * @param attribute the attribute
+     * @return true if the attribute is searchable, false otherwise
+     */
+    protected boolean isSearchableField(Attribute<?, ?> attribute) {
+        log.debug("isSearchableField called");
+
+        return attribute.getJavaMember() instanceof Field field
+                && field.isAnnotationPresent(Searchable.class);
+    }
+
+    /**
+     * Resolve a possibly nested attribute path.
+     *
+     * @param entityType the metamodel type of the entity
+     * @param path the attribute names
+     * @return the last attribute
+     * @throws InvalidFilterException if the path does not exist
+     */
+    protected Attribute<?, ?> resolveAttribute(ManagedType<?> entityType, String[] path) {
+        log.debug("resolveAttribute called");
+
+        ManagedType<?> type = entityType;
+        Attribute<?, ?> attribute = null;
+
+        for (String part : path) {
+            if (type == null) {
+                throw new InvalidFilterException(messageService.getMessage(ERROR_INVALID_FILTER));
+            }
+
+            try {
+                attribute = type.getAttribute(part);
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidFilterException(messageService.getMessage(ERROR_INVALID_FILTER));
+            }
+
+            type =
+                    attribute instanceof SingularAttribute<?, ?> singular
+                                    && singular.getType() instanceof ManagedType<?> managed
+                            ? managed
+                            : null;
+        }
+
+        return Objects.requireNonNull(attribute);
+    }
+
+    /**
+     * Validate that a field can be used as keyset sort key.
+     *
+     * @param entityType the metamodel type of the entity
+     * @param orderBy the field to order by
+     * @throws InvalidFilterException if the field is restricted, nullable or not filterable
+     */
+    protected void validateKeysetSortKey(ManagedType<?> entityType, String orderBy) {
+        log.debug("validateKeysetSortKey called");
+
+        if (orderBy == null || ID.equals(orderBy)) {
+            return;
+        }
+
+        if (!isRestrictedField(orderBy)
+                && resolveAttribute(entityType, orderBy.split("\\."))
+                        instanceof SingularAttribute<?, ?> attribute
+                && !attribute.isOptional()
+                && FilterValueType.of(attribute.getJavaType()) != null) {
+            return;
+        }
+
+        throw new InvalidFilterException(messageService.getMessage(ERROR_INVALID_FILTER));
+    }
+
+    /**
+     * Check if a field must not be exposed through sorting positions.
      *
-     * @param root the root
      * @param field the field
-     * @return the nested field
+     * @return true if the field is restricted, false otherwise
+     */
+    protected boolean isRestrictedField(String field) {
+        log.debug("isRestrictedField called");
+
+        return false;
+    }
+
+    /**
+     * Bind the values of a filter list to its compiled filters.
+     *
+     * <p>In a conjunction, several GREATER_THAN, LESS_THAN and BETWEEN filters on the same field
+     * are collapsed into the tightest single range, placed where the first of them was.
+     *
+     * @param criteriaBuilder the criteria builder
+     * @param joins the join registry of the query
+     * @param compiledFilters the compiled filters of the list
+     * @param filteringDTOList the search parameters holding the values
+     * @param conjunction whether the predicates are combined with AND
+     * @return the predicates, in the order of the compiled filters
+     * @throws InvalidFilterException if a filter is invalid
+     * @throws InvalidDateFormatException if a date format is invalid
+     */
+    protected Predicate[] bindFilters(
+            CriteriaBuilder criteriaBuilder,
+            JoinRegistry joins,
+            List<CompiledFilter> compiledFilters,
+            List<FilteringDTO> filteringDTOList,
+            boolean conjunction) {
+        log.debug("bindFilters called");
+
+        Map<String, RangeBounds<?>> ranges =
+                conjunction ? collectRanges(compiledFilters, filteringDTOList) : Map.of();
+        List<Predicate> predicates = new ArrayList<>(compiledFilters.size());
+        Set<String> boundRanges = new HashSet<>();
+
+        for (CompiledFilter compiledFilter : compiledFilters) {
+            FilteringDTO filter = filteringDTOList.get(compiledFilter.getIndex());
+
+            if (compiledFilter.getLogic() != null) {
+                predicates.add(bindGroup(criteriaBuilder, joins, compiledFilter, filter));
+                continue;
+            }
+
+            String field = String.join(".", compiledFilter.getPath());
+            RangeBounds<?> range =
+                    isRangeOperator(compiledFilter.getOperator()) ? ranges.get(field) : null;
+
+            if (range == null) {
+                predicates.add(bindFilter(criteriaBuilder, joins, compiledFilter, filter));
+            } else if (boundRanges.add(field)) {
+                predicates.add(
+                        toRangePredicate(
+                                criteriaBuilder, joins.get(compiledFilter.getPath()), range));
+            }
+        }
+
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    /**
+     * Bind the values of a filter group.
+     *
+     * @param criteriaBuilder the criteria builder
+     * @param joins the join registry of the query
+     * @param compiledGroup the compiled group
+     * @param group the group holding the values
+     * @return the predicate
+     * @throws InvalidFilterException if a filter is invalid
+     * @throws InvalidDateFormatException if a date format is invalid
+     */
+    protected Predicate bindGroup(
+            CriteriaBuilder criteriaBuilder,
+            JoinRegistry joins,
+            CompiledFilter compiledGroup,
+            FilteringDTO group) {
+        log.debug("bindGroup called");
+
+        LogicalOperator logic = compiledGroup.getLogic();
+        Predicate[] predicates =
+                bindFilters(
+                        criteriaBuilder,
+                        joins,
+                        compiledGroup.getChildren(),
+                        group.getFilters(),
+                        logic != LogicalOperator.OR);
+
+        return switch (logic) {
+            case AND -> criteriaBuilder.and(predicates);
+            case OR -> criteriaBuilder.or(predicates);
+            case NOT -> criteriaBuilder.not(criteriaBuilder.and(predicates));
+        };
+    }
+
+    /**
+     * Collect the bounds of fields with more than one range filter in a conjunction.
+     *
+     * @param compiledFilters the compiled filters of the list
+     * @param filteringDTOList the search parameters holding the values
+     * @return the bounds by field
+     * @throws InvalidFilterException if a BETWEEN filter has no other value
+     * @throws InvalidDateFormatException if a date format is invalid
+     */
+    protected Map<String, RangeBounds<?>> collectRanges(
+            List<CompiledFilter> compiledFilters, List<FilteringDTO> filteringDTOList) {
+        log.debug("collectRanges called");
+
+        Map<String, List<CompiledFilter>> rangeFilters = new HashMap<>();
+
+        for (CompiledFilter compiledFilter : compiledFilters) {
+            if (compiledFilter.getLogic() == null
+                    && isRangeOperator(compiledFilter.getOperator())) {
+                rangeFilters
+                        .computeIfAbsent(
+                                String.join(".", compiledFilter.getPath()), k -> new ArrayList<>())
+                        .add(compiledFilter);
+            }
+        }
+
+        Map<String, RangeBounds<?>> ranges = new HashMap<>();
+
+        for (Map.Entry<String, List<CompiledFilter>> entry : rangeFilters.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                RangeBounds<Comparable<Object>> range = new RangeBounds<>();
+
+                for (CompiledFilter compiledFilter : entry.getValue()) {
+                    addRange(
+                            range, compiledFilter, filteringDTOList.get(compiledFilter.getIndex()));
+                }
+
+                ranges.put(entry.getKey(), range);
+            }
+        }
+
+        return ranges;
+    }
+
+    /**
+     * Narrow a range with the bounds of a range filter.
+     *
+     * @param range the range
+     * @param compiledFilter the compiled range filter
+     * @param filter the search parameter holding the values
+     * @throws InvalidFilterException if a value is missing
+     * @throws InvalidDateFormatException if a date format is invalid
+     */
+    @SuppressWarnings("unchecked")
+    protected void addRange(
+            RangeBounds<Comparable<Object>> range,
+            CompiledFilter compiledFilter,
+            FilteringDTO filter) {
+        log.debug("addRange called");
+
+        FilterOperator operator = compiledFilter.getOperator();
+
+        if (isNullOrEmpty(filter.getValue())
+                || (operator == FilterOperator.BETWEEN && isNullOrEmpty(filter.getOtherValue()))) {
+            throw new InvalidFilterException(messageService.getMessage(ERROR_INVALID_FILTER));
+        }
+
+        Comparable<Object> value =
+                (Comparable<Object>) parseValue(compiledFilter.getValueType(), filter.getValue());
+
+        switch (operator) {
+            case GREATER_THAN -> range.addLower(value, false);
+            case LESS_THAN -> range.addUpper(value, false);
+            default -> {
+                range.addLower(value, true);
+                range.addUpper(
+                        (Comparable<Object>)
+                                parseValue(compiledFilter.getValueType(), filter.getOtherValue()),
+                        true);
+            }
+        }
+    }
+
+    /**
+     * Build the predicate of a collapsed range.
+     *
+     * @param criteriaBuilder the criteria builder
+     * @param path the path
+     * @param range the range
+     * @return the predicate
+     */
+    @SuppressWarnings("unchecked")
+    protected Predicate toRangePredicate(
+            CriteriaBuilder criteriaBuilder, Path<?> path, RangeBounds<?> range) {
+        log.debug("toRangePredicate called");
+
+        // The compiled filter guarantees a comparable attribute, see buildStringPredicate.
+        return ((RangeBounds<Comparable<Object>>) range)
+                .toPredicate(criteriaBuilder, (Expression<Comparable<Object>>) path);
+    }
+
+    /**
+     * Check if an operator filters a range of values.
+     *
+     * @param operator the operator
+     * @return true if the operator is GREATER_THAN, LESS_THAN or BETWEEN, false otherwise
+     */
+    protected boolean isRangeOperator(FilterOperator operator) {
+        log.debug("isRangeOperator called");
+
+        return operator == FilterOperator.GREATER_THAN
+                || operator == FilterOperator.LESS_THAN
+                || operator == FilterOperator.BETWEEN;
+    }
+
+    /**
+     * Bind a value to a compiled filter.
+     *
+     * @param criteriaBuilder the criteria builder
+     * @param joins the join registry of the query
+     * @param compiledFilter the compiled filter
+     * @param filter the search parameter holding the values
+     * @return the predicate
+     * @throws InvalidFilterException if the filter is invalid
+     * @throws InvalidDateFormatException if the date format is invalid
      */
-    protected Path<?> getNestedField(Root<?> root, String field) {
-        log.debug("getNestedField called");
+    protected Predicate bindFilter(
+            CriteriaBuilder criteriaBuilder,
+            JoinRegistry joins,
+            CompiledFilter compiledFilter,
+            FilteringDTO filter) {
+        log.debug("bindFilter called");
+
+        Path<?> path = joins.get(compiledFilter.getPath());
+        FilterOperator operator = compiledFilter.getOperator();
+
+        switch (operator) {
+            case IS_NULL:
+                return criteriaBuilder.isNull(path);
+            case IS_NOT_NULL:
+                return criteriaBuilder.isNotNull(path);
+            case IN, NOT_IN:
+                return buildMembershipPredicate(
+                        criteriaBuilder, path, compiledFilter, filter.getValues());
+            default:
+                break;
+        }
 
-        String[] fieldParts = field.split("\\.");
-        Path<?> path = root.get(fieldParts[0]);
+        String value = filter.getValue();
 
-        for (int i = 1; i < fieldParts.length; i++) {
-            path = path.get(fieldParts[i]);
+        if (isNullOrEmpty(value)) {
+            throw new InvalidFilterException(messageService.getMessage(ERROR_INVALID_FILTER));
         }
 
-        return path;
+        return switch (compiledFilter.getValueType()) {
+            case STRING -> compiledFilter.isSearchable()
+                            && (operator == FilterOperator.CONTAINS
+                                    || operator == FilterOperator.ENDS_WITH)
+                    ? buildSearchPredicate(
+                            criteriaBuilder, path, value, operator, compiledFilter.isNormalized())
+                    : buildStringPredicate(
+                            criteriaBuilder, path, value, operator, compiledFilter.isNormalized());
+            case INSTANT -> buildDatePredicate(
+                    criteriaBuilder, path, value, operator, filter.getOtherValue());
+            case LONG -> buildLongPredicate(
+                    criteriaBuilder, path, value, operator, filter.getOtherValue());
+        };
     }
 
     /**
      * Build a predicate for a string field.
      *
+     * <p>The value is matched literally: {@code %} and {@code _} in it are escaped rather than
+     * treated as wildcards.
+     *
      * @param criteriaBuilder the criteria builder
      * @param path the path
      * @param value the value
      * @param operator the operator
+     * @param normalized whether the path already holds lowercase values
      * @return the predicate
      * @throws InvalidFilterException if the filter is invalid
      */
     protected Predicate buildStringPredicate(
-            CriteriaBuilder criteriaBuilder, Path<?> path, String value, FilterOperator operator) {
+            CriteriaBuilder criteriaBuilder,
+            Path<?> path,
+            String value,
+            FilterOperator operator,
+            boolean normalized) {
         log.debug("buildStringPredicate called");
 
-        Expression<String> expression = criteriaBuilder.lower(path.as(String.class));
+        // The compiled filter guarantees a String attribute; as(String.class) would add a CAST
+        // around the column and keep the database from using its index.
+        @SuppressWarnings("unchecked")
+        Expression<String> column = (Expression<String>) path;
+        Expression<String> expression = normalized ? column : criteriaBuilder.lower(column);
+        String lowerValue = value.toLowerCase(Locale.ROOT);
+        String likeValue = escapeLike(lowerValue);
 
         return switch (operator) {
-            case EQUALS -> criteriaBuilder.equal(expression, value.toLowerCase());
-            case CONTAINS -> criteriaBuilder.like(expression, "%" + value.toLowerCase() + "%");
-            case STARTS_WITH -> criteriaBuilder.like(expression, value.toLowerCase() + "%");
-            case ENDS_WITH -> criteriaBuilder.like(expression, "%" + value.toLowerCase());
-            case NOT_EQUALS -> criteriaBuilder.notEqual(expression, value.toLowerCase());
+            case EQUALS -> criteriaBuilder.equal(expression, lowerValue);
+            case CONTAINS -> criteriaBuilder.like(expression, "%" + likeValue + "%", LIKE_ESCAPE);
+            case STARTS_WITH -> criteriaBuilder.like(expression, likeValue + "%", LIKE_ESCAPE);
+            case ENDS_WITH -> criteriaBuilder.like(expression, "%" + likeValue, LIKE_ESCAPE);
+            case NOT_EQUALS -> criteriaBuilder.notEqual(expression, lowerValue);
             default -> throw new InvalidFilterException(
                     messageService.getMessage(ERROR_INVALID_FILTER));
         };
     }
 
+    /**
+     * Escape the wildcards of a {@code LIKE} pattern and the escape character itself.
+     *
+     * @param value the value
+     * @return the value matching itself literally in a pattern escaped with {@link #LIKE_ESCAPE}
+     */
+    protected String escapeLike(String value) {
+        log.debug("escapeLike called");
+
+        return value.replace(String.valueOf(LIKE_ESCAPE), LIKE_ESCAPE + String.valueOf(LIKE_ESCAPE))
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+    }
+
+    /**
+     * Build a substring predicate for a searchable string field.
+     *
+     * <p>The rows are narrowed with the n-gram full-text index first and then checked with the
+     * regular {@code LIKE}, which keeps the results identical to {@link #buildStringPredicate}.
+     * Terms shorter than an n-gram cannot use the index and only get the {@code LIKE}.
+     *
+     * @param criteriaBuilder the criteria builder
+     * @param path the path
+     * @param value the value
+     * @param operator the operator, CONTAINS or ENDS_WITH
+     * @param normalized whether the path already holds lowercase values
+     * @return the predicate
+     */
+    protected Predicate buildSearchPredicate(
+            CriteriaBuilder criteriaBuilder,
+            Path<?> path,
+            String value,
+            FilterOperator operator,
+            boolean normalized) {
+        log.debug("buildSearchPredicate called");
+
+        Predicate like = buildStringPredicate(criteriaBuilder, path, value, operator, normalized);
+        String term = value.replace("\"", "").toLowerCase(Locale.ROOT);
+
+        if (term.length() < NGRAM_TOKEN_SIZE) {
+            return like;
+        }
+
+        Expression<Double> match =
+                criteriaBuilder.function(
+                        NGRAM_MATCH,
+                        Double.class,
+                        path,
+                        criteriaBuilder instanceof HibernateCriteriaBuilder hibernateBuilder
+                                ? hibernateBuilder.value(term)
+                                : criteriaBuilder.literal(term));
+
+        return criteriaBuilder.and(criteriaBuilder.greaterThan(match, 0.0), like);
+    }
+
+    /**
+     * Build an IN or NOT_IN predicate.
+     *
+     * <p>Duplicate values are dropped and the rest is split into chunks of at most {@link
+     * #MAX_IN_CHUNK_SIZE} parameters. Each chunk is padded to a power of two by repeating its last
+     * value, so the number of distinct statements stays logarithmic in the list size and the
+     * statement caches of Hibernate and the JDBC driver stay small.
+     *
+     * @param criteriaBuilder the criteria builder
+     * @param path the path
+     * @param compiledFilter the compiled filter
+     * @param values the values
+     * @return the predicate
+     * @throws InvalidFilterException if there are no values, too many values or an empty value
+     * @throws InvalidDateFormatException if the date format is invalid
+     */
+    protected Predicate buildMembershipPredicate(
+            CriteriaBuilder criteriaBuilder,
+            Path<?> path,
+            CompiledFilter compiledFilter,
+            List<String> values) {
+        log.debug("buildMembershipPredicate called");
+
+        if (values == null || values.isEmpty() || values.size() > MAX_FILTER_VALUES) {
+            throw new InvalidFilterException(messageService.getMessage(ERROR_INVALID_FILTER));
+        }
+
+        Set<Object> distinctValues = new LinkedHashSet<>();
+
+        for (String value : values) {
+            if (isNullOrEmpty(value)) {
+                throw new InvalidFilterException(messageService.getMessage(ERROR_INVALID_FILTER));
+            }
+
+            distinctValues.add(parseValue(compiledFilter.getValueType(), value));
+        }
+
+        Expression<?> expression = path;
+
+        if (compiledFilter.getValueType() == FilterValueType.STRING
+                && !compiledFilter.isNormalized()) {
+            @SuppressWarnings("unchecked")
+            Expression<String> column = (Expression<String>) path;
+            expression = criteriaBuilder.lower(column);
+        }
+
+        List<Object> parsedValues = new ArrayList<>(distinctValues);
+        List<Predicate> chunks = new ArrayList<>();
+
+        for (int from = 0; from < parsedValues.size(); from += MAX_IN_CHUNK_SIZE) {
+            int to = Math.min(from + MAX_IN_CHUNK_SIZE, parsedValues.size());
+
+            chunks.add(expression.in(ParameterPadding.pad(parsedValues.subList(from, to))));
+        }
+
+        Predicate in =
+                chunks.size() == 1
+                        ? chunks.get(0)
+                        : criteriaBuilder.or(chunks.toArray(Predicate[]::new));
+
+        return compiledFilter.getOperator() == FilterOperator.NOT_IN ? criteriaBuilder.not(in) : in;
+    }
+
+    /**
+     * Parse a filter value into the Java type of its field.
+     *
+     * @param valueType the value type of the field
+     * @param value the value
+     * @return the parsed value, lowercased for strings
+     * @throws InvalidDateFormatException if the date format is invalid
+     * @throws InvalidFilterException if a long value is not a number
+     */
+    protected Object parseValue(FilterValueType valueType, String value) {
+        log.debug("parseValue called");
+
+        return switch (valueType) {
+            case STRING -> value.toLowerCase(Locale.ROOT);
+            case INSTANT -> parseDate(value);
+            case LONG -> parseLong(value);
+        };
+    }
+
     /**
      * Build a predicate for a date field.
      *
@@ -230,7 +1167,7 @@ public abstract class BaseSpecificationImpl<T> implements IBaseSpecification<T>
      * @param operator the operator
      * @param otherValue the other value
      * @return the predicate
-     * @throws InvalidFilterException if the filter is invalid
+     * @throws InvalidFilterException if the filter is invalid or a value is not a number
      */
     protected Predicate buildLongPredicate(
             CriteriaBuilder criteriaBuilder,
@@ -242,7 +1179,7 @@ public abstract class BaseSpecificationImpl<T> implements IBaseSpecification<T>
         log.debug("buildLongPredicate called");
 
         Expression<Long> expression = path.as(Long.class);
-        Long parsedValue = Long.parseLong(value);
+        Long parsedValue = parseLong(value);
 
         switch (operator) {
             case EQUALS:
@@ -257,7 +1194,7 @@ public abstract class BaseSpecificationImpl<T> implements IBaseSpecification<T>
                             messageService.getMessage(ERROR_INVALID_FILTER));
                 }
 
-                Long parsedOtherValue = Long.parseLong(otherValue);
+                Long parsedOtherValue = parseLong(otherValue);
 
                 return criteriaBuilder.between(expression, parsedValue, parsedOtherValue);
             case NOT_EQUALS:
@@ -270,6 +1207,9 @@ public abstract class BaseSpecificationImpl<T> implements IBaseSpecification<T>
     /**
      * Parse a date string into an Instant.
      *
+     * <p>Accepts the formats described by {@link #DATE_REGEX}, {@link #DATE_TIME_REGEX} and {@link
+     * #DATE_TIME_WITH_MILLIS_REGEX}, interpreted in UTC.
+     *
      * @param value the date string
      * @return the date as an Instant
      * @throws InvalidDateFormatException if the date format is invalid
@@ -277,15 +1217,30 @@ public abstract class BaseSpecificationImpl<T> implements IBaseSpecification<T>
     protected Instant parseDate(String value) throws InvalidDateFormatException {
         log.debug("parseDate called");
 
-        if (value.matches(DATE_REGEX)) {
-            return LocalDateTime.parse(value + "T00:00:00").atZone(ZoneId.of(UTC)).toInstant();
-        } else if (value.matches(DATE_TIME_REGEX)) {
-            return LocalDateTime.parse(value).atZone(ZoneId.of(UTC)).toInstant();
-        } else if (value.matches(DATE_TIME_WITH_MILLIS_REGEX)) {
-            return ZonedDateTime.parse(value).toInstant();
-        } else {
+        Instant instant = IsoInstantParser.parse(value);
+
+        if (instant == null) {
             throw new InvalidDateFormatException(
                     messageService.getMessage(ERROR_INVALID_DATE_FORMAT));
         }
+
+        return instant;
+    }
+
+    /**
+     * Parse a long string into a Long.
+     *
+     * @param value the long string
+     * @return the value as a Long
+     * @throws InvalidFilterException if the value is not a number
+     */
+    protected Long parseLong(String value) throws InvalidFilterException {
+        log.debug("parseLong called");
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            throw new InvalidFilterException(messageService.getMessage(ERROR_INVALID_FILTER));
+        }
     }
 }
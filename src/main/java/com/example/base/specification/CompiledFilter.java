@@ -0,0 +1,42 @@
+package com.example.base.specification;
+
+import com.example.enums.FilterOperator;
+import com.example.enums.FilterValueType;
+import com.example.enums.LogicalOperator;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A filter resolved against the JPA metamodel, ready to be bound to a value.
+ *
+ * <p>A compiled filter group has a logic and children instead of a path, a value type and an
+ * operator.
+ */
+@Getter
+@Builder
+@SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class CompiledFilter {
+    private final String[] path;
+    private final FilterValueType valueType;
+    private final FilterOperator operator;
+
+    /** Whether the path points at a lowercase shadow field, so no LOWER(...) is needed. */
+    private final boolean normalized;
+
+    /** Whether substring operators can be narrowed with a full-text index. */
+    private final boolean searchable;
+
+    /** The logic of a filter group, null for a single filter. */
+    private final LogicalOperator logic;
+
+    /** The compiled filters of a group, ordered by rank. */
+    @Builder.Default private final List<CompiledFilter> children = List.of();
+
+    /** The position of the filter in the list holding its values. */
+    private final int index;
+
+    /** The estimated selectivity rank of the filter, lower ranks are evaluated first. */
+    private final int rank;
+}
@@ -0,0 +1,19 @@
+package com.example.base.specification;
+
+import java.util.List;
+import lombok.Getter;
+
+/** Immutable, compiled form of a list of filter shapes. */
+@Getter
+public class FilterPlan {
+    private final List<CompiledFilter> filters;
+
+    /**
+     * Constructor for the FilterPlan class.
+     *
+     * @param filters the compiled filters, ordered by rank
+     */
+    public FilterPlan(List<CompiledFilter> filters) {
+        this.filters = List.copyOf(filters);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.base.specification;
+
+import com.example.enums.FilterOperator;
+import com.example.enums.LogicalOperator;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** The value-independent shape of a filter, used as the key of compiled filter plans. */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class FilterShape {
+    private final String field;
+    private final FilterOperator operator;
+
+    /** The logic of a filter group, null for a single filter. */
+    private final LogicalOperator logic;
+
+    /** The shapes of the filters of a group, empty for a single filter. */
+    private final List<FilterShape> children;
+}
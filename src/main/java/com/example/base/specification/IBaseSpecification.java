@@ -2,6 +2,9 @@ package com.example.base.specification;
 
 import com.example.utils.dto.request.FilteringDTO;
 import java.util.List;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 /**
@@ -21,6 +24,50 @@ public interface IBaseSpecification<T> {
     Specification<T> buildSpecification(
             List<FilteringDTO> filteringDTOList, String orderBy, String orderDirection);
 
+    /**
+     * Fetch associations in the same query as the entities, except in count queries.
+     *
+     * @param specification the specification to extend
+     * @param attributes the associations to fetch
+     * @return the specification
+     */
+    Specification<T> withFetch(Specification<T> specification, String... attributes);
+
+    /**
+     * Build a specification for keyset pagination.
+     *
+     * @param filteringDTOList the search parameters
+     * @param orderBy the field to order by, which must be a non-nullable filterable field
+     * @return the specification
+     */
+    Specification<T> buildKeysetSpecification(List<FilteringDTO> filteringDTOList, String orderBy);
+
+    /**
+     * Build the sort for keyset pagination, using the id as tiebreaker.
+     *
+     * @param orderBy the field to order by
+     * @param orderDirection the direction to order by
+     * @return the sort
+     */
+    Sort buildKeysetSort(String orderBy, String orderDirection);
+
+    /**
+     * Parse a cursor into a keyset position.
+     *
+     * @param cursor the cursor, or null for the first page
+     * @param sort the keyset sort the cursor must belong to
+     * @return the keyset position
+     */
+    KeysetScrollPosition parseCursor(String cursor, Sort sort);
+
+    /**
+     * Create a cursor from a keyset position.
+     *
+     * @param position the position of the last returned row
+     * @return the cursor
+     */
+    String createCursor(ScrollPosition position);
+
     /**
      * Remove a parameter from the list.
      *
@@ -0,0 +1,74 @@
+package com.example.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks the BCrypt strength whose hashes take about the target latency on the current machine.
+ *
+ * <p>A hash is timed at the minimum strength, and as every extra unit of strength doubles the work,
+ * the strength is raised by as many units as the target allows. The minimum strength is a security
+ * floor, so slow machines keep it even above the target.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class BCryptStrengthCalibrator {
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+    private static final int WARMUP_HASHES = 2;
+    private static final int MEASURED_HASHES = 3;
+
+    private final PasswordHashingProperties passwordHashingProperties;
+
+    /**
+     * Times hashes at the minimum strength and picks the strength for the target latency.
+     *
+     * @return the strength
+     */
+    public int calibrate() {
+        log.debug("calibrate called");
+
+        BCryptPasswordEncoder encoder =
+                new BCryptPasswordEncoder(passwordHashingProperties.getMinStrength());
+
+        for (int i = 0; i < WARMUP_HASHES; i++) {
+            encoder.encode(SAMPLE_PASSWORD);
+        }
+
+        long fastest = Long.MAX_VALUE;
+
+        for (int i = 0; i < MEASURED_HASHES; i++) {
+            long start = System.nanoTime();
+
+            encoder.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        int strength = strengthFor(fastest);
+
+        log.info(
+                "BCrypt strength {} picked, a hash at strength {} took {} ms",
+                strength,
+                passwordHashingProperties.getMinStrength(),
+                fastest / 1_000_000);
+
+        return strength;
+    }
+
+    /**
+     * Picks the highest strength whose hashes stay within the target latency.
+     *
+     * @param nanosAtMinStrength the duration of a hash at the minimum strength, in nanoseconds
+     * @return the strength, between the minimum and the maximum strength
+     */
+    public int strengthFor(long nanosAtMinStrength) {
+        double ratio =
+                passwordHashingProperties.getTargetLatency().toNanos()
+                        / (double) Math.max(nanosAtMinStrength, 1);
+        int steps = ratio > 1 ? (int) Math.floor(Math.log(ratio) / Math.log(2)) : 0;
+
+        return Math.min(
+                passwordHashingProperties.getMaxStrength(),
+                passwordHashingProperties.getMinStrength() + steps);
+    }
+}
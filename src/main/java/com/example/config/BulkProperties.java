@@ -0,0 +1,22 @@
+package com.example.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for bulk operations on filtered entities.
+ *
+ * <p>Both limits must be positive, so a bad configuration fails at startup instead of rejecting
+ * every bulk request or never finishing one.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "bulk")
+public class BulkProperties {
+    @Positive private int maxRows = 10000;
+    @Positive private int chunkSize = 1000;
+}
@@ -0,0 +1,57 @@
+package com.example.config;
+
+import com.example.utils.cache.GenerationalCaffeineCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Configuration class for the service result caches. */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(ResultCacheProperties.class)
+public class CacheConfig {
+    /**
+     * Creates one bounded Caffeine cache per configured result cache.
+     *
+     * <p>Unconfigured cache names are rejected instead of creating unbounded caches. The caches
+     * record statistics, which are published as {@code cache.gets}, {@code cache.puts} and {@code
+     * cache.evictions} metrics. The caches are {@link GenerationalCaffeineCache generational}, so a
+     * value read before an eviction is not stored after it.
+     *
+     * @param resultCacheProperties the result cache properties
+     * @return the cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(ResultCacheProperties resultCacheProperties) {
+        CaffeineCacheManager cacheManager =
+                new CaffeineCacheManager() {
+                    @Override
+                    protected org.springframework.cache.Cache adaptCaffeineCache(
+                            String name, Cache<Object, Object> cache) {
+                        return new GenerationalCaffeineCache(name, cache, isAllowNullValues());
+                    }
+                };
+
+        cacheManager.setCacheNames(List.of());
+        cacheManager.setAllowNullValues(false);
+        resultCacheProperties
+                .getCaches()
+                .forEach(
+                        (name, spec) ->
+                                cacheManager.registerCustomCache(
+                                        name,
+                                        Caffeine.newBuilder()
+                                                .maximumSize(spec.getMaximumSize())
+                                                .expireAfterWrite(spec.getTimeToLive())
+                                                .recordStats()
+                                                .build()));
+
+        return cacheManager;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Makes the foreign keys declared with a cascading {@link OnDelete} cascade on MySQL.
+ *
+ * <p>Schema updates do not change existing foreign keys, so a foreign key created before it was
+ * declared cascading is recreated on startup, before the web server starts, as deletes that rely on
+ * the cascade fail without it. Nodes starting together may all find a foreign key not cascading, so
+ * a foreign key recreated by another node in the meantime counts as recreated. New schemas and
+ * other databases are created with cascading foreign keys and are skipped.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ForeignKeyCascadeInitializer implements SmartInitializingSingleton {
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String NON_CASCADING_KEYS_SQL =
+            "SELECT rc.constraint_name FROM information_schema.referential_constraints rc"
+                    + " JOIN information_schema.key_column_usage k"
+                    + " ON k.constraint_schema = rc.constraint_schema"
+                    + " AND k.table_name = rc.table_name"
+                    + " AND k.constraint_name = rc.constraint_name"
+                    + " WHERE rc.constraint_schema = DATABASE() AND rc.table_name = ?"
+                    + " AND k.column_name = ? AND rc.delete_rule <> 'CASCADE'";
+    private static final int MYSQL_CANT_DROP_FIELD_OR_KEY = 1091;
+
+    /**
+     * Recreates the non-cascading foreign keys once all singletons are created, before the web
+     * server starts.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        log.info("afterSingletonsInstantiated called");
+
+        alignForeignKeys();
+    }
+
+    /** Recreates the foreign keys declared cascading that do not cascade yet. */
+    public void alignForeignKeys() {
+        log.debug("alignForeignKeys called");
+
+        SessionFactoryImplementor sessionFactory =
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        if (!(sessionFactory.getJdbcServices().getDialect() instanceof MySQLDialect)) {
+            return;
+        }
+
+        for (CascadingForeignKey foreignKey : getCascadingForeignKeys()) {
+            List<String> names =
+                    jdbcTemplate.queryForList(
+                            NON_CASCADING_KEYS_SQL,
+                            String.class,
+                            foreignKey.getTable(),
+                            foreignKey.getColumn());
+
+            names.forEach(name -> recreateForeignKey(foreignKey, name));
+        }
+    }
+
+    /**
+     * Recreates a foreign key with a cascading delete, tolerating a foreign key recreated
+     * concurrently by another node.
+     *
+     * @param foreignKey the foreign key
+     * @param name the name of the existing foreign key
+     * @throws DataAccessException if the foreign key cannot be recreated for another reason
+     */
+    public void recreateForeignKey(CascadingForeignKey foreignKey, String name) {
+        log.info("Making foreign key {} cascade deletes", name);
+
+        try {
+            jdbcTemplate.execute(foreignKey.toAlterSql(name));
+        } catch (DataAccessException ex) {
+            if (!(ex.getMostSpecificCause() instanceof SQLException sqlException)
+                    || sqlException.getErrorCode() != MYSQL_CANT_DROP_FIELD_OR_KEY) {
+                throw ex;
+            }
+
+            log.info("Foreign key {} was recreated by another node", name);
+        }
+    }
+
+    /**
+     * Gets the foreign keys declared with a cascading {@link OnDelete} in all entities.
+     *
+     * @return the foreign keys
+     */
+    public List<CascadingForeignKey> getCascadingForeignKeys() {
+        log.debug("getCascadingForeignKeys called");
+
+        MappingMetamodel metamodel =
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel();
+        List<CascadingForeignKey> foreignKeys = new ArrayList<>();
+
+        metamodel.forEachEntityDescriptor(
+                descriptor -> {
+                    AbstractEntityPersister persister = (AbstractEntityPersister) descriptor;
+
+                    ReflectionUtils.doWithFields(
+                            persister.getMappedClass(),
+                            field -> {
+                                AbstractEntityPersister referenced =
+                                        (AbstractEntityPersister)
+                                                metamodel.getEntityDescriptor(field.getType());
+
+                                foreignKeys.add(
+                                        new CascadingForeignKey(
+                                                persister.getPropertyTableName(field.getName()),
+                                                persister
+                                                        .getPropertyColumnNames(field.getName())[0],
+                                                referenced.getTableName(),
+                                                referenced.getIdentifierColumnNames()[0]));
+                            },
+                            field -> {
+                                OnDelete onDelete = field.getAnnotation(OnDelete.class);
+
+                                return onDelete != null
+                                        && onDelete.action() == OnDeleteAction.CASCADE;
+                            });
+                });
+
+        return foreignKeys;
+    }
+
+    /** A foreign key on a single column that cascades deletes of the referenced row. */
+    @Value
+    public static class CascadingForeignKey {
+        String table;
+        String column;
+        String referencedTable;
+        String referencedColumn;
+
+        /**
+         * Creates the DDL statement that recreates an existing foreign key with a cascading delete.
+         *
+         * @param name the name of the existing foreign key
+         * @return the DDL statement
+         */
+        public String toAlterSql(String name) {
+            return "ALTER TABLE "
+                    + table
+                    + " DROP FOREIGN KEY "
+                    + name
+                    + ", ADD CONSTRAINT "
+                    + name
+                    + " FOREIGN KEY ("
+                    + column
+                    + ") REFERENCES "
+                    + referencedTable
+                    + " ("
+                    + referencedColumn
+                    + ") ON DELETE CASCADE";
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.config;
+
+import com.example.annotation.Normalized;
+import com.example.annotation.Searchable;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the FULLTEXT ngram indexes of {@link Searchable} fields on MySQL.
+ *
+ * <p>JPA cannot declare FULLTEXT indexes, so they are created on startup when missing, before the
+ * web server starts, as substring filters cannot run on MySQL without them. Nodes starting together
+ * may all find an index missing, so an index created by another node in the meantime counts as
+ * created. Other databases are skipped, as substring filters fall back to a scan there.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexInitializer implements SmartInitializingSingleton {
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INDEX_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics"
+                    + " WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+    private static final int MYSQL_DUPLICATE_KEY_NAME = 1061;
+
+    /**
+     * Creates the missing indexes once all singletons are created, before the web server starts.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        log.info("afterSingletonsInstantiated called");
+
+        createIndexes();
+    }
+
+    /** Creates the missing indexes. */
+    public void createIndexes() {
+        log.debug("createIndexes called");
+
+        SessionFactoryImplementor sessionFactory =
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        if (!SearchFunctionContributor.supportsNgramFullText(
+                sessionFactory.getJdbcServices().getDialect())) {
+            return;
+        }
+
+        for (FullTextIndex index : getFullTextIndexes()) {
+            Integer count =
+                    jdbcTemplate.queryForObject(
+                            INDEX_EXISTS_SQL, Integer.class, index.getTable(), index.getName());
+
+            if (count == null || count == 0) {
+                createIndex(index);
+            }
+        }
+    }
+
+    /**
+     * Creates an index, tolerating an index of the same name created concurrently by another node.
+     *
+     * @param index the index
+     * @throws DataAccessException if the index cannot be created for another reason
+     */
+    public void createIndex(FullTextIndex index) {
+        log.info("Creating full-text index {}", index.getName());
+
+        try {
+            jdbcTemplate.execute(index.toCreateSql());
+        } catch (DataAccessException ex) {
+            if (!(ex.getMostSpecificCause() instanceof SQLException sqlException)
+                    || sqlException.getErrorCode() != MYSQL_DUPLICATE_KEY_NAME) {
+                throw ex;
+            }
+
+            log.info("Full-text index {} was created by another node", index.getName());
+        }
+    }
+
+    /**
+     * Gets the full-text indexes of the searchable fields of all entities.
+     *
+     * @return the indexes
+     */
+    public List<FullTextIndex> getFullTextIndexes() {
+        log.debug("getFullTextIndexes called");
+
+        SessionFactoryImplementor sessionFactory =
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        List<FullTextIndex> indexes = new ArrayList<>();
+
+        for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+            AbstractEntityPersister persister =
+                    (AbstractEntityPersister)
+                            sessionFactory
+                                    .getMappingMetamodel()
+                                    .getEntityDescriptor(entityType.getJavaType());
+
+            for (Attribute<?, ?> attribute : entityType.getAttributes()) {
+                if (attribute.getJavaMember() instanceof Field field
+                        && field.isAnnotationPresent(Searchable.class)) {
+                    Normalized normalized = field.getAnnotation(Normalized.class);
+                    String property = normalized != null ? normalized.value() : field.getName();
+                    String table = persister.getPropertyTableName(property);
+                    String column = persister.getPropertyColumnNames(property)[0];
+
+                    indexes.add(new FullTextIndex("ft_" + table + "_" + column, table, column));
+                }
+            }
+        }
+
+        return indexes;
+    }
+
+    /** A FULLTEXT ngram index on a single column. */
+    @Value
+    public static class FullTextIndex {
+        String name;
+        String table;
+        String column;
+
+        /**
+         * Creates the DDL statement of the index.
+         *
+         * @return the DDL statement
+         */
+        public String toCreateSql() {
+            return "CREATE FULLTEXT INDEX "
+                    + name
+                    + " ON "
+                    + table
+                    + " ("
+                    + column
+                    + ") WITH PARSER ngram";
+        }
+    }
+}
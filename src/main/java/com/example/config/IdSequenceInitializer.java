@@ -0,0 +1,169 @@
+package com.example.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the id sequences past the ids already stored in their tables.
+ *
+ * <p>Ids used to be generated by IDENTITY columns, so an existing database has rows whose ids the
+ * freshly created sequences (or the tables emulating them on MySQL) know nothing about. Before the
+ * application serves requests, every sequence that would hand out a block overlapping the stored
+ * ids is moved past the highest one. Sequences are only ever moved forward: a physical sequence by
+ * drawing a single value with its increment temporarily widened to reach the target, rather than
+ * restarting it, which could move it back behind blocks drawn by another node in the meantime, and
+ * a table by an update conditioned on its current value. A value drawn by another node while the
+ * increment is widened only lands further ahead. Databases that cannot alter the increment of a
+ * sequence fall back to drawing values one block at a time. Sequences already ahead are left
+ * untouched, so this is a no-op on every later start and safe to run on several nodes at once.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String ALTER_SEQUENCE = "ALTER SEQUENCE ";
+    private static final String INCREMENT_BY = " INCREMENT BY ";
+
+    /** Aligns the sequences once all singletons are created, before the web server starts. */
+    @Override
+    public void afterSingletonsInstantiated() {
+        log.info("afterSingletonsInstantiated called");
+
+        alignSequences();
+    }
+
+    /** Moves every sequence with a next block overlapping the stored ids past the highest id. */
+    public void alignSequences() {
+        log.debug("alignSequences called");
+
+        SessionFactoryImplementor sessionFactory =
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        sessionFactory
+                .getMappingMetamodel()
+                .forEachEntityDescriptor(
+                        persister -> {
+                            if (persister.getGenerator()
+                                    instanceof SequenceStyleGenerator generator) {
+                                alignSequence(
+                                        sessionFactory,
+                                        persister,
+                                        generator.getDatabaseStructure());
+                            }
+                        });
+    }
+
+    /**
+     * Moves a sequence past the highest id of its table.
+     *
+     * @param sessionFactory the session factory
+     * @param persister the persister of the entity
+     * @param structure the sequence or the table emulating it
+     */
+    private void alignSequence(
+            SessionFactoryImplementor sessionFactory,
+            EntityPersister persister,
+            DatabaseStructure structure) {
+        AbstractEntityPersister entityPersister = (AbstractEntityPersister) persister;
+        String name =
+                sessionFactory.getSqlStringGenerationContext().format(structure.getPhysicalName());
+        Long maxId =
+                jdbcTemplate.queryForObject(
+                        "SELECT MAX("
+                                + entityPersister.getIdentifierColumnNames()[0]
+                                + ") FROM "
+                                + entityPersister.getTableName(),
+                        Long.class);
+
+        if (maxId == null) {
+            return;
+        }
+
+        // The pooled optimizer hands out the block below the value it reads
+        long target = maxId + structure.getIncrementSize() + 1;
+
+        if (structure.isPhysicalSequence()) {
+            String nextValueSql =
+                    sessionFactory
+                            .getJdbcServices()
+                            .getDialect()
+                            .getSequenceSupport()
+                            .getSequenceNextValString(name);
+            Long nextValue = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+
+            if (nextValue != null && nextValue < target) {
+                log.info("Moving sequence {} to {}", name, target);
+
+                nextValue =
+                        stepSequence(
+                                name,
+                                nextValueSql,
+                                target - nextValue,
+                                structure.getIncrementSize(),
+                                nextValue);
+
+                // Only still behind if the increment could not be altered
+                while (nextValue != null && nextValue < target) {
+                    nextValue = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+                }
+            }
+        } else {
+            int updated =
+                    jdbcTemplate.update(
+                            "UPDATE "
+                                    + name
+                                    + " SET "
+                                    + SequenceStyleGenerator.DEF_VALUE_COLUMN
+                                    + " = ? WHERE "
+                                    + SequenceStyleGenerator.DEF_VALUE_COLUMN
+                                    + " < ?",
+                            target,
+                            target);
+
+            if (updated > 0) {
+                log.info("Moved sequence table {} to {}", name, target);
+            }
+        }
+    }
+
+    /**
+     * Draws a single value from a sequence with its increment widened to a step, and restores the
+     * increment afterwards.
+     *
+     * @param name the name of the sequence
+     * @param nextValueSql the statement drawing the next value of the sequence
+     * @param step the step to draw the value with
+     * @param incrementSize the increment to restore
+     * @param nextValue the value drawn last
+     * @return the drawn value, or the value drawn last if the increment cannot be altered
+     */
+    private Long stepSequence(
+            String name, String nextValueSql, long step, int incrementSize, Long nextValue) {
+        try {
+            jdbcTemplate.execute(ALTER_SEQUENCE + name + INCREMENT_BY + step);
+        } catch (DataAccessException ex) {
+            log.info("Sequence {} cannot be altered, drawing its values instead", name);
+
+            return nextValue;
+        }
+
+        try {
+            return jdbcTemplate.queryForObject(nextValueSql, Long.class);
+        } finally {
+            jdbcTemplate.execute(ALTER_SEQUENCE + name + INCREMENT_BY + incrementSize);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.config;
+
+import com.example.base.repository.BaseRepositoryImpl;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/** Configuration class for Spring Data JPA */
+@Configuration
+@EnableConfigurationProperties({
+    PaginationProperties.class,
+    BulkProperties.class,
+    UsernameFilterProperties.class
+})
+@EnableJpaRepositories(basePackages = "com.example", repositoryBaseClass = BaseRepositoryImpl.class)
+public class JpaConfig {}
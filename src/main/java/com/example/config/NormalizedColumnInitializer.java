@@ -0,0 +1,91 @@
+package com.example.config;
+
+import com.example.annotation.Normalized;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Fills the lowercase shadow columns of {@link Normalized} fields that are still empty.
+ *
+ * <p>The shadow columns are only written by the entity callbacks and the bulk statements, so rows
+ * stored before a shadow column was added have no value in it and would never match a
+ * case-insensitive filter. The columns are therefore nullable, and before the application serves
+ * requests every row with an empty shadow column gets the lowercase value of its source column.
+ * Empty strings are filled too, as MySQL gives a column added as NOT NULL an empty string. Rows
+ * already filled are left untouched, so this is a no-op on every later start and safe to run on
+ * several nodes at once.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class NormalizedColumnInitializer implements SmartInitializingSingleton {
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Fills the shadow columns once all singletons are created, before the web server starts. */
+    @Override
+    public void afterSingletonsInstantiated() {
+        log.info("afterSingletonsInstantiated called");
+
+        fillShadowColumns();
+    }
+
+    /** Fills the empty shadow columns of every entity with {@link Normalized} fields. */
+    public void fillShadowColumns() {
+        log.debug("fillShadowColumns called");
+
+        entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .forEachEntityDescriptor(
+                        persister ->
+                                ReflectionUtils.doWithFields(
+                                        persister.getMappedClass(),
+                                        field ->
+                                                fillShadowColumn(
+                                                        (AbstractEntityPersister) persister,
+                                                        field.getName(),
+                                                        field.getAnnotation(Normalized.class)
+                                                                .value()),
+                                        field -> field.isAnnotationPresent(Normalized.class)));
+    }
+
+    /**
+     * Fills the empty shadow column of a field with the lowercase value of the field.
+     *
+     * @param persister the persister of the entity
+     * @param field the name of the normalized field
+     * @param shadowField the name of its shadow field
+     */
+    private void fillShadowColumn(
+            AbstractEntityPersister persister, String field, String shadowField) {
+        String column = persister.getPropertyColumnNames(field)[0];
+        String shadowColumn = persister.getPropertyColumnNames(shadowField)[0];
+        int updated =
+                jdbcTemplate.update(
+                        "UPDATE "
+                                + persister.getTableName()
+                                + " SET "
+                                + shadowColumn
+                                + " = LOWER("
+                                + column
+                                + ") WHERE ("
+                                + shadowColumn
+                                + " IS NULL OR "
+                                + shadowColumn
+                                + " = '') AND "
+                                + column
+                                + " <> ''");
+
+        if (updated > 0) {
+            log.info("Filled {} rows of {}.{}", updated, persister.getTableName(), shadowColumn);
+        }
+    }
+}
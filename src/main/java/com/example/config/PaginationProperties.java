@@ -0,0 +1,14 @@
+package com.example.config;
+
+import com.example.enums.CountStrategy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Configuration properties for paginated listings. */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pagination")
+public class PaginationProperties {
+    private CountStrategy countStrategy = CountStrategy.QUERY;
+}
@@ -0,0 +1,53 @@
+package com.example.config;
+
+import static com.example.constants.Constants.PASSWORD_HASHING_EXECUTOR;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/** Configuration class for the password hashing executor. */
+@Log4j2
+@Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
+public class PasswordHashingConfig {
+    /**
+     * Creates the executor that hashes passwords off the request threads.
+     *
+     * <p>The executor has one thread per core and a bounded queue, and rejects hashes right away
+     * once the queue is full, so a burst of password writes can neither take every core from the
+     * other requests nor pile up unbounded work. The executor is published as the {@code
+     * executor.*} metrics tagged with its name, including the queue depth ({@code
+     * executor.queued}), the time hashes wait in the queue ({@code executor.idle}) and the hash
+     * latency ({@code executor}).
+     *
+     * @param passwordHashingProperties the password hashing properties
+     * @param meterRegistry the meter registry
+     * @return the executor
+     */
+    @Bean(name = PASSWORD_HASHING_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService passwordHashingExecutor(
+            PasswordHashingProperties passwordHashingProperties, MeterRegistry meterRegistry) {
+        log.info("passwordHashingExecutor called");
+
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        passwordHashingProperties.getThreads(),
+                        passwordHashingProperties.getThreads(),
+                        0,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(passwordHashingProperties.getQueueCapacity()),
+                        new CustomizableThreadFactory(PASSWORD_HASHING_EXECUTOR + "-"),
+                        new ThreadPoolExecutor.AbortPolicy());
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, PASSWORD_HASHING_EXECUTOR);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.config;
+
+import static com.example.constants.Constants.BCRYPT_MAX_STRENGTH;
+import static com.example.constants.Constants.BCRYPT_MIN_STRENGTH;
+import static com.example.constants.Constants.STRENGTH_RANGE_MESSAGE;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for password hashing.
+ *
+ * <p>The strengths are validated when bound, so a strength BCrypt does not support, or a minimum
+ * above the maximum, fails the startup instead of the first hash.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    private Duration targetLatency = Duration.ofMillis(100);
+
+    @Min(BCRYPT_MIN_STRENGTH)
+    @Max(BCRYPT_MAX_STRENGTH)
+    private int minStrength = 10;
+
+    @Min(BCRYPT_MIN_STRENGTH)
+    @Max(BCRYPT_MAX_STRENGTH)
+    private int maxStrength = 16;
+
+    /**
+     * Checks that the minimum strength is not greater than the maximum strength.
+     *
+     * @return true if the strength range is valid, false otherwise
+     */
+    @AssertTrue(message = STRENGTH_RANGE_MESSAGE)
+    public boolean isStrengthRangeValid() {
+        return minStrength <= maxStrength;
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.config;
+
+import com.example.annotation.ResultCaches;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidates the result caches of an entity after every committed write of the entity.
+ *
+ * <p>Caches keyed by the entity id only lose the entries of the written ids, while all other result
+ * caches are cleared. This happens after the commit. A read that loaded the old state before the
+ * commit may still be running then, but the caches are {@link
+ * com.example.utils.cache.GenerationalCaffeineCache generational} and do not store a value whose
+ * load began before an eviction, so the old state cannot be put back. Between the commit and the
+ * eviction, reads may still be served the old state from the cache. Writes through bulk statements
+ * bypass the entity events and have to invalidate the caches themselves through {@link
+ * #evictAfterCommit(Class, Collection)}.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2")
+public class ResultCacheInvalidator
+        implements PostCommitInsertEventListener,
+                PostCommitUpdateEventListener,
+                PostCommitDeleteEventListener {
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+
+    private final Map<Class<?>, CacheNames> cacheNames = new ConcurrentHashMap<>();
+
+    /** Registers the listener for committed inserts, updates and deletes. */
+    @PostConstruct
+    public void register() {
+        log.debug("register called");
+
+        EventListenerRegistry registry =
+                entityManagerFactory
+                        .unwrap(SessionFactoryImplementor.class)
+                        .getServiceRegistry()
+                        .requireService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    /**
+     * Invalidates the result caches of entities written by bulk statements once the current
+     * transaction commits, or right away outside a transaction.
+     *
+     * @param entityClass the class of the written entities
+     * @param ids the ids of the written entities
+     */
+    public void evictAfterCommit(Class<?> entityClass, Collection<?> ids) {
+        log.debug("evictAfterCommit called");
+
+        List<?> writtenIds = List.copyOf(ids);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(entityClass, writtenIds);
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evict(entityClass, writtenIds);
+                    }
+                });
+    }
+
+    /**
+     * Invalidates the result caches of an entity after a committed write of one entity.
+     *
+     * @param persister the persister of the written entity
+     * @param id the id of the written entity
+     */
+    private void evict(EntityPersister persister, Object id) {
+        evict(persister.getMappedClass(), List.of(id));
+    }
+
+    /**
+     * Clears the result caches of an entity and evicts the written ids from its caches by id.
+     *
+     * @param entityClass the class of the written entities
+     * @param ids the ids of the written entities
+     */
+    private void evict(Class<?> entityClass, List<?> ids) {
+        log.debug("evict called");
+
+        CacheNames names = getCacheNames(entityClass);
+
+        for (String name : names.caches()) {
+            Cache cache = cacheManager.getCache(name);
+
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+
+        for (String name : names.byIdCaches()) {
+            Cache cache = cacheManager.getCache(name);
+
+            if (cache != null) {
+                ids.forEach(cache::evict);
+            }
+        }
+    }
+
+    /**
+     * Gets the result caches of an entity.
+     *
+     * @param entityClass the class of the entity
+     * @return the cache names, empty if the entity has no result caches
+     */
+    private CacheNames getCacheNames(Class<?> entityClass) {
+        return cacheNames.computeIfAbsent(
+                entityClass,
+                mappedClass -> {
+                    ResultCaches resultCaches = mappedClass.getAnnotation(ResultCaches.class);
+
+                    return resultCaches != null
+                            ? new CacheNames(
+                                    List.of(resultCaches.value()), List.of(resultCaches.byId()))
+                            : new CacheNames(List.of(), List.of());
+                });
+    }
+
+    /**
+     * Checks if committed writes of an entity must be handled.
+     *
+     * @param persister the persister of the entity
+     * @return true if the entity has result caches, false otherwise
+     */
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        CacheNames names = getCacheNames(persister.getMappedClass());
+
+        return !names.caches().isEmpty() || !names.byIdCaches().isEmpty();
+    }
+
+    /**
+     * Invalidates the result caches after a committed insert.
+     *
+     * @param event the insert event
+     */
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        evict(event.getPersister(), event.getId());
+    }
+
+    /**
+     * Keeps the result caches after a failed insert, as nothing was written.
+     *
+     * @param event the insert event
+     */
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {}
+
+    /**
+     * Invalidates the result caches after a committed update.
+     *
+     * @param event the update event
+     */
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        evict(event.getPersister(), event.getId());
+    }
+
+    /**
+     * Keeps the result caches after a failed update, as nothing was written.
+     *
+     * @param event the update event
+     */
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {}
+
+    /**
+     * Invalidates the result caches after a committed delete.
+     *
+     * @param event the delete event
+     */
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        evict(event.getPersister(), event.getId());
+    }
+
+    /**
+     * Keeps the result caches after a failed delete, as nothing was written.
+     *
+     * @param event the delete event
+     */
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {}
+
+    /**
+     * The result caches of an entity.
+     *
+     * @param caches the caches cleared on every write
+     * @param byIdCaches the caches keyed by the entity id, evicted by the written ids
+     */
+    private record CacheNames(List<String> caches, List<String> byIdCaches) {}
+}
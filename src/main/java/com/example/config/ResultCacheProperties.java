@@ -0,0 +1,24 @@
+package com.example.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Configuration properties for the service result caches, by cache name. */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "result-cache")
+public class ResultCacheProperties {
+    private Map<String, Spec> caches = new HashMap<>();
+
+    /** Size and lifetime limits of one result cache. */
+    @Getter
+    @Setter
+    public static class Spec {
+        private long maximumSize = 1_000;
+        private Duration timeToLive = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the {@code ngram_match(column, term)} function used by substring filters.
+ *
+ * <p>On MySQL it renders a boolean mode phrase search against the FULLTEXT ngram index of the
+ * column, which matches every row containing the term. Other databases fall back to {@code LOCATE},
+ * which gives the same results without an index.
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+    public static final String NGRAM_MATCH = "ngram_match";
+
+    private static final String MYSQL_PATTERN =
+            "match(?1) against(concat('\"', ?2, '\"') in boolean mode)";
+    private static final String FALLBACK_PATTERN = "locate(?2, lower(?1))";
+
+    /**
+     * Registers the functions.
+     *
+     * @param functionContributions the function contributions
+     */
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions
+                .getFunctionRegistry()
+                .registerPattern(
+                        NGRAM_MATCH,
+                        supportsNgramFullText(functionContributions.getDialect())
+                                ? MYSQL_PATTERN
+                                : FALLBACK_PATTERN,
+                        functionContributions
+                                .getTypeConfiguration()
+                                .getBasicTypeRegistry()
+                                .resolve(StandardBasicTypes.DOUBLE));
+    }
+
+    /**
+     * Checks if a database supports FULLTEXT indexes with the ngram parser.
+     *
+     * @param dialect the dialect of the database
+     * @return true if the database is MySQL, false otherwise
+     */
+    public static boolean supportsNgramFullText(Dialect dialect) {
+        return dialect instanceof MySQLDialect && !(dialect instanceof MariaDBDialect);
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.config;
 
+import static com.example.constants.Constants.BCRYPT_ENCODING;
+
+import java.util.Map;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,6 +10,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -35,12 +39,28 @@ public class SecurityConfig {
     /**
      * Creates a password encoder bean.
      *
+     * <p>The BCrypt strength is calibrated to the target latency of this machine. Hashes are stored
+     * with the id of their algorithm, and BCrypt hashes also carry their strength, so hashes from
+     * other machines or older releases keep matching. Hashes stored before the ids were added are
+     * matched as BCrypt. Such hashes, and hashes of a lower strength, report {@link
+     * PasswordEncoder#upgradeEncoding(String)}, and a password is hashed again with the current
+     * settings when it is next set.
+     *
+     * @param passwordHashingProperties the password hashing properties
      * @return the password encoder bean
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
         log.info("passwordEncoder called");
 
-        return new BCryptPasswordEncoder();
+        BCryptPasswordEncoder bcrypt =
+                new BCryptPasswordEncoder(
+                        new BCryptStrengthCalibrator(passwordHashingProperties).calibrate());
+        DelegatingPasswordEncoder encoder =
+                new DelegatingPasswordEncoder(BCRYPT_ENCODING, Map.of(BCRYPT_ENCODING, bcrypt));
+
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return encoder;
     }
 }
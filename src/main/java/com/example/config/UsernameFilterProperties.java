@@ -0,0 +1,14 @@
+package com.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Configuration properties for the Bloom filter of existing usernames. */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "username-filter")
+public class UsernameFilterProperties {
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveProbability = 0.01;
+}
@@ -6,11 +6,15 @@ public class Constants {
 
     public static final String GET = "/get";
     public static final String BY_ID = "/{id}";
+    public static final String BATCH = "/batch";
+    public static final String DELETE = "/delete";
+    public static final String UPDATE = "/update";
 
     public static final String DEFAULT_PAGE = "0";
     public static final String DEFAULT_LIMIT = "10";
     public static final String DEFAULT_ORDER_BY = "id";
     public static final String DEFAULT_ORDER_DIRECTION = "asc";
+    public static final String DEFAULT_PAGINATION_MODE = "PAGE";
 
     public static final String INVALID_PASSWORD_MESSAGE = "Invalid password";
     public static final String PASSWORD_MIN_LENGTH_MESSAGE =
@@ -29,6 +33,7 @@ public class Constants {
             "Username must be between 3 and 20 characters";
     public static final int USERNAME_MIN_LENGTH = 3;
     public static final int USERNAME_MAX_LENGTH = 20;
+    public static final String UK_USERS_USERNAME = "uk_users_username";
 
     public static final String DETAILS_REQUIRED_MESSAGE = "Details are required";
 
@@ -43,4 +48,41 @@ public class Constants {
             "Last Name must be between 3 and 20 characters";
     public static final int LAST_NAME_MIN_LENGTH = 3;
     public static final int LAST_NAME_MAX_LENGTH = 20;
+
+    public static final String BATCH_USERS_REQUIRED_MESSAGE = "Users are required";
+    public static final String BATCH_USERS_SIZE_MESSAGE = "A batch must contain at most 1000 users";
+    public static final int BATCH_MAX_SIZE = 1000;
+
+    public static final String BULK_FILTERS_REQUIRED_MESSAGE = "Filters are required";
+    public static final String BULK_DETAILS_REQUIRED_MESSAGE = "Details are required";
+
+    public static final String USERS_CACHE = "users";
+    public static final String USERS_BY_ID_CACHE = "users-by-id";
+    public static final String FILTER_KEY_GENERATOR = "filterKeyGenerator";
+
+    /** Second-level cache regions, configured in hibernate-cache.conf. */
+    public static final String USER_REGION = "user";
+
+    public static final String USER_BY_USERNAME_REGION = "user-by-username";
+    public static final String USER_DETAILS_REGION = "user-details";
+
+    /** Id sequences, reserving blocks of ids for the pooled optimizer. */
+    public static final String USERS_SEQUENCE = "users_seq";
+
+    public static final String USER_DETAILS_SEQUENCE = "user_details_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    public static final String PASSWORD_HASHING_EXECUTOR = "password-hashing";
+    public static final String PASSWORD_HASHING_REJECTED_METRIC = "password.hashing.rejected";
+    public static final String RETRY_AFTER_SECONDS = "1";
+    public static final String BCRYPT_ENCODING = "bcrypt";
+    public static final int BCRYPT_MIN_STRENGTH = 4;
+    public static final int BCRYPT_MAX_STRENGTH = 31;
+    public static final String STRENGTH_RANGE_MESSAGE =
+            "Minimum strength must not be greater than the maximum strength";
+
+    /** Results read inside a transaction may include its uncommitted writes, so are not cached. */
+    public static final String OUTSIDE_TRANSACTION =
+            "!T(org.springframework.transaction.support.TransactionSynchronizationManager)"
+                    + ".isActualTransactionActive()";
 }
@@ -1,9 +1,28 @@
 package com.example.domain.user.controller;
 
 import com.example.base.controller.IBaseController;
+import com.example.domain.user.dto.request.UserBatchCreateRequestDTO;
+import com.example.domain.user.dto.request.UserBulkUpdateRequestDTO;
 import com.example.domain.user.dto.request.UserCreateRequestDTO;
 import com.example.domain.user.dto.request.UserUpdateRequestDTO;
+import org.springframework.http.ResponseEntity;
 
 /** Controller interface for user controller. */
 public interface IUserController
-        extends IBaseController<UserCreateRequestDTO, UserUpdateRequestDTO> {}
+        extends IBaseController<UserCreateRequestDTO, UserUpdateRequestDTO> {
+    /**
+     * Creates a batch of users.
+     *
+     * @param userBatchCreateRequestDTO the DTO containing the users' details
+     * @return the response entity
+     */
+    ResponseEntity<?> createBatch(UserBatchCreateRequestDTO userBatchCreateRequestDTO);
+
+    /**
+     * Updates the details of the users matching a filter.
+     *
+     * @param userBulkUpdateRequestDTO the DTO containing the filter and the details to change
+     * @return the response entity
+     */
+    ResponseEntity<?> updateDetails(UserBulkUpdateRequestDTO userBulkUpdateRequestDTO);
+}
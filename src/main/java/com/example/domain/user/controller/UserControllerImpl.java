@@ -1,20 +1,30 @@
 package com.example.domain.user.controller;
 
 import static com.example.constants.Constants.*;
+import static com.example.domain.user.service.UserServiceImpl.ERROR_USER_PRECONDITION_FAILED;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 import static org.springframework.http.HttpStatus.CREATED;
 
 import com.example.base.dto.response.BaseResponseDTO;
+import com.example.domain.user.dto.request.UserBatchCreateRequestDTO;
+import com.example.domain.user.dto.request.UserBulkUpdateRequestDTO;
 import com.example.domain.user.dto.request.UserCreateRequestDTO;
 import com.example.domain.user.dto.request.UserUpdateRequestDTO;
+import com.example.domain.user.dto.response.UserResponseDTO;
 import com.example.domain.user.service.IUserService;
+import com.example.enums.PaginationMode;
+import com.example.exception.PreconditionFailedException;
 import com.example.utils.dto.request.FilteringDTO;
+import com.example.utils.dto.response.BulkResponseDTO;
 import com.example.utils.dto.response.SuccessResponseDTO;
 import com.example.utils.service.IMessageService;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ETag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,6 +42,11 @@ public class UserControllerImpl implements IUserController {
     public static final String SUCCESS_USER_UPDATED = "success.user.updated";
     public static final String SUCCESS_USER_DELETED = "success.user.deleted";
     public static final String SUCCESS_USER_GET = "success.user.get";
+    public static final String SUCCESS_USER_BULK_UPDATED = "success.user.bulk_updated";
+    public static final String SUCCESS_USER_BULK_DELETED = "success.user.bulk_deleted";
+    public static final String SUCCESS_USER_BULK_DELETE_DRY_RUN =
+            "success.user.bulk_delete_dry_run";
+    public static final String SUCCESS_USER_BATCH_PROCESSED = "success.user.batch_processed";
 
     /**
      * Creates a new user.
@@ -44,11 +59,61 @@ public class UserControllerImpl implements IUserController {
     public ResponseEntity<?> create(@Valid @RequestBody UserCreateRequestDTO userCreateRequestDTO) {
         log.info("create called");
 
+        UserResponseDTO user = userService.create(userCreateRequestDTO);
+
         return ResponseEntity.status(CREATED)
+                .eTag(buildETag(user))
                 .body(
                         SuccessResponseDTO.builder()
                                 .message(messageService.getMessage(SUCCESS_USER_CREATED))
-                                .data(userService.create(userCreateRequestDTO))
+                                .data(user)
+                                .build());
+    }
+
+    /**
+     * Creates a batch of users.
+     *
+     * <p>Users with a taken username are reported in the per-user results instead of failing the
+     * batch.
+     *
+     * @param userBatchCreateRequestDTO the DTO containing the users' details
+     * @return the response entity
+     */
+    @Override
+    @PostMapping(BATCH)
+    public ResponseEntity<?> createBatch(
+            @Valid @RequestBody UserBatchCreateRequestDTO userBatchCreateRequestDTO) {
+        log.info("createBatch called");
+
+        return ResponseEntity.ok(
+                SuccessResponseDTO.builder()
+                        .message(messageService.getMessage(SUCCESS_USER_BATCH_PROCESSED))
+                        .data(userService.createBatch(userBatchCreateRequestDTO.getUsers()))
+                        .build());
+    }
+
+    /**
+     * Gets a user by ID.
+     *
+     * <p>The response carries a strong ETag, so a request whose {@code If-None-Match} header
+     * matches it is answered with 304 Not Modified and no body.
+     *
+     * @param id the id of the user to get
+     * @return the response entity
+     */
+    @Override
+    @GetMapping(BY_ID)
+    public ResponseEntity<?> get(@PathVariable Long id) {
+        log.info("get called");
+
+        UserResponseDTO user = userService.get(id);
+
+        return ResponseEntity.ok()
+                .eTag(buildETag(user))
+                .body(
+                        SuccessResponseDTO.builder()
+                                .message(messageService.getMessage(SUCCESS_USER_GET))
+                                .data(user)
                                 .build());
     }
 
@@ -59,6 +124,8 @@ public class UserControllerImpl implements IUserController {
      * @param limit the number of users per page
      * @param orderBy the field to order by
      * @param orderDirection the direction to order by
+     * @param pagination the pagination mode
+     * @param cursor the cursor of the previous page in cursor mode
      * @param filteringDTOList the search parameters
      * @return the response entity
      */
@@ -70,54 +137,196 @@ public class UserControllerImpl implements IUserController {
             @RequestParam(required = false, defaultValue = DEFAULT_ORDER_BY) String orderBy,
             @RequestParam(required = false, defaultValue = DEFAULT_ORDER_DIRECTION)
                     String orderDirection,
+            @RequestParam(required = false, defaultValue = DEFAULT_PAGINATION_MODE)
+                    PaginationMode pagination,
+            @RequestParam(required = false) String cursor,
             @RequestBody(required = false) List<FilteringDTO> filteringDTOList) {
         log.info("get called");
 
+        Object data =
+                switch (pagination) {
+                    case PAGE -> userService.get(
+                            page, limit, orderBy, orderDirection, filteringDTOList);
+                    case SLICE -> userService.getSlice(
+                            page, limit, orderBy, orderDirection, filteringDTOList);
+                    case CURSOR -> userService.getByCursor(
+                            cursor, limit, orderBy, orderDirection, filteringDTOList);
+                };
+
         return ResponseEntity.ok(
                 SuccessResponseDTO.builder()
                         .message(messageService.getMessage(SUCCESS_USER_GET))
-                        .data(
-                                userService.get(
-                                        page, limit, orderBy, orderDirection, filteringDTOList))
+                        .data(data)
                         .build());
     }
 
     /**
      * Updates an existing user.
      *
+     * <p>With an {@code If-Match} header the user is only updated if it still has the version of
+     * one of the given ETags, otherwise the request fails with 412 Precondition Failed.
+     *
      * @param id the id of the user to update
+     * @param ifMatch the ETags one of which the user must still have, or null to update any version
      * @param userUpdateRequestDTO the DTO containing the user's details
      * @return the response entity
      */
     @Override
     @PatchMapping(BY_ID)
     public ResponseEntity<?> update(
-            @PathVariable Long id, @Valid @RequestBody UserUpdateRequestDTO userUpdateRequestDTO) {
+            @PathVariable Long id,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody UserUpdateRequestDTO userUpdateRequestDTO) {
         log.info("update called");
 
+        UserResponseDTO user =
+                userService.update(id, userUpdateRequestDTO, parseIfMatch(id, ifMatch));
+
+        return ResponseEntity.ok()
+                .eTag(buildETag(user))
+                .body(
+                        SuccessResponseDTO.builder()
+                                .message(messageService.getMessage(SUCCESS_USER_UPDATED))
+                                .data(user)
+                                .build());
+    }
+
+    /**
+     * Updates the details of the users matching a filter.
+     *
+     * @param userBulkUpdateRequestDTO the DTO containing the filter and the details to change
+     * @return the response entity
+     */
+    @Override
+    @PostMapping(UPDATE)
+    public ResponseEntity<?> updateDetails(
+            @Valid @RequestBody UserBulkUpdateRequestDTO userBulkUpdateRequestDTO) {
+        log.info("updateDetails called");
+
+        long count =
+                userService.updateDetails(
+                        userBulkUpdateRequestDTO.getFilters(),
+                        userBulkUpdateRequestDTO.getDetails());
+
         return ResponseEntity.ok(
                 SuccessResponseDTO.builder()
-                        .message(messageService.getMessage(SUCCESS_USER_UPDATED))
-                        .data(userService.update(id, userUpdateRequestDTO))
+                        .message(messageService.getMessage(SUCCESS_USER_BULK_UPDATED))
+                        .data(BulkResponseDTO.builder().count(count).build())
                         .build());
     }
 
     /**
      * Deletes a user.
      *
+     * <p>With an {@code If-Match} header the user is only deleted if it still has the version of
+     * one of the given ETags, otherwise the request fails with 412 Precondition Failed.
+     *
      * @param id the id of the user to delete
+     * @param ifMatch the ETags one of which the user must still have, or null to delete any version
      * @return the response entity
      */
     @Override
     @DeleteMapping(BY_ID)
-    public ResponseEntity<?> delete(@PathVariable Long id) {
+    public ResponseEntity<?> delete(
+            @PathVariable Long id,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch) {
         log.info("delete called");
 
-        userService.delete(id);
+        userService.delete(id, parseIfMatch(id, ifMatch));
 
         return ResponseEntity.ok(
                 BaseResponseDTO.builder()
                         .message(messageService.getMessage(SUCCESS_USER_DELETED))
                         .build());
     }
+
+    /**
+     * Deletes the users matching a filter.
+     *
+     * <p>A dry run only counts the users the filter matches, regardless of the bulk limit.
+     *
+     * @param dryRun true to only count the matching users
+     * @param filteringDTOList the search parameters
+     * @return the response entity
+     */
+    @Override
+    @PostMapping(DELETE)
+    public ResponseEntity<?> delete(
+            @RequestParam(required = false, defaultValue = "false") boolean dryRun,
+            @RequestBody(required = false) List<FilteringDTO> filteringDTOList) {
+        log.info("delete called");
+
+        long count = userService.delete(filteringDTOList, dryRun);
+
+        return ResponseEntity.ok(
+                SuccessResponseDTO.builder()
+                        .message(
+                                messageService.getMessage(
+                                        dryRun
+                                                ? SUCCESS_USER_BULK_DELETE_DRY_RUN
+                                                : SUCCESS_USER_BULK_DELETED))
+                        .data(BulkResponseDTO.builder().count(count).dryRun(dryRun).build())
+                        .build());
+    }
+
+    /**
+     * Builds the ETag of a user.
+     *
+     * <p>The version of the user moves with every write of the user or its details, so it tags the
+     * whole response.
+     *
+     * @param user the user
+     * @return the ETag value
+     */
+    private static String buildETag(UserResponseDTO user) {
+        log.debug("buildETag called");
+
+        return user.getId() + "-" + user.getVersion();
+    }
+
+    /**
+     * Parses the versions a conditional request expects from its {@code If-Match} header.
+     *
+     * <p>The header may list several tags, and the request may proceed if any of them matches. Weak
+     * tags match like the strong tags the ETags of users are sent as. Malformed and foreign tags
+     * can never match, so a header with no other tags fails the precondition.
+     *
+     * @param id the id of the user
+     * @param ifMatch the header value, or null if the header is missing
+     * @return the expected versions, or null if any version matches
+     * @throws PreconditionFailedException if no tag can match any version of the user
+     */
+    private List<Long> parseIfMatch(Long id, String ifMatch) {
+        log.debug("parseIfMatch called");
+
+        if (ifMatch == null) {
+            return null;
+        }
+
+        String prefix = id + "-";
+        List<Long> versions = new ArrayList<>();
+
+        for (ETag eTag : ETag.parse(ifMatch)) {
+            if (eTag.isWildcard()) {
+                return null;
+            }
+
+            String tag = eTag.tag();
+
+            if (tag.length() > prefix.length() && tag.startsWith(prefix)) {
+                try {
+                    versions.add(Long.valueOf(tag.substring(prefix.length())));
+                } catch (NumberFormatException ex) {
+                    log.debug("Malformed If-Match tag: {}", eTag);
+                }
+            }
+        }
+
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException(
+                    messageService.getMessage(ERROR_USER_PRECONDITION_FAILED));
+        }
+
+        return versions;
+    }
 }
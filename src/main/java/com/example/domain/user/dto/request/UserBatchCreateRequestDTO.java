@@ -0,0 +1,27 @@
+package com.example.domain.user.dto.request;
+
+import static com.example.constants.Constants.*;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** DTO class for user batch create request. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class UserBatchCreateRequestDTO {
+    @NotEmpty(message = BATCH_USERS_REQUIRED_MESSAGE)
+    @Size(max = BATCH_MAX_SIZE, message = BATCH_USERS_SIZE_MESSAGE)
+    private List<@Valid UserCreateRequestDTO> users;
+}
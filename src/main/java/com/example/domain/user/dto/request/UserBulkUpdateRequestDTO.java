@@ -0,0 +1,31 @@
+package com.example.domain.user.dto.request;
+
+import static com.example.constants.Constants.*;
+
+import com.example.utils.dto.request.FilteringDTO;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** DTO class for user bulk update request. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class UserBulkUpdateRequestDTO {
+    @NotEmpty(message = BULK_FILTERS_REQUIRED_MESSAGE)
+    private List<FilteringDTO> filters;
+
+    @NotNull(message = BULK_DETAILS_REQUIRED_MESSAGE)
+    @Valid
+    private UserDetailsPatchRequestDTO details;
+}
@@ -0,0 +1,23 @@
+package com.example.domain.user.dto.request;
+
+import static com.example.constants.Constants.*;
+
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/** DTO class for a partial change of user details, where null fields are left unchanged. */
+@Getter
+@Builder
+@Jacksonized
+public class UserDetailsPatchRequestDTO {
+    @Size(
+            min = FIRST_NAME_MIN_LENGTH,
+            max = FIRST_NAME_MAX_LENGTH,
+            message = FIRST_NAME_SIZE_MESSAGE)
+    private String firstName;
+
+    @Size(min = LAST_NAME_MIN_LENGTH, max = LAST_NAME_MAX_LENGTH, message = LAST_NAME_SIZE_MESSAGE)
+    private String lastName;
+}
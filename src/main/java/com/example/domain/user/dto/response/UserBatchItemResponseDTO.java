@@ -0,0 +1,17 @@
+package com.example.domain.user.dto.response;
+
+import com.example.enums.BatchItemStatus;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/** DTO class for the result of one user of a batch create request. */
+@Getter
+@Builder
+@EqualsAndHashCode
+public class UserBatchItemResponseDTO {
+    private int index;
+    private BatchItemStatus status;
+    private String message;
+    private UserResponseDTO user;
+}
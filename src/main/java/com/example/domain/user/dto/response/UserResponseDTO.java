@@ -16,5 +16,6 @@ public class UserResponseDTO {
     private Instant updatedAt;
     private String createdBy;
     private String updatedBy;
+    private Long version;
     private UserDetailsResponseDTO details;
 }
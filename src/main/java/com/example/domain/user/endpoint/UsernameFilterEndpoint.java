@@ -0,0 +1,27 @@
+package com.example.domain.user.endpoint;
+
+import com.example.domain.user.service.IUsernameFilterService;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/** Actuator endpoint for rebuilding the username filter on demand. */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "usernamefilter")
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2")
+public class UsernameFilterEndpoint {
+    private final IUsernameFilterService usernameFilterService;
+
+    /** Rebuilds the username filter, dropping the usernames of deleted users. */
+    @WriteOperation
+    public void rebuild() {
+        log.info("rebuild called");
+
+        usernameFilterService.rebuild();
+    }
+}
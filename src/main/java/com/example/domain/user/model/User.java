@@ -1,10 +1,20 @@
 package com.example.domain.user.model;
 
+import static com.example.constants.Constants.ID_ALLOCATION_SIZE;
+import static com.example.constants.Constants.UK_USERS_USERNAME;
 import static com.example.constants.Constants.USERNAME_MAX_LENGTH;
 import static com.example.constants.Constants.USERNAME_MIN_LENGTH;
+import static com.example.constants.Constants.USERS_BY_ID_CACHE;
+import static com.example.constants.Constants.USERS_CACHE;
+import static com.example.constants.Constants.USERS_SEQUENCE;
+import static com.example.constants.Constants.USER_BY_USERNAME_REGION;
+import static com.example.constants.Constants.USER_REGION;
 import static jakarta.persistence.CascadeType.ALL;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
+import com.example.annotation.Normalized;
+import com.example.annotation.ResultCaches;
+import com.example.annotation.Searchable;
 import com.example.base.model.BaseEntity;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jakarta.persistence.*;
@@ -12,10 +22,22 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 /** Entity class for users. */
 @Entity
-@Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = USER_REGION)
+@NaturalIdCache(region = USER_BY_USERNAME_REGION)
+@ResultCaches(value = USERS_CACHE, byId = USERS_BY_ID_CACHE)
+@Table(
+        name = "users",
+        uniqueConstraints = @UniqueConstraint(name = UK_USERS_USERNAME, columnNames = "username"),
+        indexes = @Index(name = "idx_users_username_normalized", columnList = "usernameNormalized"))
 @Getter
 @Setter
 @EqualsAndHashCode(callSuper = true)
@@ -24,14 +46,24 @@ import lombok.experimental.SuperBuilder;
 @SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
 public class User extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = USERS_SEQUENCE)
+    @SequenceGenerator(
+            name = USERS_SEQUENCE,
+            sequenceName = USERS_SEQUENCE,
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull
     @Size(min = USERNAME_MIN_LENGTH, max = USERNAME_MAX_LENGTH)
-    @Column(nullable = false, unique = true)
+    @NaturalId(mutable = true)
+    @Column(nullable = false)
+    @Normalized("usernameNormalized")
+    @Searchable
     private String username;
 
+    @Setter(AccessLevel.NONE)
+    private String usernameNormalized;
+
     @NotNull
     @Column(nullable = false)
     private String password;
@@ -39,5 +71,13 @@ public class User extends BaseEntity {
     @NotNull
     @OneToOne(cascade = ALL)
     @JoinColumn(name = "detailsId", referencedColumnName = "id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private UserDetails details;
+
+    /** Keeps the normalized shadow fields in sync before the user is written. */
+    @PrePersist
+    @PreUpdate
+    void normalize() {
+        usernameNormalized = toLowerCase(username);
+    }
 }
@@ -1,21 +1,42 @@
 package com.example.domain.user.model;
 
 import static com.example.constants.Constants.*;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
+import com.example.annotation.Normalized;
+import com.example.annotation.ResultCaches;
+import com.example.annotation.Searchable;
 import com.example.base.model.BaseEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
-/** Entity class for user details */
+/**
+ * Entity class for user details
+ *
+ * <p>The details are only written together with their user, which evicts the cached user by id.
+ */
 @Entity
-@Table(name = "user_details")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = USER_DETAILS_REGION)
+@ResultCaches(USERS_CACHE)
+@Table(
+        name = "user_details",
+        indexes = {
+            @Index(
+                    name = "idx_user_details_first_name_normalized",
+                    columnList = "firstNameNormalized"),
+            @Index(
+                    name = "idx_user_details_last_name_normalized",
+                    columnList = "lastNameNormalized")
+        })
 @Getter
 @Setter
 @EqualsAndHashCode(callSuper = true)
@@ -23,16 +44,38 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 public class UserDetails extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = USER_DETAILS_SEQUENCE)
+    @SequenceGenerator(
+            name = USER_DETAILS_SEQUENCE,
+            sequenceName = USER_DETAILS_SEQUENCE,
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull
     @Size(min = FIRST_NAME_MIN_LENGTH, max = FIRST_NAME_MAX_LENGTH)
     @Column(nullable = false)
+    @Normalized("firstNameNormalized")
+    @Searchable
     private String firstName;
 
+    @Setter(AccessLevel.NONE)
+    private String firstNameNormalized;
+
     @NotNull
     @Size(min = LAST_NAME_MIN_LENGTH, max = LAST_NAME_MAX_LENGTH)
     @Column(nullable = false)
+    @Normalized("lastNameNormalized")
+    @Searchable
     private String lastName;
+
+    @Setter(AccessLevel.NONE)
+    private String lastNameNormalized;
+
+    /** Keeps the normalized shadow fields in sync before the details are written. */
+    @PrePersist
+    @PreUpdate
+    void normalize() {
+        firstNameNormalized = toLowerCase(firstName);
+        lastNameNormalized = toLowerCase(lastName);
+    }
 }
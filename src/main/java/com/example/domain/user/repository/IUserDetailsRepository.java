@@ -0,0 +1,9 @@
+package com.example.domain.user.repository;
+
+import com.example.base.repository.IBaseRepository;
+import com.example.domain.user.model.UserDetails;
+import org.springframework.stereotype.Repository;
+
+/** Repository interface for user details-related operations. */
+@Repository
+public interface IUserDetailsRepository extends IBaseRepository<UserDetails, Long> {}
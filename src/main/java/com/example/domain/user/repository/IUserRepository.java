@@ -1,18 +1,47 @@
 package com.example.domain.user.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+import com.example.base.repository.IBaseRepository;
 import com.example.domain.user.model.User;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /** Repository interface for user-related operations. */
 @Repository
-public interface IUserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+public interface IUserRepository extends IBaseRepository<User, Long> {
+    /**
+     * Finds which of the given usernames are taken.
+     *
+     * @param usernames the usernames to check
+     * @return the usernames of the existing users matching any of the given usernames
+     */
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findUsernames(@Param("usernames") Collection<String> usernames);
+
     /**
-     * Checks if a user with the given username exists.
+     * Finds the ids of the details of the given users.
+     *
+     * @param ids the ids of the users
+     * @return the ids of their details
+     */
+    @Query("select u.details.id from User u where u.id in :ids")
+    List<Long> findDetailsIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Streams the usernames of all users without loading the entities.
+     *
+     * <p>The stream must be closed and consumed inside a transaction.
      *
-     * @param username the username to check
-     * @return true if a user with the given username exists, false otherwise
+     * @return the usernames
      */
-    boolean existsByUsername(String username);
+    @Query("select u.username from User u")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamUsernames();
 }
@@ -0,0 +1,91 @@
+package com.example.domain.user.repository;
+
+import com.example.base.repository.ITupleProjection;
+import com.example.domain.user.dto.response.UserDetailsResponseDTO;
+import com.example.domain.user.dto.response.UserResponseDTO;
+import com.example.domain.user.model.User;
+import com.example.utils.criteria.JoinRegistry;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+/**
+ * Projection of users onto the columns of {@link UserResponseDTO}.
+ *
+ * <p>Only the returned columns are read, so the password hash is never selected and no managed
+ * entities are created.
+ */
+@Log4j2
+@Component
+public class UserResponseProjection implements ITupleProjection<User, UserResponseDTO> {
+    private static final String[] USER_FIELDS = {
+        "id", "username", "createdAt", "updatedAt", "createdBy", "updatedBy", "version"
+    };
+    private static final String[] DETAILS_FIELDS = {
+        "id", "firstName", "lastName", "createdAt", "updatedAt", "createdBy", "updatedBy"
+    };
+    private static final String DETAILS = "details";
+    private static final int DETAILS_OFFSET = USER_FIELDS.length;
+
+    /**
+     * Selects the columns of the user and its details.
+     *
+     * @param root the root of the query
+     * @param criteriaBuilder the criteria builder
+     * @return the selections
+     */
+    @Override
+    public List<Selection<?>> select(Root<User> root, CriteriaBuilder criteriaBuilder) {
+        log.debug("select called");
+
+        // The join is shared with filters and sort keys on details.* of the same query.
+        JoinRegistry joins = new JoinRegistry(root);
+        Selection<?>[] selections = new Selection<?>[USER_FIELDS.length + DETAILS_FIELDS.length];
+
+        for (int i = 0; i < USER_FIELDS.length; i++) {
+            selections[i] = root.get(USER_FIELDS[i]);
+        }
+
+        for (int i = 0; i < DETAILS_FIELDS.length; i++) {
+            selections[DETAILS_OFFSET + i] = joins.get(DETAILS, DETAILS_FIELDS[i]);
+        }
+
+        return List.of(selections);
+    }
+
+    /**
+     * Maps a row to a user response DTO.
+     *
+     * @param tuple the row
+     * @return the user response DTO
+     */
+    @Override
+    public UserResponseDTO map(Tuple tuple) {
+        log.debug("map called");
+
+        return UserResponseDTO.builder()
+                .id(tuple.get(0, Long.class))
+                .username(tuple.get(1, String.class))
+                .createdAt(tuple.get(2, Instant.class))
+                .updatedAt(tuple.get(3, Instant.class))
+                .createdBy(tuple.get(4, String.class))
+                .updatedBy(tuple.get(5, String.class))
+                .version(tuple.get(6, Long.class))
+                .details(
+                        UserDetailsResponseDTO.builder()
+                                .id(tuple.get(DETAILS_OFFSET, Long.class))
+                                .firstName(tuple.get(DETAILS_OFFSET + 1, String.class))
+                                .lastName(tuple.get(DETAILS_OFFSET + 2, String.class))
+                                .createdAt(tuple.get(DETAILS_OFFSET + 3, Instant.class))
+                                .updatedAt(tuple.get(DETAILS_OFFSET + 4, Instant.class))
+                                .createdBy(tuple.get(DETAILS_OFFSET + 5, String.class))
+                                .updatedBy(tuple.get(DETAILS_OFFSET + 6, String.class))
+                                .build())
+                .build();
+    }
+}
@@ -1,24 +1,15 @@
 package com.example.domain.user.service;
 
-import com.example.domain.user.dto.request.UserDetailsRequestDTO;
-import com.example.domain.user.model.UserDetails;
+import java.util.Map;
 
 /** Service interface for user details service. */
 public interface IUserDetailsService {
     /**
-     * Updates user details.
+     * Builds the values of a user details update.
      *
-     * @param userDetails the user details to update
-     * @param userDetailsRequestDTO the DTO containing the user's details
-     * @return true if the user details are updated, false otherwise
+     * @param firstName the new first name, or null to leave it unchanged
+     * @param lastName the new last name, or null to leave it unchanged
+     * @return the new values by attribute name, empty if nothing is changed
      */
-    boolean updateUserDetails(UserDetails userDetails, UserDetailsRequestDTO userDetailsRequestDTO);
-
-    /**
-     * Updates the audit fields.
-     *
-     * @param userDetails the user details entity
-     * @param detailsUpdated true if the user details are updated, false otherwise
-     */
-    void updateAuditFields(UserDetails userDetails, boolean detailsUpdated);
+    Map<String, Object> buildUpdateValues(String firstName, String lastName);
 }
@@ -2,9 +2,32 @@ package com.example.domain.user.service;
 
 import com.example.base.service.IBaseService;
 import com.example.domain.user.dto.request.UserCreateRequestDTO;
+import com.example.domain.user.dto.request.UserDetailsPatchRequestDTO;
 import com.example.domain.user.dto.request.UserUpdateRequestDTO;
+import com.example.domain.user.dto.response.UserBatchItemResponseDTO;
 import com.example.domain.user.dto.response.UserResponseDTO;
+import com.example.utils.dto.request.FilteringDTO;
+import java.util.List;
 
 /** Service interface for user service. */
 public interface IUserService
-        extends IBaseService<UserCreateRequestDTO, UserUpdateRequestDTO, UserResponseDTO> {}
+        extends IBaseService<UserCreateRequestDTO, UserUpdateRequestDTO, UserResponseDTO> {
+    /**
+     * Creates a batch of users.
+     *
+     * @param userCreateRequestDTOList the DTOs containing the users' details
+     * @return the result of each user, in request order
+     */
+    List<UserBatchItemResponseDTO> createBatch(List<UserCreateRequestDTO> userCreateRequestDTOList);
+
+    /**
+     * Updates the details of the users matching a filter with set-based statements.
+     *
+     * @param filteringDTOList the search parameters, at least one
+     * @param userDetailsPatchRequestDTO the details to change, null fields are left unchanged
+     * @return the number of updated user details
+     */
+    long updateDetails(
+            List<FilteringDTO> filteringDTOList,
+            UserDetailsPatchRequestDTO userDetailsPatchRequestDTO);
+}
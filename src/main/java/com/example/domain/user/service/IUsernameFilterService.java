@@ -0,0 +1,25 @@
+package com.example.domain.user.service;
+
+/** Service interface for the in-memory filter of existing usernames. */
+public interface IUsernameFilterService {
+    /**
+     * Checks if a username might exist.
+     *
+     * @param username the username to check
+     * @return false if the username certainly does not exist, true otherwise
+     */
+    boolean mightContain(String username);
+
+    /**
+     * Adds a username to the filter.
+     *
+     * @param username the username to add
+     */
+    void put(String username);
+
+    /** Records that a username reported as possibly existing did not exist. */
+    void recordFalsePositive();
+
+    /** Rebuilds the filter from the usernames in the database. */
+    void rebuild();
+}
@@ -1,7 +1,10 @@
 package com.example.domain.user.service;
 
-import com.example.domain.user.dto.request.UserDetailsRequestDTO;
-import com.example.domain.user.model.UserDetails;
+import static com.example.domain.user.specification.UserSpecification.FIELD_FIRST_NAME;
+import static com.example.domain.user.specification.UserSpecification.FIELD_LAST_NAME;
+
+import java.util.HashMap;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
@@ -13,48 +16,26 @@ import org.springframework.stereotype.Service;
 public class UserDetailsServiceImpl implements IUserDetailsService {
 
     /**
-     * Updates user details.
+     * Builds the values of a user details update.
      *
-     * @param userDetails the user details to update
-     * @param userDetailsRequestDTO the DTO containing the user's details
-     * @return true if the user details are updated, false otherwise
+     * @param firstName the new first name, or null to leave it unchanged
+     * @param lastName the new last name, or null to leave it unchanged
+     * @return the new values by attribute name, empty if nothing is changed
      */
     @Override
-    public boolean updateUserDetails(
-            UserDetails userDetails, UserDetailsRequestDTO userDetailsRequestDTO) {
-        log.debug("updateUserDetails called");
-
-        boolean updated = false;
-
-        if (userDetailsRequestDTO != null) {
-            if (userDetailsRequestDTO.getFirstName() != null
-                    && !userDetails.getFirstName().equals(userDetailsRequestDTO.getFirstName())) {
-                userDetails.setFirstName(userDetailsRequestDTO.getFirstName());
-                updated = true;
-            }
-
-            if (userDetailsRequestDTO.getLastName() != null
-                    && !userDetails.getLastName().equals(userDetailsRequestDTO.getLastName())) {
-                userDetails.setLastName(userDetailsRequestDTO.getLastName());
-                updated = true;
-            }
-        }
+    public Map<String, Object> buildUpdateValues(String firstName, String lastName) {
+        log.debug("buildUpdateValues called");
 
-        return updated;
-    }
+        Map<String, Object> values = new HashMap<>();
 
-    /**
-     * Updates the audit fields.
-     *
-     * @param userDetails the user details entity
-     * @param detailsUpdated true if the user details are updated, false otherwise
-     */
-    @Override
-    public void updateAuditFields(UserDetails userDetails, boolean detailsUpdated) {
-        log.debug("updateAuditFields called");
+        if (firstName != null) {
+            values.put(FIELD_FIRST_NAME, firstName);
+        }
 
-        if (detailsUpdated) {
-            userDetails.setUpdatedBy("unknown");
+        if (lastName != null) {
+            values.put(FIELD_LAST_NAME, lastName);
         }
+
+        return values;
     }
 }
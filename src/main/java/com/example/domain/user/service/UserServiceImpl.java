@@ -1,28 +1,68 @@
 package com.example.domain.user.service;
 
+import static com.example.constants.Constants.FILTER_KEY_GENERATOR;
+import static com.example.constants.Constants.OUTSIDE_TRANSACTION;
+import static com.example.constants.Constants.UK_USERS_USERNAME;
+import static com.example.constants.Constants.USERS_BY_ID_CACHE;
+import static com.example.constants.Constants.USERS_CACHE;
+import static com.example.domain.user.specification.UserSpecification.FIELD_DETAILS;
+import static com.example.domain.user.specification.UserSpecification.FIELD_PASSWORD;
+
+import com.example.config.BulkProperties;
+import com.example.config.PaginationProperties;
+import com.example.config.ResultCacheInvalidator;
 import com.example.domain.user.dto.request.UserCreateRequestDTO;
+import com.example.domain.user.dto.request.UserDetailsPatchRequestDTO;
 import com.example.domain.user.dto.request.UserUpdateRequestDTO;
+import com.example.domain.user.dto.response.UserBatchItemResponseDTO;
 import com.example.domain.user.dto.response.UserResponseDTO;
 import com.example.domain.user.mapper.IUserMapper;
 import com.example.domain.user.model.User;
+import com.example.domain.user.repository.IUserDetailsRepository;
 import com.example.domain.user.repository.IUserRepository;
+import com.example.domain.user.repository.UserResponseProjection;
 import com.example.domain.user.specification.UserSpecification;
+import com.example.enums.BatchItemStatus;
+import com.example.enums.CountStrategy;
+import com.example.exception.BulkLimitExceededException;
 import com.example.exception.ConflictException;
+import com.example.exception.InvalidFilterException;
 import com.example.exception.NotFoundException;
 import com.example.exception.NotModifiedException;
+import com.example.exception.PreconditionFailedException;
+import com.example.exception.ServiceUnavailableException;
 import com.example.utils.dto.request.FilteringDTO;
+import com.example.utils.dto.response.CursorPageResponseDTO;
+import com.example.utils.dto.response.SliceResponseDTO;
 import com.example.utils.service.IMessageService;
+import com.example.utils.service.IPasswordHashingService;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /** Service class for managing user-related operations. */
 @Log4j2
@@ -32,40 +72,208 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements IUserService {
     private final IMessageService messageService;
     private final IUserDetailsService userDetailsService;
+    private final IUsernameFilterService usernameFilterService;
     private final IUserRepository userRepository;
+    private final IUserDetailsRepository userDetailsRepository;
     private final IUserMapper userMapper;
     private final UserSpecification userSpecification;
-    private final PasswordEncoder passwordEncoder;
+    private final IPasswordHashingService passwordHashingService;
+    private final PaginationProperties paginationProperties;
+    private final UserResponseProjection userResponseProjection;
+    private final BulkProperties bulkProperties;
+    private final ResultCacheInvalidator resultCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
 
+    public static final String ERROR_BULK_FILTER_REQUIRED = "error.bulk.filter_required";
+    public static final String ERROR_BULK_LIMIT_EXCEEDED = "error.bulk.limit_exceeded";
     public static final String ERROR_USER_NOT_MODIFIED = "error.user.not_modified";
     public static final String ERROR_USER_NOT_FOUND = "error.user.not_found";
+    public static final String ERROR_USER_PRECONDITION_FAILED = "error.user.precondition_failed";
     public static final String ERROR_USER_USERNAME_EXISTS = "error.user.username_exists";
 
     /**
      * Creates a new user.
      *
+     * <p>The username is only checked against the database if the username filter reports that it
+     * might exist, so a new username costs no query and a taken one is rejected before its password
+     * is hashed. The check cannot see concurrent creates, so a violation of the unique username
+     * constraint is also reported as a conflict, and concurrent creates of the same username cannot
+     * both succeed. The password is hashed on the password hashing executor before the insert
+     * transaction begins, so no connection is held while it waits.
+     *
      * @param userCreateRequestDTO the DTO containing the user's details
      * @return the response DTO
      * @throws ConflictException if the username already exists
+     * @throws ServiceUnavailableException if the password hashing executor is saturated
      */
     @Override
-    @Transactional
     public UserResponseDTO create(UserCreateRequestDTO userCreateRequestDTO) {
         log.debug("create called");
 
         validateUsername(userCreateRequestDTO.getUsername());
 
         userCreateRequestDTO.setPassword(
-                passwordEncoder.encode(userCreateRequestDTO.getPassword()));
+                passwordHashingService.encode(userCreateRequestDTO.getPassword()));
 
-        User user = userRepository.save(userMapper.toEntity(userCreateRequestDTO, "unknown"));
+        User user;
+
+        try {
+            user =
+                    userRepository.saveAndFlush(
+                            userMapper.toEntity(userCreateRequestDTO, "unknown"));
+        } catch (DataIntegrityViolationException ex) {
+            throw translateIntegrityViolation(ex);
+        }
 
         return userMapper.toResponseDTO(user);
     }
 
+    /**
+     * Creates a batch of users.
+     *
+     * <p>Taken usernames are found with a single query, limited to the usernames the username
+     * filter reports as possibly existing, and reported as conflicts, as are repeated usernames
+     * within the batch. Usernames are compared case-insensitively, as the database collation may
+     * be. The passwords of the remaining users are hashed in parallel on the password hashing
+     * executor, outside any transaction, and the users are inserted in one transaction, using JDBC
+     * batching where the id generator allows it. If a username is taken concurrently the
+     * transaction is rolled back, the usernames are checked again, and the users whose usernames
+     * are now taken are reported as conflicts while the rest are inserted again.
+     *
+     * @param userCreateRequestDTOList the DTOs containing the users' details
+     * @return the result of each user, in request order
+     * @throws ConflictException if the username constraint is violated but no username is taken
+     *     when checked again
+     * @throws ServiceUnavailableException if the password hashing executor is saturated
+     */
+    @Override
+    public List<UserBatchItemResponseDTO> createBatch(
+            List<UserCreateRequestDTO> userCreateRequestDTOList) {
+        log.debug("createBatch called");
+
+        Set<String> takenUsernames =
+                findTakenUsernames(
+                        userCreateRequestDTOList.stream()
+                                .filter(
+                                        userCreateRequestDTO ->
+                                                usernameFilterService.mightContain(
+                                                        userCreateRequestDTO.getUsername()))
+                                .toList());
+        List<Integer> accepted = new ArrayList<>();
+        UserBatchItemResponseDTO[] results =
+                new UserBatchItemResponseDTO[userCreateRequestDTOList.size()];
+
+        for (int i = 0; i < userCreateRequestDTOList.size(); i++) {
+            if (takenUsernames.add(
+                    userCreateRequestDTOList.get(i).getUsername().toLowerCase(Locale.ROOT))) {
+                accepted.add(i);
+            } else {
+                results[i] = buildConflictItem(i);
+            }
+        }
+
+        List<String> hashes =
+                passwordHashingService.encodeAll(
+                        accepted.stream()
+                                .map(i -> userCreateRequestDTOList.get(i).getPassword())
+                                .toList());
+
+        for (int i = 0; i < accepted.size(); i++) {
+            userCreateRequestDTOList.get(accepted.get(i)).setPassword(hashes.get(i));
+        }
+
+        List<User> users = null;
+
+        while (users == null) {
+            try {
+                users =
+                        userRepository.saveAllAndFlush(
+                                accepted.stream()
+                                        .map(
+                                                i ->
+                                                        userMapper.toEntity(
+                                                                userCreateRequestDTOList.get(i),
+                                                                "unknown"))
+                                        .toList());
+            } catch (DataIntegrityViolationException ex) {
+                RuntimeException translated = translateIntegrityViolation(ex);
+                Set<String> takenConcurrently =
+                        translated instanceof ConflictException
+                                ? findTakenUsernames(
+                                        accepted.stream()
+                                                .map(userCreateRequestDTOList::get)
+                                                .toList())
+                                : Set.of();
+
+                if (takenConcurrently.isEmpty()) {
+                    throw translated;
+                }
+
+                accepted.removeIf(
+                        i -> {
+                            boolean taken =
+                                    takenConcurrently.contains(
+                                            userCreateRequestDTOList
+                                                    .get(i)
+                                                    .getUsername()
+                                                    .toLowerCase(Locale.ROOT));
+
+                            if (taken) {
+                                results[i] = buildConflictItem(i);
+                            }
+
+                            return taken;
+                        });
+            }
+        }
+
+        Iterator<User> created = users.iterator();
+
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] =
+                        UserBatchItemResponseDTO.builder()
+                                .index(i)
+                                .status(BatchItemStatus.CREATED)
+                                .user(userMapper.toResponseDTO(created.next()))
+                                .build();
+            }
+        }
+
+        return List.of(results);
+    }
+
+    /**
+     * Gets a user by ID.
+     *
+     * <p>The user is cached until the next committed write of the user or its details, and a user
+     * read before such a write is not cached after it. The entities behind it are served from the
+     * second-level cache on a miss.
+     *
+     * @param id the id of the user to get
+     * @return the response DTO
+     * @throws NotFoundException if the user is not found
+     */
+    @Override
+    @Cacheable(
+            cacheNames = USERS_BY_ID_CACHE,
+            key = "#id",
+            condition = OUTSIDE_TRANSACTION,
+            sync = true)
+    public UserResponseDTO get(Long id) {
+        log.debug("get called");
+
+        return userMapper.toResponseDTO(getById(id));
+    }
+
     /**
      * Gets users.
      *
+     * <p>Only the columns of the response DTO are selected, so no entities are loaded into the
+     * persistence context and the password hash is never read. Pages are cached until the next
+     * committed write of a user or user details, and a page read before such a write is not cached
+     * after it.
+     *
      * @param page the page number
      * @param limit the number of users per page
      * @param orderBy the field to order by
@@ -74,6 +282,11 @@ public class UserServiceImpl implements IUserService {
      * @return the page of response DTOs
      */
     @Override
+    @Cacheable(
+            cacheNames = USERS_CACHE,
+            keyGenerator = FILTER_KEY_GENERATOR,
+            condition = OUTSIDE_TRANSACTION,
+            sync = true)
     public Page<UserResponseDTO> get(
             int page,
             int limit,
@@ -86,66 +299,470 @@ public class UserServiceImpl implements IUserService {
         Specification<User> specification =
                 userSpecification.buildSpecification(filteringDTOList, orderBy, orderDirection);
 
-        return userRepository.findAll(specification, pageable).map(userMapper::toResponseDTO);
+        return userRepository.findAll(
+                specification,
+                pageable,
+                userResponseProjection,
+                paginationProperties.getCountStrategy());
+    }
+
+    /**
+     * Gets users without counting the total number of matches.
+     *
+     * <p>One row more than the limit is fetched to tell whether a next page exists, so no count
+     * query is executed.
+     *
+     * @param page the page number
+     * @param limit the number of users per page
+     * @param orderBy the field to order by
+     * @param orderDirection the direction to order by
+     * @param filteringDTOList the search parameters
+     * @return the slice of response DTOs
+     */
+    @Override
+    public SliceResponseDTO<UserResponseDTO> getSlice(
+            int page,
+            int limit,
+            String orderBy,
+            String orderDirection,
+            List<FilteringDTO> filteringDTOList) {
+        log.debug("getSlice called");
+
+        Specification<User> specification =
+                userSpecification.withFetch(
+                        userSpecification.buildSpecification(
+                                filteringDTOList, orderBy, orderDirection),
+                        FIELD_DETAILS);
+        // An offset scroll position points at the last row of the previous page.
+        OffsetScrollPosition position =
+                page == 0
+                        ? ScrollPosition.offset()
+                        : ScrollPosition.offset((long) page * limit - 1);
+
+        Window<User> window =
+                userRepository.findBy(specification, query -> query.limit(limit).scroll(position));
+
+        return SliceResponseDTO.<UserResponseDTO>builder()
+                .content(window.map(userMapper::toResponseDTO).getContent())
+                .page(page)
+                .size(limit)
+                .hasNext(window.hasNext())
+                .build();
+    }
+
+    /**
+     * Gets users by keyset pagination.
+     *
+     * <p>The next page is read with a seek predicate on the sort key and id of the last returned
+     * row, so deep pages cost the same as the first one and no count query is executed.
+     *
+     * @param cursor the cursor of the previous page, or null for the first page
+     * @param limit the number of users per page
+     * @param orderBy the field to order by
+     * @param orderDirection the direction to order by
+     * @param filteringDTOList the search parameters
+     * @return the page of response DTOs and the cursor of the next page
+     */
+    @Override
+    public CursorPageResponseDTO<UserResponseDTO> getByCursor(
+            String cursor,
+            int limit,
+            String orderBy,
+            String orderDirection,
+            List<FilteringDTO> filteringDTOList) {
+        log.debug("getByCursor called");
+
+        Sort sort = userSpecification.buildKeysetSort(orderBy, orderDirection);
+        KeysetScrollPosition position = userSpecification.parseCursor(cursor, sort);
+        Specification<User> specification =
+                userSpecification.withFetch(
+                        userSpecification.buildKeysetSpecification(filteringDTOList, orderBy),
+                        FIELD_DETAILS);
+
+        Window<User> window =
+                userRepository.findBy(
+                        specification, query -> query.sortBy(sort).limit(limit).scroll(position));
+
+        return CursorPageResponseDTO.<UserResponseDTO>builder()
+                .content(window.map(userMapper::toResponseDTO).getContent())
+                .size(limit)
+                .hasNext(window.hasNext())
+                .nextCursor(
+                        window.hasNext()
+                                ? userSpecification.createCursor(
+                                        window.positionAt(window.size() - 1))
+                                : null)
+                .build();
     }
 
     /**
      * Updates an existing user.
      *
+     * <p>The user is not loaded. A new password is hashed before the transaction starts, so no
+     * connection is held while hashing. The user is the root of its details, so the user row is
+     * written first, with an UPDATE that also checks the expected version and bumps it: always with
+     * a new password, and otherwise only if the given details differ from the stored ones. The
+     * details are then written by a conditional UPDATE of only the given columns, which skips the
+     * row if none of them differs. An update that changes nothing therefore writes nothing, and the
+     * fresh user is read by projection.
+     *
      * @param id the id of the user to update
      * @param userUpdateRequestDTO the DTO containing the user's details
+     * @param versions the versions one of which the user must still have, or null to update any
+     *     version
      * @return the response DTO
      * @throws NotModifiedException if the user is not modified
+     * @throws PreconditionFailedException if the user does not have the expected version
      * @throws NotFoundException if the user is not found
+     * @throws ServiceUnavailableException if the password hashing executor is saturated
      */
     @Override
-    @Transactional
-    public UserResponseDTO update(Long id, UserUpdateRequestDTO userUpdateRequestDTO) {
+    public UserResponseDTO update(
+            Long id, UserUpdateRequestDTO userUpdateRequestDTO, Collection<Long> versions) {
         log.debug("update called");
 
-        User user = getById(id);
-        boolean userUpdated = updateUser(user, userUpdateRequestDTO);
-        boolean detailsUpdated =
-                userDetailsService.updateUserDetails(
-                        user.getDetails(), userUpdateRequestDTO.getDetails());
+        Map<String, Object> userValues =
+                userUpdateRequestDTO.getPassword() != null
+                        ? Map.of(
+                                FIELD_PASSWORD,
+                                passwordHashingService.encode(userUpdateRequestDTO.getPassword()))
+                        : Map.of();
+        Map<String, Object> detailsValues =
+                userUpdateRequestDTO.getDetails() != null
+                        ? userDetailsService.buildUpdateValues(
+                                userUpdateRequestDTO.getDetails().getFirstName(),
+                                userUpdateRequestDTO.getDetails().getLastName())
+                        : Map.of();
+
+        if (userValues.isEmpty() && detailsValues.isEmpty()) {
+            checkVersion(getResponse(id), versions);
 
-        if (!userUpdated && !detailsUpdated) {
             throw new NotModifiedException(messageService.getMessage(ERROR_USER_NOT_MODIFIED));
         }
 
-        updateAuditFields(user, userUpdated, detailsUpdated);
+        UserResponseDTO user =
+                transactionTemplate.execute(
+                        status -> updateRows(id, userValues, detailsValues, versions));
 
-        user = userRepository.saveAndFlush(user);
+        if (user == null) {
+            throw new NotModifiedException(messageService.getMessage(ERROR_USER_NOT_MODIFIED));
+        }
 
-        return userMapper.toResponseDTO(user);
+        return user;
+    }
+
+    /**
+     * Writes an update of a user and its details in the current transaction.
+     *
+     * @param id the id of the user to update
+     * @param userValues the new values of the user by attribute name
+     * @param detailsValues the new values of the details by attribute name
+     * @param versions the versions one of which the user must still have, or null to update any
+     *     version
+     * @return the response DTO, or null if the user is not modified
+     * @throws PreconditionFailedException if the user does not have the expected version
+     * @throws NotFoundException if the user is not found
+     */
+    private UserResponseDTO updateRows(
+            Long id,
+            Map<String, Object> userValues,
+            Map<String, Object> detailsValues,
+            Collection<Long> versions) {
+        log.debug("updateRows called");
+
+        // Locks the user row first, like every other write of a user and its details
+        if (userRepository.updateAll(
+                        userValues.isEmpty()
+                                ? userSpecification.updateByIdIfDetailsChange(
+                                        id, versions, detailsValues)
+                                : userSpecification.updateById(id, versions),
+                        userValues,
+                        "unknown")
+                == 0) {
+            // Throws if the user is missing or at another version
+            UserResponseDTO user = getResponse(id);
+
+            if (!userValues.isEmpty()) {
+                throw new PreconditionFailedException(
+                        messageService.getMessage(ERROR_USER_PRECONDITION_FAILED));
+            }
+
+            checkVersion(user, versions);
+
+            return null;
+        }
+
+        if (!detailsValues.isEmpty()) {
+            userDetailsRepository.updateIfChanged(
+                    userSpecification.updateDetailsOf(id), detailsValues, "unknown");
+        }
+
+        resultCacheInvalidator.evictAfterCommit(User.class, List.of(id));
+
+        return getResponse(id);
     }
 
     /**
      * Deletes a user.
      *
+     * <p>The user is not loaded. Its details are deleted by a single statement that resolves them
+     * through a subquery on the user id and the expected versions, and the user row follows through
+     * its cascading foreign key. Only a delete that matches nothing reads the user, to tell a
+     * missing user from one at another version.
+     *
      * @param id the id of the user to delete
+     * @param versions the versions one of which the user must still have, or null to delete any
+     *     version
+     * @throws PreconditionFailedException if the user does not have one of the expected versions
      * @throws NotFoundException if the user is not found
      */
     @Override
     @Transactional
-    public void delete(Long id) {
+    public void delete(Long id, Collection<Long> versions) {
         log.debug("delete called");
 
-        userRepository.delete(getById(id));
+        if (userDetailsRepository.deleteAll(userSpecification.deleteDetailsOf(id, versions)) == 0) {
+            // Throws if the user is missing or at another version
+            checkVersion(getResponse(id), versions);
+
+            throw new PreconditionFailedException(
+                    messageService.getMessage(ERROR_USER_PRECONDITION_FAILED));
+        }
+
+        resultCacheInvalidator.evictAfterCommit(User.class, List.of(id));
     }
 
     /**
-     * Validates that a username is unique.
+     * Updates the details of the users matching a filter with set-based statements.
+     *
+     * <p>The ids of the matching users are read in a single query, and their details are changed
+     * with one criteria UPDATE per chunk of ids, which also maintains the normalized shadow fields
+     * and the audit fields. Each chunk first bumps the versions of its users, so their ETags
+     * change. The bulk statements invalidate the second-level cache regions, and the result caches
+     * are cleared after the commit, as bulk statements bypass the entity events.
+     *
+     * @param filteringDTOList the search parameters, at least one
+     * @param userDetailsPatchRequestDTO the details to change, null fields are left unchanged
+     * @return the number of updated user details
+     * @throws InvalidFilterException if no filter is given
+     * @throws NotModifiedException if no details are given
+     * @throws BulkLimitExceededException if more users match than a bulk operation may change
+     */
+    @Override
+    @Transactional
+    public long updateDetails(
+            List<FilteringDTO> filteringDTOList,
+            UserDetailsPatchRequestDTO userDetailsPatchRequestDTO) {
+        log.debug("updateDetails called");
+
+        Map<String, Object> values =
+                userDetailsService.buildUpdateValues(
+                        userDetailsPatchRequestDTO.getFirstName(),
+                        userDetailsPatchRequestDTO.getLastName());
+
+        if (values.isEmpty()) {
+            throw new NotModifiedException(messageService.getMessage(ERROR_USER_NOT_MODIFIED));
+        }
+
+        List<Long> ids = findIdsForBulk(filteringDTOList);
+        long updated = 0;
+
+        for (List<Long> chunk : chunk(ids)) {
+            // The details are versioned through their user, which is locked first
+            userRepository.updateAllByIdInBatch(chunk, Map.of(), "unknown");
+            updated +=
+                    userDetailsRepository.updateAllByIdInBatch(
+                            userRepository.findDetailsIds(chunk), values, "unknown");
+        }
+
+        if (updated > 0) {
+            resultCacheInvalidator.evictAfterCommit(User.class, ids);
+        }
+
+        return updated;
+    }
+
+    /**
+     * Deletes the users matching a filter with set-based statements, without loading them.
+     *
+     * <p>The ids of the matching users are read in a single query, and the users and then their
+     * details are deleted with one statement per chunk of ids. The bulk statements invalidate the
+     * second-level cache regions of both entities, and the result caches are cleared after the
+     * commit, as bulk statements bypass the entity events.
+     *
+     * @param filteringDTOList the search parameters, at least one
+     * @param dryRun true to only count the matching users
+     * @return the number of deleted users, or of matching users in a dry run
+     * @throws InvalidFilterException if no filter is given
+     * @throws BulkLimitExceededException if more users match than a bulk operation may delete
+     */
+    @Override
+    @Transactional
+    public long delete(List<FilteringDTO> filteringDTOList, boolean dryRun) {
+        log.debug("delete called");
+
+        if (dryRun) {
+            return userRepository.count(buildBulkSpecification(filteringDTOList));
+        }
+
+        List<Long> ids = findIdsForBulk(filteringDTOList);
+
+        for (List<Long> chunk : chunk(ids)) {
+            List<Long> detailsIds = userRepository.findDetailsIds(chunk);
+
+            userRepository.deleteAllByIdInBatch(chunk);
+            userDetailsRepository.deleteAllByIdInBatch(detailsIds);
+        }
+
+        if (!ids.isEmpty()) {
+            resultCacheInvalidator.evictAfterCommit(User.class, ids);
+        }
+
+        return ids.size();
+    }
+
+    /**
+     * Builds the specification of a bulk operation.
+     *
+     * @param filteringDTOList the search parameters, at least one
+     * @return the specification
+     * @throws InvalidFilterException if no filter is given
+     */
+    private Specification<User> buildBulkSpecification(List<FilteringDTO> filteringDTOList) {
+        log.debug("buildBulkSpecification called");
+
+        if (filteringDTOList == null || filteringDTOList.isEmpty()) {
+            throw new InvalidFilterException(messageService.getMessage(ERROR_BULK_FILTER_REQUIRED));
+        }
+
+        return userSpecification.buildSpecification(filteringDTOList, null, null);
+    }
+
+    /**
+     * Finds the ids of the users a bulk operation changes.
+     *
+     * @param filteringDTOList the search parameters, at least one
+     * @return the ids of the matching users
+     * @throws InvalidFilterException if no filter is given
+     * @throws BulkLimitExceededException if more users match than a bulk operation may change
+     */
+    private List<Long> findIdsForBulk(List<FilteringDTO> filteringDTOList) {
+        log.debug("findIdsForBulk called");
+
+        int maxRows = bulkProperties.getMaxRows();
+        List<Long> ids =
+                userRepository.findIds(buildBulkSpecification(filteringDTOList), maxRows + 1);
+
+        if (ids.size() > maxRows) {
+            throw new BulkLimitExceededException(
+                    messageService.getMessage(ERROR_BULK_LIMIT_EXCEEDED));
+        }
+
+        return ids;
+    }
+
+    /**
+     * Splits ids into the chunks of a bulk operation.
+     *
+     * @param ids the ids
+     * @return the chunks, each at most the chunk size long
+     */
+    private List<List<Long>> chunk(List<Long> ids) {
+        log.debug("chunk called");
+
+        int chunkSize = bulkProperties.getChunkSize();
+        List<List<Long>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Finds which of the usernames of the given users are taken.
+     *
+     * @param userCreateRequestDTOList the DTOs containing the users' details
+     * @return the taken usernames, in lower case
+     */
+    private Set<String> findTakenUsernames(List<UserCreateRequestDTO> userCreateRequestDTOList) {
+        log.debug("findTakenUsernames called");
+
+        if (userCreateRequestDTOList.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return userRepository
+                .findUsernames(
+                        userCreateRequestDTOList.stream()
+                                .map(UserCreateRequestDTO::getUsername)
+                                .toList())
+                .stream()
+                .map(username -> username.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Validates that a username is not taken.
+     *
+     * <p>The username is only looked up if the username filter reports that it might exist, and
+     * then by natural id, so a taken username is usually resolved from the natural-id cache.
      *
      * @param username the username to validate
-     * @throws ConflictException if the username already exists
+     * @throws ConflictException if the username is taken
      */
     private void validateUsername(String username) {
         log.debug("validateUsername called");
 
-        if (userRepository.existsByUsername(username)) {
+        if (!usernameFilterService.mightContain(username)) {
+            return;
+        }
+
+        if (userRepository.findByNaturalId(username).isPresent()) {
             throw new ConflictException(messageService.getMessage(ERROR_USER_USERNAME_EXISTS));
         }
+
+        usernameFilterService.recordFalsePositive();
+    }
+
+    /**
+     * Builds the result of a batch item whose username is taken.
+     *
+     * @param index the index of the item in the batch
+     * @return the conflict result
+     */
+    private UserBatchItemResponseDTO buildConflictItem(int index) {
+        log.debug("buildConflictItem called");
+
+        return UserBatchItemResponseDTO.builder()
+                .index(index)
+                .status(BatchItemStatus.CONFLICT)
+                .message(messageService.getMessage(ERROR_USER_USERNAME_EXISTS))
+                .build();
+    }
+
+    /**
+     * Translates a violation of the unique username constraint into a conflict.
+     *
+     * @param ex the integrity violation
+     * @return a conflict exception if the username constraint is violated, the violation otherwise
+     */
+    private RuntimeException translateIntegrityViolation(DataIntegrityViolationException ex) {
+        log.debug("translateIntegrityViolation called");
+
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation
+                            .getConstraintName()
+                            .toLowerCase(Locale.ROOT)
+                            .contains(UK_USERS_USERNAME)) {
+                return new ConflictException(messageService.getMessage(ERROR_USER_USERNAME_EXISTS));
+            }
+        }
+
+        return ex;
     }
 
     /**
@@ -167,39 +784,42 @@ public class UserServiceImpl implements IUserService {
     }
 
     /**
-     * Updates a user.
+     * Gets a user by ID through the response projection, without loading the entities.
      *
-     * @param user the user to update
-     * @param userUpdateRequestDTO the DTO containing the user's details
-     * @return true if the user is updated, false otherwise
+     * @param id the ID of the user to get
+     * @return the response DTO
+     * @throws NotFoundException if the user is not found
      */
-    private boolean updateUser(User user, UserUpdateRequestDTO userUpdateRequestDTO) {
-        log.debug("updateUser called");
-
-        if (userUpdateRequestDTO.getPassword() != null
-                && !user.getPassword().equals(userUpdateRequestDTO.getPassword())) {
-            user.setPassword(passwordEncoder.encode(userUpdateRequestDTO.getPassword()));
-
-            return true;
-        }
+    private UserResponseDTO getResponse(Long id) {
+        log.debug("getResponse called");
 
-        return false;
+        return userRepository
+                .findAll(
+                        userSpecification.byId(id),
+                        Pageable.unpaged(),
+                        userResponseProjection,
+                        CountStrategy.QUERY)
+                .stream()
+                .findFirst()
+                .orElseThrow(
+                        () ->
+                                new NotFoundException(
+                                        messageService.getMessage(ERROR_USER_NOT_FOUND)));
     }
 
     /**
-     * Updates audit fields.
+     * Checks that a user has one of the versions a conditional request expects.
      *
-     * @param user the user to update
-     * @param userUpdated true if the user is updated, false otherwise
-     * @param detailsUpdated true if the user details are updated, false otherwise
+     * @param user the user
+     * @param versions the expected versions, or null for any version
+     * @throws PreconditionFailedException if the user has another version
      */
-    private void updateAuditFields(User user, boolean userUpdated, boolean detailsUpdated) {
-        log.debug("updateAuditFields called");
+    private void checkVersion(UserResponseDTO user, Collection<Long> versions) {
+        log.debug("checkVersion called");
 
-        if (userUpdated) {
-            user.setUpdatedBy("unknown");
+        if (versions != null && !versions.contains(user.getVersion())) {
+            throw new PreconditionFailedException(
+                    messageService.getMessage(ERROR_USER_PRECONDITION_FAILED));
         }
-
-        userDetailsService.updateAuditFields(user.getDetails(), detailsUpdated);
     }
 }
@@ -0,0 +1,260 @@
+package com.example.domain.user.service;
+
+import com.example.config.UsernameFilterProperties;
+import com.example.domain.user.model.User;
+import com.example.domain.user.repository.IUserRepository;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service class for the Bloom filter of existing usernames.
+ *
+ * <p>The filter is built on startup by streaming the usernames of the users table and every
+ * inserted or updated user is added to it, including writes that bypass the user service. Deleted
+ * usernames cannot be removed from a Bloom filter, so they are reported as possibly existing until
+ * the next rebuild. Until the first build completes, every username is reported as possibly
+ * existing.
+ *
+ * <p>Usernames are lowercased, so the filter stays conservative under case-insensitive collations.
+ * Users written by other application instances are not seen, so the unique constraint on the
+ * username remains the final check.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2")
+public class UsernameFilterServiceImpl
+        implements IUsernameFilterService,
+                ApplicationRunner,
+                PostInsertEventListener,
+                PostUpdateEventListener {
+    private final IUserRepository userRepository;
+    private final UsernameFilterProperties usernameFilterProperties;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    public static final String METRIC_LOOKUPS = "username.filter.lookups";
+    public static final String METRIC_FALSE_POSITIVES = "username.filter.false.positives";
+    public static final String METRIC_EXPECTED_FPP = "username.filter.expected.fpp";
+    public static final String METRIC_SIZE = "username.filter.size";
+    public static final String TAG_RESULT = "result";
+    public static final String RESULT_ABSENT = "absent";
+    public static final String RESULT_MIGHT_EXIST = "might-exist";
+
+    private volatile BloomFilter<CharSequence> filter;
+    private volatile BloomFilter<CharSequence> pending;
+
+    private Counter absentLookups;
+    private Counter mightExistLookups;
+    private Counter falsePositives;
+
+    /** Registers the metrics and the listener for inserts and updates. */
+    @PostConstruct
+    public void register() {
+        log.debug("register called");
+
+        absentLookups = meterRegistry.counter(METRIC_LOOKUPS, TAG_RESULT, RESULT_ABSENT);
+        mightExistLookups = meterRegistry.counter(METRIC_LOOKUPS, TAG_RESULT, RESULT_MIGHT_EXIST);
+        falsePositives = meterRegistry.counter(METRIC_FALSE_POSITIVES);
+        Gauge.builder(
+                        METRIC_EXPECTED_FPP,
+                        this,
+                        service -> service.filter != null ? service.filter.expectedFpp() : 1)
+                .register(meterRegistry);
+        Gauge.builder(
+                        METRIC_SIZE,
+                        this,
+                        service ->
+                                service.filter != null
+                                        ? service.filter.approximateElementCount()
+                                        : 0)
+                .register(meterRegistry);
+
+        EventListenerRegistry registry =
+                entityManagerFactory
+                        .unwrap(SessionFactoryImplementor.class)
+                        .getServiceRegistry()
+                        .requireService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+    }
+
+    /**
+     * Builds the filter on startup.
+     *
+     * @param args the application arguments
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("run called");
+
+        rebuild();
+    }
+
+    /**
+     * Checks if a username might exist.
+     *
+     * @param username the username to check
+     * @return false if the username certainly does not exist, true otherwise
+     */
+    @Override
+    public boolean mightContain(String username) {
+        log.debug("mightContain called");
+
+        BloomFilter<CharSequence> current = filter;
+
+        if (current != null && !current.mightContain(normalize(username))) {
+            absentLookups.increment();
+
+            return false;
+        }
+
+        mightExistLookups.increment();
+
+        return true;
+    }
+
+    /**
+     * Adds a username to the filter, and to the filter being rebuilt if any.
+     *
+     * @param username the username to add
+     */
+    @Override
+    public void put(String username) {
+        log.debug("put called");
+
+        String key = normalize(username);
+        // Reading the filter being rebuilt first means the username reaches the rebuilt filter
+        // even if it is swapped in between the two reads.
+        BloomFilter<CharSequence> rebuilding = pending;
+        BloomFilter<CharSequence> current = filter;
+
+        if (rebuilding != null) {
+            rebuilding.put(key);
+        }
+
+        if (current != null && current != rebuilding) {
+            current.put(key);
+        }
+    }
+
+    /** Records that a username reported as possibly existing did not exist. */
+    @Override
+    public void recordFalsePositive() {
+        log.debug("recordFalsePositive called");
+
+        falsePositives.increment();
+    }
+
+    /**
+     * Rebuilds the filter from the usernames in the database.
+     *
+     * <p>The filter is sized for at least twice the current number of users, so it does not
+     * saturate before the next rebuild. The previous filter keeps answering until the new one is
+     * complete.
+     */
+    @Override
+    public synchronized void rebuild() {
+        log.info("rebuild called");
+
+        long expectedInsertions =
+                Math.max(
+                        usernameFilterProperties.getExpectedInsertions(),
+                        userRepository.count() * 2);
+        BloomFilter<CharSequence> rebuilt =
+                BloomFilter.create(
+                        Funnels.stringFunnel(StandardCharsets.UTF_8),
+                        expectedInsertions,
+                        usernameFilterProperties.getFalsePositiveProbability());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.setReadOnly(true);
+        pending = rebuilt;
+
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        try (Stream<String> usernames = userRepository.streamUsernames()) {
+                            usernames.forEach(username -> rebuilt.put(normalize(username)));
+                        }
+                    });
+
+            filter = rebuilt;
+        } finally {
+            pending = null;
+        }
+
+        log.info("Username filter rebuilt with {} usernames", rebuilt.approximateElementCount());
+    }
+
+    /**
+     * Adds the username of an inserted user.
+     *
+     * @param event the insert event
+     */
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof User user) {
+            put(user.getUsername());
+        }
+    }
+
+    /**
+     * Adds the username of an updated user, as the username is mutable.
+     *
+     * @param event the update event
+     */
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof User user) {
+            put(user.getUsername());
+        }
+    }
+
+    /**
+     * Checks if writes of an entity must be handled after the commit.
+     *
+     * @param persister the persister of the entity
+     * @return false, as usernames are added before the commit
+     */
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Normalizes a username into a filter key.
+     *
+     * @param username the username
+     * @return the lowercase username
+     */
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,10 +1,19 @@
 package com.example.domain.user.specification;
 
+import com.example.base.repository.IDeleteCondition;
+import com.example.base.repository.IUpdateCondition;
 import com.example.base.specification.BaseSpecificationImpl;
 import com.example.domain.user.model.User;
+import com.example.domain.user.model.UserDetails;
 import com.example.utils.dto.request.FilteringDTO;
 import com.example.utils.service.IMessageService;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -14,6 +23,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class UserSpecification extends BaseSpecificationImpl<User> {
     public static final String FIELD_PASSWORD = "password";
+    public static final String FIELD_DETAILS = "details";
+    public static final String FIELD_VERSION = "version";
+    public static final String FIELD_FIRST_NAME = "firstName";
+    public static final String FIELD_LAST_NAME = "lastName";
 
     /**
      * Constructor for the UserSpecification class.
@@ -41,4 +54,147 @@ public class UserSpecification extends BaseSpecificationImpl<User> {
 
         return super.buildSpecification(filteringDTOList, orderBy, orderDirection);
     }
+
+    /**
+     * Build a specification matching a single user.
+     *
+     * @param id the id of the user
+     * @return the specification
+     */
+    public Specification<User> byId(Long id) {
+        log.debug("byId called");
+
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get(ID), id);
+    }
+
+    /**
+     * Build an update condition matching a single user at one of the versions a conditional request
+     * expects.
+     *
+     * @param id the id of the user
+     * @param versions the expected versions, or null for any version
+     * @return the update condition
+     */
+    public IUpdateCondition<User> updateById(Long id, Collection<Long> versions) {
+        log.debug("updateById called");
+
+        return (root, update, criteriaBuilder) ->
+                byIdAndVersion(root, id, versions, criteriaBuilder);
+    }
+
+    /**
+     * Build an update condition matching a single user at one of the versions a conditional request
+     * expects, but only if its details differ from the given values in at least one attribute.
+     *
+     * @param id the id of the user
+     * @param versions the expected versions, or null for any version
+     * @param detailsValues the new values of the details by attribute name, none of them null
+     * @return the update condition
+     */
+    public IUpdateCondition<User> updateByIdIfDetailsChange(
+            Long id, Collection<Long> versions, Map<String, ?> detailsValues) {
+        log.debug("updateByIdIfDetailsChange called");
+
+        return (root, update, criteriaBuilder) -> {
+            Subquery<Long> changedDetails = update.subquery(Long.class);
+            Root<UserDetails> details = changedDetails.from(UserDetails.class);
+
+            changedDetails
+                    .select(details.get(ID))
+                    .where(
+                            criteriaBuilder.equal(details.get(ID), root.get(FIELD_DETAILS).get(ID)),
+                            criteriaBuilder.or(
+                                    detailsValues.entrySet().stream()
+                                            .map(
+                                                    entry ->
+                                                            criteriaBuilder.notEqual(
+                                                                    details.get(entry.getKey()),
+                                                                    entry.getValue()))
+                                            .toArray(Predicate[]::new)));
+
+            return criteriaBuilder.and(
+                    byIdAndVersion(root, id, versions, criteriaBuilder),
+                    criteriaBuilder.exists(changedDetails));
+        };
+    }
+
+    /**
+     * Build an update condition matching the details of a single user, resolved by a subquery so
+     * the user is not loaded.
+     *
+     * @param id the id of the user
+     * @return the update condition
+     */
+    public IUpdateCondition<UserDetails> updateDetailsOf(Long id) {
+        log.debug("updateDetailsOf called");
+
+        return (root, update, criteriaBuilder) -> {
+            Subquery<Long> detailsId = update.subquery(Long.class);
+            Root<User> user = detailsId.from(User.class);
+
+            detailsId
+                    .select(user.get(FIELD_DETAILS).get(ID))
+                    .where(criteriaBuilder.equal(user.get(ID), id));
+
+            return criteriaBuilder.equal(root.get(ID), detailsId);
+        };
+    }
+
+    /**
+     * Build a delete condition matching the details of a single user at one of the versions a
+     * conditional request expects, resolved by a subquery so the user is not loaded.
+     *
+     * <p>Deleting the details deletes their user through the cascading foreign key of the user.
+     *
+     * @param id the id of the user
+     * @param versions the expected versions, or null for any version
+     * @return the delete condition
+     */
+    public IDeleteCondition<UserDetails> deleteDetailsOf(Long id, Collection<Long> versions) {
+        log.debug("deleteDetailsOf called");
+
+        return (root, delete, criteriaBuilder) -> {
+            Subquery<Long> detailsId = delete.subquery(Long.class);
+            Root<User> user = detailsId.from(User.class);
+
+            detailsId
+                    .select(user.get(FIELD_DETAILS).get(ID))
+                    .where(byIdAndVersion(user, id, versions, criteriaBuilder));
+
+            return criteriaBuilder.equal(root.get(ID), detailsId);
+        };
+    }
+
+    /**
+     * Builds a predicate matching a single user at one of the expected versions.
+     *
+     * @param user the user
+     * @param id the id of the user
+     * @param versions the expected versions, or null for any version
+     * @param criteriaBuilder the criteria builder
+     * @return the predicate
+     */
+    private Predicate byIdAndVersion(
+            Root<User> user, Long id, Collection<Long> versions, CriteriaBuilder criteriaBuilder) {
+        log.debug("byIdAndVersion called");
+
+        return versions != null
+                ? criteriaBuilder.and(
+                        criteriaBuilder.equal(user.get(ID), id),
+                        user.get(FIELD_VERSION).in(versions))
+                : criteriaBuilder.equal(user.get(ID), id);
+    }
+
+    /**
+     * Checks if a field must not be exposed through sorting positions.
+     *
+     * @param field the field
+     * @return true if the field is the password, false otherwise
+     */
+    @Override
+    protected boolean isRestrictedField(String field) {
+        log.debug("isRestrictedField called");
+
+        return FIELD_PASSWORD.equals(field);
+    }
 }
@@ -0,0 +1,7 @@
+package com.example.enums;
+
+/** Enum for the outcomes of the items of a batch request. */
+public enum BatchItemStatus {
+    CREATED,
+    CONFLICT
+}
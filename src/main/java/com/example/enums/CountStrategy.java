@@ -0,0 +1,9 @@
+package com.example.enums;
+
+/** Enum for the ways of counting the total number of matches of a page. */
+public enum CountStrategy {
+    /** A separate count query with the same filter predicates. */
+    QUERY,
+    /** A {@code COUNT(*) OVER ()} window function attached to the page query. */
+    WINDOW
+}
@@ -9,5 +9,9 @@ public enum FilterOperator {
     NOT_EQUALS,
     GREATER_THAN,
     LESS_THAN,
-    BETWEEN
+    BETWEEN,
+    IN,
+    NOT_IN,
+    IS_NULL,
+    IS_NOT_NULL
 }
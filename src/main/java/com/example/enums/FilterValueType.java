@@ -0,0 +1,78 @@
+package com.example.enums;
+
+import static com.example.enums.FilterOperator.*;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+
+/** Enum for the value types a filter can be applied to. */
+public enum FilterValueType {
+    STRING(
+            EnumSet.of(
+                    EQUALS,
+                    CONTAINS,
+                    STARTS_WITH,
+                    ENDS_WITH,
+                    NOT_EQUALS,
+                    IN,
+                    NOT_IN,
+                    IS_NULL,
+                    IS_NOT_NULL)),
+    INSTANT(
+            EnumSet.of(
+                    EQUALS,
+                    GREATER_THAN,
+                    LESS_THAN,
+                    BETWEEN,
+                    NOT_EQUALS,
+                    IN,
+                    NOT_IN,
+                    IS_NULL,
+                    IS_NOT_NULL)),
+    LONG(
+            EnumSet.of(
+                    EQUALS,
+                    GREATER_THAN,
+                    LESS_THAN,
+                    BETWEEN,
+                    NOT_EQUALS,
+                    IN,
+                    NOT_IN,
+                    IS_NULL,
+                    IS_NOT_NULL));
+
+    private final Set<FilterOperator> supportedOperators;
+
+    FilterValueType(Set<FilterOperator> supportedOperators) {
+        this.supportedOperators = supportedOperators;
+    }
+
+    /**
+     * Checks if an operator can be applied to this value type.
+     *
+     * @param operator the operator to check
+     * @return true if the operator is supported, false otherwise
+     */
+    public boolean supports(FilterOperator operator) {
+        return supportedOperators.contains(operator);
+    }
+
+    /**
+     * Gets the value type for a Java type.
+     *
+     * @param javaType the Java type of the attribute
+     * @return the value type, or null if the Java type cannot be filtered
+     */
+    public static FilterValueType of(Class<?> javaType) {
+        if (String.class.equals(javaType)) {
+            return STRING;
+        } else if (Instant.class.equals(javaType)) {
+            return INSTANT;
+        } else if (Long.class.equals(javaType) || long.class.equals(javaType)) {
+            return LONG;
+        }
+
+        return null;
+    }
+}
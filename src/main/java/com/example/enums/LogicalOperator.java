@@ -0,0 +1,8 @@
+package com.example.enums;
+
+/** Enum for the logical operators of filter groups. */
+public enum LogicalOperator {
+    AND,
+    OR,
+    NOT
+}
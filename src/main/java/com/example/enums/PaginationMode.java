@@ -0,0 +1,8 @@
+package com.example.enums;
+
+/** Enum for the pagination modes of listing endpoints. */
+public enum PaginationMode {
+    PAGE,
+    SLICE,
+    CURSOR
+}
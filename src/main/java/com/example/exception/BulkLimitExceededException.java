@@ -0,0 +1,13 @@
+package com.example.exception;
+
+/** Exception thrown when a bulk operation matches more rows than it may change. */
+public class BulkLimitExceededException extends RuntimeException {
+    /**
+     * Constructs a new bulk limit exceeded exception with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public BulkLimitExceededException(String message) {
+        super(message);
+    }
+}
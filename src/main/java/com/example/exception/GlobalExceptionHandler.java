@@ -1,5 +1,7 @@
 package com.example.exception;
 
+import static com.example.constants.Constants.RETRY_AFTER_SECONDS;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
 import static org.springframework.http.HttpStatus.*;
 
 import com.example.utils.dto.response.ErrorResponseDTO;
@@ -65,13 +67,42 @@ public class GlobalExceptionHandler {
         return handleException(ex, ex.getMessage(), NOT_MODIFIED);
     }
 
+    /**
+     * Handle precondition failed exceptions.
+     *
+     * @param ex the exception to handle
+     * @return the response entity
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponseDTO> handlePreconditionFailedExceptions(Exception ex) {
+        return handleException(ex, ex.getMessage(), PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handle service unavailable exceptions, telling the client when to retry.
+     *
+     * @param ex the exception to handle
+     * @return the response entity
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponseDTO> handleServiceUnavailableExceptions(Exception ex) {
+        return ResponseEntity.status(SERVICE_UNAVAILABLE)
+                .header(RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(handleException(ex, ex.getMessage(), SERVICE_UNAVAILABLE).getBody());
+    }
+
     /**
      * Handle bad request exceptions.
      *
      * @param ex the exception to handle
      * @return the response entity
      */
-    @ExceptionHandler({InvalidDateFormatException.class, InvalidFilterException.class})
+    @ExceptionHandler({
+        InvalidDateFormatException.class,
+        InvalidFilterException.class,
+        InvalidCursorException.class,
+        BulkLimitExceededException.class
+    })
     public ResponseEntity<ErrorResponseDTO> handleBadRequestExceptions(Exception ex) {
         return handleException(ex, ex.getMessage(), BAD_REQUEST);
     }
@@ -0,0 +1,13 @@
+package com.example.exception;
+
+/** Exception thrown when a pagination cursor is invalid. */
+public class InvalidCursorException extends RuntimeException {
+    /**
+     * Constructs a new invalid cursor exception with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
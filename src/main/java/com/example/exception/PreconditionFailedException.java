@@ -0,0 +1,13 @@
+package com.example.exception;
+
+/** Exception thrown when a resource does not match the version a conditional request expects. */
+public class PreconditionFailedException extends RuntimeException {
+    /**
+     * Constructs a new precondition failed exception with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.exception;
+
+/** Exception thrown when the service is too busy to handle a request. */
+public class ServiceUnavailableException extends RuntimeException {
+    /**
+     * Constructs a new service unavailable exception with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
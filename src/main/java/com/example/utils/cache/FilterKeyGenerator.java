@@ -0,0 +1,99 @@
+package com.example.utils.cache;
+
+import static com.example.constants.Constants.FILTER_KEY_GENERATOR;
+
+import com.example.utils.dto.request.FilteringDTO;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache key generator for service methods taking a filter list.
+ *
+ * <p>Filter lists are replaced by a normalized form, so requests that only differ in the order of
+ * their filters, of the filters of a group or of IN values share one cache entry. A missing filter
+ * list is treated as an empty one.
+ */
+@Log4j2
+@Component(FILTER_KEY_GENERATOR)
+public class FilterKeyGenerator implements KeyGenerator {
+    /**
+     * Generates the key of a method invocation.
+     *
+     * @param target the target instance
+     * @param method the method
+     * @param params the method parameters
+     * @return the key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object generate(Object target, Method method, Object... params) {
+        log.debug("generate called");
+
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Object[] key = new Object[params.length + 1];
+
+        key[0] = method.getName();
+
+        for (int i = 0; i < params.length; i++) {
+            key[i + 1] =
+                    List.class.equals(parameterTypes[i])
+                            ? normalize((List<FilteringDTO>) params[i])
+                            : params[i];
+        }
+
+        return new SimpleKey(key);
+    }
+
+    /**
+     * Normalizes a filter list into a sorted list of value objects.
+     *
+     * @param filteringDTOList the search parameters
+     * @return the normalized filters
+     */
+    private List<List<Object>> normalize(List<FilteringDTO> filteringDTOList) {
+        List<List<Object>> filters = new ArrayList<>();
+
+        if (filteringDTOList != null) {
+            for (FilteringDTO filter : filteringDTOList) {
+                filters.add(normalize(filter));
+            }
+        }
+
+        // Filters of one list are combined with the same logic, so their order is irrelevant.
+        filters.sort(Comparator.comparing(Object::toString));
+
+        return filters;
+    }
+
+    /**
+     * Normalizes a filter or filter group into a list of its properties.
+     *
+     * @param filter the filter
+     * @return the normalized filter
+     */
+    private List<Object> normalize(FilteringDTO filter) {
+        List<String> values =
+                filter.getValues() == null
+                        ? null
+                        : filter.getValues().stream()
+                                .distinct()
+                                .sorted(Comparator.nullsFirst(Comparator.naturalOrder()))
+                                .toList();
+
+        return Arrays.asList(
+                filter.getField(),
+                filter.getOperator(),
+                filter.getValue(),
+                filter.getOtherValue(),
+                values,
+                filter.getLogic(),
+                filter.getFilters() == null ? null : normalize(filter.getFilters()));
+    }
+}
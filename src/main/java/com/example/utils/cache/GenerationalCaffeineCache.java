@@ -0,0 +1,170 @@
+package com.example.utils.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Caffeine cache that does not store values whose load began before an eviction of their key.
+ *
+ * <p>Values are loaded through {@link Cache#get(Object, Function)} of the native cache, so
+ * concurrent reads of a missing key wait for a single load instead of all reaching the database. An
+ * eviction of a key waits for a load of that key in progress and removes what it stored, so a load
+ * that read the state before a committed write cannot outlive the eviction that follows the write,
+ * and loads of other keys are not affected.
+ *
+ * <p>Clearing the cache does not wait for loads in progress, so every clear starts a new
+ * generation, and a load only stores its value if the generation is still the one it began in. The
+ * check and the store share a lock that clears take exclusively, so no clear can slip in between
+ * them. Values stored through {@link #put(Object, Object)} are not checked, so the caches are read
+ * with {@code @Cacheable(sync = true)}.
+ */
+public class GenerationalCaffeineCache extends CaffeineCache {
+    private final AtomicLong generation = new AtomicLong();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates a new generational cache.
+     *
+     * @param name the name of the cache
+     * @param cache the native Caffeine cache
+     * @param allowNullValues whether null values are accepted
+     */
+    public GenerationalCaffeineCache(
+            String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    /**
+     * Gets a value, loading it once on a miss and storing it unless the cache is cleared meanwhile.
+     *
+     * @param key the key
+     * @param valueLoader the loader of the value
+     * @return the cached or loaded value
+     * @param <T> the value type
+     * @throws ValueRetrievalException if the loader fails
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        GenerationalLoad load = new GenerationalLoad(valueLoader);
+
+        try {
+            Object value = getNativeCache().get(key, load);
+
+            return (T) fromStoreValue(value != null ? value : load.discardedValue);
+        } finally {
+            load.release();
+        }
+    }
+
+    /** Clears the cache and discards the loads in progress. */
+    @Override
+    public void clear() {
+        nextGeneration(
+                () -> {
+                    super.clear();
+
+                    return null;
+                });
+    }
+
+    /**
+     * Clears the cache and discards the loads in progress.
+     *
+     * @return true if the cache held any entries, false otherwise
+     */
+    @Override
+    public boolean invalidate() {
+        return nextGeneration(super::invalidate);
+    }
+
+    /**
+     * Starts a new generation and then runs a clear.
+     *
+     * <p>The clear itself runs without the lock, as it waits for the loads in progress, which may
+     * be waiting for the lock.
+     *
+     * @param clear the clear
+     * @return the result of the clear
+     * @param <R> the result type
+     */
+    private <R> R nextGeneration(Supplier<R> clear) {
+        lock.writeLock().lock();
+
+        try {
+            generation.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return clear.get();
+    }
+
+    /**
+     * Load of a missing key, run by the native cache while it holds the key.
+     *
+     * <p>A value loaded in the current generation is returned to the native cache with the shared
+     * lock still held, so a clear cannot start a new generation before it is stored. A value loaded
+     * across a clear is kept aside and not stored.
+     */
+    private final class GenerationalLoad implements Function<Object, Object> {
+        private final Callable<?> valueLoader;
+        private Object discardedValue;
+        private boolean locked;
+
+        /**
+         * Creates a new load.
+         *
+         * @param valueLoader the loader of the value
+         */
+        private GenerationalLoad(Callable<?> valueLoader) {
+            this.valueLoader = valueLoader;
+        }
+
+        /**
+         * Loads the value of a key.
+         *
+         * @param key the key
+         * @return the value to store, or null if the cache was cleared during the load
+         * @throws ValueRetrievalException if the loader fails
+         */
+        @Override
+        public Object apply(Object key) {
+            long loadGeneration = generation.get();
+            Object value;
+
+            try {
+                value = toStoreValue(valueLoader.call());
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+
+            lock.readLock().lock();
+
+            if (generation.get() != loadGeneration) {
+                lock.readLock().unlock();
+                discardedValue = value;
+
+                return null;
+            }
+
+            locked = true;
+
+            return value;
+        }
+
+        /** Releases the shared lock once the native cache has stored the value. */
+        private void release() {
+            if (locked) {
+                locked = false;
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
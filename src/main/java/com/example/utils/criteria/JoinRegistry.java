@@ -0,0 +1,87 @@
+package com.example.utils.criteria;
+
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves nested attribute paths of a single query so that every path through the same association
+ * shares one join.
+ *
+ * <p>Inner joins and fetch joins already present on the query are reused, so a registry can be
+ * created by each part of a query (filters, sorting, projections) without duplicating joins.
+ */
+public class JoinRegistry {
+    private final Root<?> root;
+    private final Map<String, From<?, ?>> joins = new HashMap<>();
+
+    /**
+     * Creates a join registry for a query.
+     *
+     * @param root the root of the query
+     */
+    public JoinRegistry(Root<?> root) {
+        this.root = root;
+    }
+
+    /**
+     * Gets a possibly nested path, joining each association on the way once.
+     *
+     * @param path the attribute names
+     * @return the path of the last attribute
+     */
+    public Path<?> get(String... path) {
+        From<?, ?> from = root;
+        StringBuilder key = new StringBuilder();
+
+        for (int i = 0; i < path.length - 1; i++) {
+            From<?, ?> parent = from;
+            String attribute = path[i];
+
+            key.append(i == 0 ? "" : ".").append(attribute);
+            from = joins.computeIfAbsent(key.toString(), k -> findOrCreateJoin(parent, attribute));
+        }
+
+        return from.get(path[path.length - 1]);
+    }
+
+    /**
+     * Finds an existing inner join or fetch join of an association, or creates one.
+     *
+     * @param from the source of the join
+     * @param attribute the association name
+     * @return the join
+     */
+    private static From<?, ?> findOrCreateJoin(From<?, ?> from, String attribute) {
+        for (Fetch<?, ?> fetch : from.getFetches()) {
+            if (fetch instanceof Join<?, ?> join && isInnerJoinOf(join, attribute)) {
+                return join;
+            }
+        }
+
+        for (Join<?, ?> join : from.getJoins()) {
+            if (isInnerJoinOf(join, attribute)) {
+                return join;
+            }
+        }
+
+        return from.join(attribute);
+    }
+
+    /**
+     * Checks if a join is an inner join of an association.
+     *
+     * @param join the join
+     * @param attribute the association name
+     * @return true if the join can be reused for the association, false otherwise
+     */
+    private static boolean isInnerJoinOf(Join<?, ?> join, String attribute) {
+        return join.getJoinType() == JoinType.INNER
+                && attribute.equals(join.getAttribute().getName());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.utils.criteria;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pads bind parameter lists, so that IN predicates of similar size render the same statement.
+ *
+ * <p>Lists are padded to the next power of two by repeating their last value, which does not change
+ * the result of an IN predicate but keeps the number of distinct statements logarithmic in the list
+ * size.
+ */
+public final class ParameterPadding {
+    private ParameterPadding() {}
+
+    /**
+     * Pads a value list to the next power of two.
+     *
+     * @param values the non-empty value list
+     * @param <T> the value type
+     * @return the padded value list
+     */
+    public static <T> List<T> pad(List<T> values) {
+        int size = values.size();
+        int paddedSize = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        List<T> paddedValues = new ArrayList<>(paddedSize);
+
+        paddedValues.addAll(values);
+
+        while (paddedValues.size() < paddedSize) {
+            paddedValues.add(values.get(size - 1));
+        }
+
+        return paddedValues;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.utils.criteria;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Collapses several range conditions on the same expression into the tightest single range.
+ *
+ * @param <Y> the type of the bounds
+ */
+public class RangeBounds<Y extends Comparable<? super Y>> {
+    private Y lower;
+    private boolean lowerInclusive;
+    private Y upper;
+    private boolean upperInclusive;
+
+    /**
+     * Narrows the lower bound.
+     *
+     * @param value the bound
+     * @param inclusive whether the bound itself is in the range
+     */
+    public void addLower(Y value, boolean inclusive) {
+        int comparison = lower == null ? 1 : value.compareTo(lower);
+
+        if (comparison > 0 || (comparison == 0 && !inclusive)) {
+            lower = value;
+            lowerInclusive = inclusive;
+        }
+    }
+
+    /**
+     * Narrows the upper bound.
+     *
+     * @param value the bound
+     * @param inclusive whether the bound itself is in the range
+     */
+    public void addUpper(Y value, boolean inclusive) {
+        int comparison = upper == null ? -1 : value.compareTo(upper);
+
+        if (comparison < 0 || (comparison == 0 && !inclusive)) {
+            upper = value;
+            upperInclusive = inclusive;
+        }
+    }
+
+    /**
+     * Builds the predicate of the range.
+     *
+     * @param criteriaBuilder the criteria builder
+     * @param expression the expression the bounds apply to
+     * @return the predicate
+     */
+    public Predicate toPredicate(CriteriaBuilder criteriaBuilder, Expression<Y> expression) {
+        if (lower != null && upper != null && lowerInclusive && upperInclusive) {
+            return criteriaBuilder.between(expression, lower, upper);
+        }
+
+        Predicate lowerPredicate = null;
+        Predicate upperPredicate = null;
+
+        if (lower != null) {
+            lowerPredicate =
+                    lowerInclusive
+                            ? criteriaBuilder.greaterThanOrEqualTo(expression, lower)
+                            : criteriaBuilder.greaterThan(expression, lower);
+        }
+
+        if (upper != null) {
+            upperPredicate =
+                    upperInclusive
+                            ? criteriaBuilder.lessThanOrEqualTo(expression, upper)
+                            : criteriaBuilder.lessThan(expression, upper);
+        }
+
+        if (lowerPredicate == null) {
+            return upperPredicate;
+        }
+
+        return upperPredicate == null
+                ? lowerPredicate
+                : criteriaBuilder.and(lowerPredicate, upperPredicate);
+    }
+}
@@ -1,15 +1,33 @@
 package com.example.utils.dto.request;
 
 import com.example.enums.FilterOperator;
+import com.example.enums.LogicalOperator;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 
-/** DTO class for filtering. */
+/**
+ * DTO class for filtering.
+ *
+ * <p>A filter with a logic is a group: its filters are combined with AND or OR, or their
+ * conjunction is negated with NOT. Groups can be nested and mixed with single filters.
+ */
 @Getter
 @Builder
+@SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
 public class FilteringDTO {
     private String field;
     private FilterOperator operator;
     private String value;
     private String otherValue;
+
+    /** The values of the IN and NOT_IN operators. */
+    private List<String> values;
+
+    /** The logic of a filter group, null for a single filter. */
+    private LogicalOperator logic;
+
+    /** The filters of a filter group. */
+    private List<FilteringDTO> filters;
 }
@@ -0,0 +1,12 @@
+package com.example.utils.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/** DTO class for the result of a bulk operation. */
+@Getter
+@Builder
+public class BulkResponseDTO {
+    private long count;
+    private boolean dryRun;
+}
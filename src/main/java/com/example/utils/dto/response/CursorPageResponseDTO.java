@@ -0,0 +1,19 @@
+package com.example.utils.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * DTO class for a cursor-based page.
+ *
+ * @param <T> the content type
+ */
+@Getter
+@Builder
+public class CursorPageResponseDTO<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
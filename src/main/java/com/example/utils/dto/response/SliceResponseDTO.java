@@ -0,0 +1,19 @@
+package com.example.utils.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * DTO class for a page without total counts.
+ *
+ * @param <T> the content type
+ */
+@Getter
+@Builder
+public class SliceResponseDTO<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -0,0 +1,120 @@
+package com.example.utils.pagination;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes keyset positions into opaque, URL-safe cursor tokens and back.
+ *
+ * <p>Each key is stored with its name and a type tag, so a cursor can be decoded without knowing
+ * the entity it was created for.
+ */
+public final class KeysetCursorCodec {
+    private static final byte VERSION = 1;
+
+    private static final byte TYPE_STRING = 'S';
+    private static final byte TYPE_LONG = 'L';
+    private static final byte TYPE_INSTANT = 'I';
+
+    private KeysetCursorCodec() {}
+
+    /**
+     * Encodes the keys of a keyset position.
+     *
+     * @param keys the sort keys of the last returned row
+     * @return the cursor token
+     * @throws IllegalArgumentException if a key is null or of an unsupported type
+     */
+    public static String encode(Map<String, ?> keys) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(keys.size());
+
+            for (Map.Entry<String, ?> entry : keys.entrySet()) {
+                out.writeUTF(entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes a cursor token.
+     *
+     * @param cursor the cursor token
+     * @return the sort keys, or null if the cursor is malformed
+     */
+    public static Map<String, Object> decode(String cursor) {
+        try (DataInputStream in =
+                new DataInputStream(
+                        new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION) {
+                return null;
+            }
+
+            int size = in.readUnsignedByte();
+            Map<String, Object> keys = new LinkedHashMap<>();
+
+            for (int i = 0; i < size; i++) {
+                keys.put(in.readUTF(), readValue(in));
+            }
+
+            return in.available() == 0 ? keys : null;
+        } catch (IOException | IllegalArgumentException | DateTimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes a tagged key value.
+     *
+     * @param out the output to write to
+     * @param value the value
+     * @throws IOException if writing fails
+     */
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof String string) {
+            out.writeByte(TYPE_STRING);
+            out.writeUTF(string);
+        } else if (value instanceof Long number) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(number);
+        } else if (value instanceof Instant instant) {
+            out.writeByte(TYPE_INSTANT);
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        } else {
+            throw new IllegalArgumentException("Unsupported cursor key value: " + value);
+        }
+    }
+
+    /**
+     * Reads a tagged key value.
+     *
+     * @param in the input to read from
+     * @return the value
+     * @throws IOException if reading fails or the type tag is unknown
+     */
+    private static Object readValue(DataInputStream in) throws IOException {
+        return switch (in.readByte()) {
+            case TYPE_STRING -> in.readUTF();
+            case TYPE_LONG -> in.readLong();
+            case TYPE_INSTANT -> Instant.ofEpochSecond(in.readLong(), in.readInt());
+            default -> throw new IOException("Unknown cursor key type");
+        };
+    }
+}
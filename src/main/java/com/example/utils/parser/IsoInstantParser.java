@@ -0,0 +1,166 @@
+package com.example.utils.parser;
+
+import java.time.Instant;
+
+/**
+ * Single-pass parser for the UTC date formats accepted by filters.
+ *
+ * <p>Recognises {@code yyyy-MM-dd}, {@code yyyy-MM-ddTHH:mm:ss} and {@code
+ * yyyy-MM-ddTHH:mm:ss.SSSSSSZ} without regular expressions or intermediate strings.
+ */
+public final class IsoInstantParser {
+    private static final int DATE_LENGTH = 10;
+    private static final int DATE_TIME_LENGTH = 19;
+    private static final int DATE_TIME_WITH_MICROS_LENGTH = 27;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private IsoInstantParser() {}
+
+    /**
+     * Parses a date or date-time string into an Instant.
+     *
+     * @param value the string to parse
+     * @return the parsed Instant, or null if the string is not in a supported format or is not a
+     *     valid date
+     */
+    public static Instant parse(CharSequence value) {
+        if (value == null) {
+            return null;
+        }
+
+        int length = value.length();
+
+        if (length != DATE_LENGTH
+                && length != DATE_TIME_LENGTH
+                && length != DATE_TIME_WITH_MICROS_LENGTH) {
+            return null;
+        }
+
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 2);
+        int day = digits(value, 8, 2);
+
+        if (year < 0
+                || month < 1
+                || month > 12
+                || day < 1
+                || day > lengthOfMonth(year, month)
+                || value.charAt(4) != '-'
+                || value.charAt(7) != '-') {
+            return null;
+        }
+
+        long seconds = toEpochDay(year, month, day) * SECONDS_PER_DAY;
+
+        if (length == DATE_LENGTH) {
+            return Instant.ofEpochSecond(seconds);
+        }
+
+        int hour = digits(value, 11, 2);
+        int minute = digits(value, 14, 2);
+        int second = digits(value, 17, 2);
+
+        if (hour < 0
+                || hour > 23
+                || minute < 0
+                || minute > 59
+                || second < 0
+                || second > 59
+                || value.charAt(10) != 'T'
+                || value.charAt(13) != ':'
+                || value.charAt(16) != ':') {
+            return null;
+        }
+
+        seconds += hour * 3_600L + minute * 60L + second;
+
+        if (length == DATE_TIME_LENGTH) {
+            return Instant.ofEpochSecond(seconds);
+        }
+
+        int micros = digits(value, 20, 6);
+
+        if (micros < 0 || value.charAt(19) != '.' || value.charAt(26) != 'Z') {
+            return null;
+        }
+
+        return Instant.ofEpochSecond(seconds, micros * 1_000L);
+    }
+
+    /**
+     * Reads a fixed number of ASCII digits.
+     *
+     * @param value the string to read from
+     * @param offset the index of the first digit
+     * @param count the number of digits
+     * @return the number, or -1 if any character is not an ASCII digit
+     */
+    private static int digits(CharSequence value, int offset, int count) {
+        int result = 0;
+
+        for (int i = offset; i < offset + count; i++) {
+            int digit = value.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+
+            result = result * 10 + digit;
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the number of days in a month.
+     *
+     * @param year the year
+     * @param month the month, from 1 to 12
+     * @return the number of days in the month
+     */
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Checks if a year is a leap year in the proleptic Gregorian calendar.
+     *
+     * @param year the year
+     * @return true if the year is a leap year, false otherwise
+     */
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Converts a non-negative year, month and day to days since 1970-01-01, following {@link
+     * java.time.LocalDate#toEpochDay()}.
+     *
+     * @param year the year, from 0 to 9999
+     * @param month the month, from 1 to 12
+     * @param day the day of month
+     * @return the epoch day
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+
+        total += (367L * month - 362) / 12;
+        total += day - 1;
+
+        if (month > 2) {
+            total--;
+
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+
+        return total - DAYS_0000_TO_1970;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.utils.service;
+
+import java.util.List;
+
+/** Service interface for password hashing service */
+public interface IPasswordHashingService {
+    /**
+     * Hashes a password.
+     *
+     * @param rawPassword the password to hash
+     * @return the hash
+     */
+    String encode(String rawPassword);
+
+    /**
+     * Hashes passwords in parallel.
+     *
+     * @param rawPasswords the passwords to hash
+     * @return the hashes, in the order of the passwords
+     */
+    List<String> encodeAll(List<String> rawPasswords);
+}
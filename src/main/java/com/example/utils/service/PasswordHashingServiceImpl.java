@@ -0,0 +1,165 @@
+package com.example.utils.service;
+
+import static com.example.constants.Constants.PASSWORD_HASHING_EXECUTOR;
+import static com.example.constants.Constants.PASSWORD_HASHING_REJECTED_METRIC;
+
+import com.example.config.PasswordHashingProperties;
+import com.example.exception.ServiceUnavailableException;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service class for hashing passwords on the bounded password hashing executor.
+ *
+ * <p>The calling thread waits for its hashes, but at most one hash per core runs at a time, so the
+ * other requests keep their share of the CPU. When the queue of the executor is full the request
+ * fails fast with 503 Service Unavailable instead of waiting.
+ */
+@Log4j2
+@Service
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2")
+public class PasswordHashingServiceImpl implements IPasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService passwordHashingExecutor;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final IMessageService messageService;
+    private final Counter rejections;
+
+    public static final String ERROR_PASSWORD_HASHING_BUSY = "error.password_hashing.busy";
+
+    /**
+     * Constructor for the PasswordHashingServiceImpl class.
+     *
+     * @param passwordEncoder the password encoder
+     * @param passwordHashingExecutor the password hashing executor
+     * @param passwordHashingProperties the password hashing properties
+     * @param messageService the message service
+     * @param meterRegistry the meter registry
+     */
+    public PasswordHashingServiceImpl(
+            PasswordEncoder passwordEncoder,
+            @Qualifier(PASSWORD_HASHING_EXECUTOR) ExecutorService passwordHashingExecutor,
+            PasswordHashingProperties passwordHashingProperties,
+            IMessageService messageService,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.passwordHashingProperties = passwordHashingProperties;
+        this.messageService = messageService;
+        this.rejections =
+                Counter.builder(PASSWORD_HASHING_REJECTED_METRIC)
+                        .description("Password hashes rejected because the executor was saturated")
+                        .register(meterRegistry);
+    }
+
+    /**
+     * Hashes a password.
+     *
+     * @param rawPassword the password to hash
+     * @return the hash
+     * @throws ServiceUnavailableException if the password hashing executor is saturated
+     */
+    @Override
+    public String encode(String rawPassword) {
+        log.debug("encode called");
+
+        return encodeAll(List.of(rawPassword)).get(0);
+    }
+
+    /**
+     * Hashes passwords in parallel.
+     *
+     * <p>The passwords are submitted in windows of one password per thread, so a large batch does
+     * not fill the queue of the executor and lock out single requests.
+     *
+     * @param rawPasswords the passwords to hash
+     * @return the hashes, in the order of the passwords
+     * @throws ServiceUnavailableException if the password hashing executor is saturated
+     */
+    @Override
+    public List<String> encodeAll(List<String> rawPasswords) {
+        log.debug("encodeAll called");
+
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        int window = passwordHashingProperties.getThreads();
+
+        for (int from = 0; from < rawPasswords.size(); from += window) {
+            hashes.addAll(
+                    encodeWindow(
+                            rawPasswords.subList(
+                                    from, Math.min(from + window, rawPasswords.size()))));
+        }
+
+        return hashes;
+    }
+
+    /**
+     * Hashes a window of passwords on the executor and waits for the hashes.
+     *
+     * @param rawPasswords the passwords to hash
+     * @return the hashes, in the order of the passwords
+     * @throws ServiceUnavailableException if the password hashing executor is saturated
+     */
+    private List<String> encodeWindow(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+
+        try {
+            for (String rawPassword : rawPasswords) {
+                futures.add(
+                        passwordHashingExecutor.submit(() -> passwordEncoder.encode(rawPassword)));
+            }
+
+            List<String> hashes = new ArrayList<>(futures.size());
+
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+
+            return hashes;
+        } catch (RejectedExecutionException ex) {
+            log.warn("Password hashing executor saturated");
+
+            rejections.increment();
+            cancel(futures);
+
+            throw new ServiceUnavailableException(
+                    messageService.getMessage(ERROR_PASSWORD_HASHING_BUSY));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancel(futures);
+
+            throw new ServiceUnavailableException(
+                    messageService.getMessage(ERROR_PASSWORD_HASHING_BUSY));
+        } catch (ExecutionException ex) {
+            cancel(futures);
+
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * Cancels the hashes of a window that are no longer needed.
+     *
+     * @param futures the hashes
+     */
+    private static void cancel(List<Future<String>> futures) {
+        for (Future<String> future : futures) {
+            future.cancel(false);
+        }
+    }
+}
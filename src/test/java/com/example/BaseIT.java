@@ -3,6 +3,8 @@ package com.example;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.utils.dto.response.CursorPageResponseDTO;
+import com.example.utils.dto.response.SliceResponseDTO;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
@@ -12,7 +14,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -74,6 +78,90 @@ public abstract class BaseIT {
         return new PageImpl<>(content, pageable, totalElements);
     }
 
+    /**
+     * Converts JSON to a slice of objects.
+     *
+     * @param json the JSON to convert
+     * @param clazz the class of the object
+     * @return the slice of objects
+     * @param <T> the type of the object
+     * @throws IOException if an error occurs
+     */
+    protected <T> SliceResponseDTO<T> fromJsonToSlice(String json, Class<T> clazz)
+            throws IOException {
+        Map<String, Object> map = objectMapper.readValue(json, new TypeReference<>() {});
+
+        List<T> content =
+                objectMapper.convertValue(
+                        map.get("content"),
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, clazz));
+
+        return SliceResponseDTO.<T>builder()
+                .content(content)
+                .page((int) map.get("page"))
+                .size((int) map.get("size"))
+                .hasNext((boolean) map.get("hasNext"))
+                .build();
+    }
+
+    /**
+     * Converts JSON to a cursor page of objects.
+     *
+     * @param json the JSON to convert
+     * @param clazz the class of the object
+     * @return the cursor page of objects
+     * @param <T> the type of the object
+     * @throws IOException if an error occurs
+     */
+    protected <T> CursorPageResponseDTO<T> fromJsonToCursorPage(String json, Class<T> clazz)
+            throws IOException {
+        Map<String, Object> map = objectMapper.readValue(json, new TypeReference<>() {});
+
+        List<T> content =
+                objectMapper.convertValue(
+                        map.get("content"),
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, clazz));
+
+        return CursorPageResponseDTO.<T>builder()
+                .content(content)
+                .size((int) map.get("size"))
+                .hasNext((boolean) map.get("hasNext"))
+                .nextCursor((String) map.get("nextCursor"))
+                .build();
+    }
+
+    /**
+     * Performs a GET request and expects the specified status code.
+     *
+     * @param url the URL to get
+     * @param headers the headers of the request
+     * @param statusCode the expected status code
+     * @return the response of the request
+     * @throws Exception if an error occurs
+     */
+    protected MockHttpServletResponse performGetAndExpect(
+            String url, HttpHeaders headers, int statusCode) throws Exception {
+        return mockMvc.perform(get(url).headers(headers))
+                .andExpect(status().is(statusCode))
+                .andReturn()
+                .getResponse();
+    }
+
+    /**
+     * Performs a POST request.
+     *
+     * @param url the URL to post to
+     * @param body the body of the request
+     * @return the response of the request
+     * @throws Exception if an error occurs
+     */
+    protected MockHttpServletResponse performPost(String url, Object body) throws Exception {
+        return mockMvc.perform(
+                        post(url).contentType(MediaType.APPLICATION_JSON).content(toJson(body)))
+                .andReturn()
+                .getResponse();
+    }
+
     /**
      * Performs a POST request and expects the specified status code.
      *
@@ -124,6 +212,28 @@ public abstract class BaseIT {
                 clazz);
     }
 
+    /**
+     * Performs a PATCH request with headers and expects the specified status code.
+     *
+     * @param url the URL to patch
+     * @param headers the headers of the request
+     * @param body the body of the request
+     * @param statusCode the expected status code
+     * @return the response of the request
+     * @throws Exception if an error occurs
+     */
+    protected MockHttpServletResponse performPatchAndExpect(
+            String url, HttpHeaders headers, Object body, int statusCode) throws Exception {
+        return mockMvc.perform(
+                        patch(url)
+                                .headers(headers)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(toJson(body)))
+                .andExpect(status().is(statusCode))
+                .andReturn()
+                .getResponse();
+    }
+
     /**
      * Performs a DELETE request and expects the specified status code.
      *
@@ -145,6 +255,23 @@ public abstract class BaseIT {
                 clazz);
     }
 
+    /**
+     * Performs a DELETE request with headers and expects the specified status code.
+     *
+     * @param url the URL to delete
+     * @param headers the headers of the request
+     * @param statusCode the expected status code
+     * @return the response of the request
+     * @throws Exception if an error occurs
+     */
+    protected MockHttpServletResponse performDeleteAndExpect(
+            String url, HttpHeaders headers, int statusCode) throws Exception {
+        return mockMvc.perform(delete(url).headers(headers))
+                .andExpect(status().is(statusCode))
+                .andReturn()
+                .getResponse();
+    }
+
     /**
      * Converts the given parameters to a query string.
      *
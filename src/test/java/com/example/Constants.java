@@ -17,30 +17,45 @@ public class Constants {
     public static final String TEST_MESSAGE = "Test message";
     public static final String TEST_USERNAME = "test";
     public static final String TEST_USERNAME2 = "test.2";
+    public static final String TEST_USERNAME3 = "test.3";
+    public static final String TEST_WILDCARD_USERNAME = "test%2";
     public static final String TEST_PASSWORD = "T3stP@ssw0rd";
     public static final String TEST_PASSWORD2 = "T3stP@ssw0rd2";
     public static final String TEST_INVALID_PASSWORD = "password";
     public static final String TEST_INVALID_SHORT_PASSWORD = "short";
+    public static final String TEST_INVALID_SHORT_NAME = "x";
     public static final String TEST_INVALID_LONG_PASSWORD =
             "12345678910111213141516171819202122232425262728293031323334353637";
     public static final String TEST_INVALID_DATE = "invalidDate";
+    public static final String TEST_INVALID_LONG = "invalidLong";
+    public static final String TEST_INVALID_CURSOR = "invalid*cursor";
+    public static final String TEST_CURSOR = "cursor";
+    public static final String TEST_CURSOR2 = "cursor2";
     public static final String TEST_DATE = "2024-07-16";
+    public static final String TEST_DATE_TIME = "2024-07-16T10:15:30";
+    public static final String TEST_DATE_TIME_WITH_MICROS = "2024-07-16T10:15:30.123456Z";
     public static final String TEST_FIRST_NAME = "Test";
     public static final String TEST_FIRST_NAME2 = "Test2";
     public static final String TEST_LAST_NAME = "User";
     public static final String TEST_LAST_NAME2 = "User2";
     public static final String TEST_ORDER_BY = "id";
     public static final String TEST_ORDER_DIRECTION = "asc";
+    public static final String TEST_ORDER_DIRECTION_DESC = "desc";
     public static final String TEST_FIELD_PAGE = "page";
     public static final String TEST_FIELD_LIMIT = "limit";
     public static final String TEST_FIELD_ORDER_BY = "orderBy";
     public static final String TEST_FIELD_ORDER_DIRECTION = "orderDirection";
+    public static final String TEST_FIELD_PAGINATION = "pagination";
+    public static final String TEST_FIELD_CURSOR = "cursor";
     public static final String TEST_FIELD_ID = "id";
     public static final String TEST_FIELD_PASSWORD = "password";
     public static final String TEST_FIELD_USERNAME = "username";
     public static final String TEST_FIELD_CREATED_AT = "createdAt";
     public static final String TEST_FIELD_UPDATED_AT = "updatedAt";
     public static final String TEST_FIELD_CREATED_BY = "createdBy";
+    public static final String TEST_FIELD_UPDATED_BY = "updatedBy";
+    public static final String TEST_FIELD_UNKNOWN = "unknown";
+    public static final String TEST_FIELD_DETAILS = "details";
     public static final String TEST_FIELD_DETAILS_ID = "details.id";
     public static final String TEST_FIELD_DETAILS_FIRST_NAME = "details.firstName";
     public static final String TEST_FIELD_DETAILS_LAST_NAME = "details.lastName";
@@ -49,8 +64,32 @@ public class Constants {
     public static final String TEST_FIELD_DETAILS_CREATED_BY = "details.createdBy";
 
     public static final long TEST_ID = 1L;
+    public static final long TEST_ID2 = 2L;
+    public static final long TEST_ID3 = 3L;
+
+    public static final String TEST_CACHE_NAME = "test-cache";
+
+    public static final long TEST_VERSION = 0L;
+    public static final long TEST_VERSION2 = 1L;
 
     public static final int TEST_PAGE = 1;
     public static final int TEST_PAGE2 = 0;
     public static final int TEST_LIMIT = 10;
+
+    public static final int TEST_CONCURRENT_REQUESTS = 8;
+    public static final long TEST_TIMEOUT_SECONDS = 30;
+    public static final long TEST_LEGACY_ID = 1_000_000L;
+
+    public static final int TEST_MAX_ROWS = 3;
+    public static final int TEST_CHUNK_SIZE = 2;
+
+    public static final String TEST_INDEX_NAME = "ft_users_username";
+    public static final int TEST_DUPLICATE_KEY_NAME_ERROR = 1061;
+    public static final String TEST_FOREIGN_KEY_NAME = "fk_users_details";
+    public static final int TEST_CANT_DROP_KEY_ERROR = 1091;
+
+    public static final int TEST_HASHING_THREADS = 2;
+    public static final long TEST_HASH_NANOS = 10_000_000L;
+    public static final int TEST_MIN_STRENGTH = 4;
+    public static final int TEST_MAX_STRENGTH = 8;
 }
@@ -8,10 +8,17 @@ import com.example.domain.user.dto.response.UserResponseDTO;
 import com.example.domain.user.model.User;
 import com.example.domain.user.model.UserDetails;
 import com.example.enums.FilterOperator;
+import com.example.enums.LogicalOperator;
 import com.example.utils.dto.request.FilteringDTO;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 public class TestUtils {
+    private static final DateTimeFormatter FILTER_DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'").withZone(ZoneOffset.UTC);
 
     /**
      * Builds a user create request DTO with the given properties.
@@ -253,4 +260,42 @@ public class TestUtils {
                 .otherValue(otherValue)
                 .build();
     }
+
+    /**
+     * Builds a filtering DTO for a multi-value operator.
+     *
+     * @param field The field
+     * @param operator The operator
+     * @param values The values
+     * @return The filtering DTO
+     */
+    public static FilteringDTO buildFilteringDTO(
+            String field, FilterOperator operator, List<String> values) {
+        return FilteringDTO.builder().field(field).operator(operator).values(values).build();
+    }
+
+    /**
+     * Builds a filtering DTO for a filter group.
+     *
+     * @param logic The logic of the group
+     * @param filters The filters of the group
+     * @return The filtering DTO
+     */
+    public static FilteringDTO buildFilteringGroup(LogicalOperator logic, FilteringDTO... filters) {
+        return FilteringDTO.builder()
+                .logic(logic)
+                .filters(new ArrayList<>(List.of(filters)))
+                .build();
+    }
+
+    /**
+     * Formats an instant in the microsecond filter date format, keeping trailing zeros that {@link
+     * Instant#toString()} drops.
+     *
+     * @param instant The instant to format
+     * @return The formatted instant
+     */
+    public static String formatInstant(Instant instant) {
+        return FILTER_DATE_TIME_FORMATTER.format(instant);
+    }
 }
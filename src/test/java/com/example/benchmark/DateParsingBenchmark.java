@@ -0,0 +1,74 @@
+package com.example.benchmark;
+
+import static com.example.base.specification.BaseSpecificationImpl.*;
+
+import com.example.utils.parser.IsoInstantParser;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH comparison of the filter date parsing implementations.
+ *
+ * <p>Run with {@code mvn test-compile} followed by {@code java -cp
+ * target/test-classes:target/classes:<test classpath> com.example.benchmark.DateParsingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParsingBenchmark {
+    @Param({"2024-07-16", "2024-07-16T10:15:30", "2024-07-16T10:15:30.123456Z"})
+    private String value;
+
+    /**
+     * Benchmarks the regex and java.time based parsing used before {@link IsoInstantParser}.
+     *
+     * @return the parsed Instant
+     */
+    @Benchmark
+    public Instant regex() {
+        if (value.matches(DATE_REGEX)) {
+            return LocalDateTime.parse(value + "T00:00:00").atZone(ZoneId.of(UTC)).toInstant();
+        } else if (value.matches(DATE_TIME_REGEX)) {
+            return LocalDateTime.parse(value).atZone(ZoneId.of(UTC)).toInstant();
+        } else if (value.matches(DATE_TIME_WITH_MILLIS_REGEX)) {
+            return ZonedDateTime.parse(value).toInstant();
+        }
+
+        return null;
+    }
+
+    /**
+     * Benchmarks {@link IsoInstantParser}.
+     *
+     * @return the parsed Instant
+     */
+    @Benchmark
+    public Instant singlePass() {
+        return IsoInstantParser.parse(value);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the arguments of the benchmark
+     * @throws RunnerException if the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(DateParsingBenchmark.class.getSimpleName())
+                                .addProfiler("gc")
+                                .build())
+                .run();
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH comparison of the bulk insert statements Hibernate issues for users with IDENTITY ids against
+ * ids reserved in blocks from a pooled sequence, on H2 in MySQL mode over TCP so that every
+ * statement pays a real round trip.
+ *
+ * <p>With IDENTITY every user needs two single-row inserts that return the generated key. With a
+ * pooled sequence one sequence call reserves a block of ids and the inserts are sent in JDBC
+ * batches.
+ *
+ * <p>Run with {@code mvn test-compile} followed by {@code java -cp
+ * target/test-classes:target/classes:<test classpath> com.example.benchmark.IdAllocationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdAllocationBenchmark {
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String IDENTITY_DETAILS_SQL =
+            "INSERT INTO identity_user_details (first_name) VALUES (?)";
+    private static final String IDENTITY_USERS_SQL =
+            "INSERT INTO identity_users (username, details_id) VALUES (?, ?)";
+    private static final String POOLED_DETAILS_SQL =
+            "INSERT INTO pooled_user_details (id, first_name) VALUES (?, ?)";
+    private static final String POOLED_USERS_SQL =
+            "INSERT INTO pooled_users (id, username, details_id) VALUES (?, ?, ?)";
+
+    @Param({"50", "1000"})
+    private int users;
+
+    private Server server;
+    private Connection connection;
+    private long batch;
+
+    /**
+     * Starts an H2 TCP server and creates the tables.
+     *
+     * @throws SQLException if the database cannot be set up
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        connection =
+                DriverManager.getConnection(
+                        "jdbc:h2:tcp://localhost:"
+                                + server.getPort()
+                                + "/mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "sa",
+                        "");
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "CREATE TABLE identity_user_details (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                            + " first_name VARCHAR(255) NOT NULL)");
+            statement.execute(
+                    "CREATE TABLE identity_users (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                            + " username VARCHAR(255) NOT NULL UNIQUE, details_id BIGINT NOT NULL)");
+            statement.execute(
+                    "CREATE TABLE pooled_user_details (id BIGINT PRIMARY KEY,"
+                            + " first_name VARCHAR(255) NOT NULL)");
+            statement.execute(
+                    "CREATE TABLE pooled_users (id BIGINT PRIMARY KEY,"
+                            + " username VARCHAR(255) NOT NULL UNIQUE, details_id BIGINT NOT NULL)");
+            statement.execute(
+                    "CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute(
+                    "CREATE SEQUENCE user_details_seq START WITH 1 INCREMENT BY "
+                            + ALLOCATION_SIZE);
+        }
+    }
+
+    /**
+     * Stops the H2 TCP server.
+     *
+     * @throws SQLException if the connection cannot be closed
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        server.stop();
+    }
+
+    /**
+     * Benchmarks inserting users with IDENTITY ids, one round trip per row.
+     *
+     * @return the id of the last inserted user
+     * @throws SQLException if an insert fails
+     */
+    @Benchmark
+    public long identity() throws SQLException {
+        long prefix = batch++;
+        long lastId = 0;
+
+        try (PreparedStatement details =
+                        connection.prepareStatement(
+                                IDENTITY_DETAILS_SQL, Statement.RETURN_GENERATED_KEYS);
+                PreparedStatement user =
+                        connection.prepareStatement(
+                                IDENTITY_USERS_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < users; i++) {
+                details.setString(1, "first" + i);
+                details.executeUpdate();
+
+                user.setString(1, "user" + prefix + "_" + i);
+                user.setLong(2, generatedKey(details));
+                user.executeUpdate();
+
+                lastId = generatedKey(user);
+            }
+        }
+
+        connection.commit();
+
+        return lastId;
+    }
+
+    /**
+     * Benchmarks inserting users with ids reserved in blocks from pooled sequences and inserts sent
+     * in JDBC batches.
+     *
+     * @return the id of the last inserted user
+     * @throws SQLException if an insert fails
+     */
+    @Benchmark
+    public long pooled() throws SQLException {
+        long prefix = batch++;
+        long lastId = 0;
+        long detailsHi = 0;
+        long detailsNext = 0;
+        long userHi = 0;
+        long userNext = 0;
+
+        try (PreparedStatement details = connection.prepareStatement(POOLED_DETAILS_SQL);
+                PreparedStatement user = connection.prepareStatement(POOLED_USERS_SQL)) {
+            for (int i = 0; i < users; i++) {
+                if (detailsNext == detailsHi) {
+                    detailsHi = nextValue("user_details_seq") + ALLOCATION_SIZE;
+                    detailsNext = detailsHi - ALLOCATION_SIZE;
+                }
+
+                if (userNext == userHi) {
+                    userHi = nextValue("users_seq") + ALLOCATION_SIZE;
+                    userNext = userHi - ALLOCATION_SIZE;
+                }
+
+                long detailsId = detailsNext++;
+
+                details.setLong(1, detailsId);
+                details.setString(2, "first" + i);
+                details.addBatch();
+
+                lastId = userNext++;
+
+                user.setLong(1, lastId);
+                user.setString(2, "user" + prefix + "_" + i);
+                user.setLong(3, detailsId);
+                user.addBatch();
+
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    details.executeBatch();
+                    user.executeBatch();
+                }
+            }
+
+            details.executeBatch();
+            user.executeBatch();
+        }
+
+        connection.commit();
+
+        return lastId;
+    }
+
+    /**
+     * Gets the key generated by the last insert of a statement.
+     *
+     * @param statement the statement
+     * @return the generated key
+     * @throws SQLException if the key cannot be read
+     */
+    private static long generatedKey(PreparedStatement statement) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            keys.next();
+
+            return keys.getLong(1);
+        }
+    }
+
+    /**
+     * Gets the next value of a sequence.
+     *
+     * @param sequence the name of the sequence
+     * @return the next value
+     * @throws SQLException if the sequence cannot be read
+     */
+    private long nextValue(String sequence) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery("SELECT NEXT VALUE FOR " + sequence)) {
+            result.next();
+
+            return result.getLong(1);
+        }
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the arguments of the benchmark
+     * @throws RunnerException if the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(IdAllocationBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH comparison of a page query followed by a count query against a single page query with a
+ * {@code COUNT(*) OVER ()} window function, on H2 in MySQL mode over TCP so that every statement
+ * pays a real round trip.
+ *
+ * <p>Run with {@code mvn test-compile} followed by {@code java -cp
+ * target/test-classes:target/classes:<test classpath> com.example.benchmark.WindowCountBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WindowCountBenchmark {
+    private static final int ROWS = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String PAGE_SQL =
+            "SELECT id, username FROM users WHERE username LIKE ? ORDER BY username LIMIT ? OFFSET ?";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM users WHERE username LIKE ?";
+    private static final String WINDOW_SQL =
+            "SELECT id, username, COUNT(*) OVER () FROM users WHERE username LIKE ?"
+                    + " ORDER BY username LIMIT ? OFFSET ?";
+
+    @Param({"user1%", "user1234%"})
+    private String filter;
+
+    private Server server;
+    private Connection connection;
+
+    /**
+     * Starts an H2 TCP server and fills the users table.
+     *
+     * @throws SQLException if the database cannot be set up
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        connection =
+                DriverManager.getConnection(
+                        "jdbc:h2:tcp://localhost:"
+                                + server.getPort()
+                                + "/mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "sa",
+                        "");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "CREATE TABLE users (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                            + " username VARCHAR(255) NOT NULL UNIQUE)");
+            statement.execute(
+                    "INSERT INTO users (username) SELECT CONCAT('user', X) FROM SYSTEM_RANGE(1, "
+                            + ROWS
+                            + ")");
+        }
+    }
+
+    /**
+     * Stops the H2 TCP server.
+     *
+     * @throws SQLException if the connection cannot be closed
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        server.stop();
+    }
+
+    /**
+     * Benchmarks a page query followed by a separate count query.
+     *
+     * @return the total number of matches
+     * @throws SQLException if a query fails
+     */
+    @Benchmark
+    public long pageAndCountQuery() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(PAGE_SQL)) {
+            bindPage(statement);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getLong(1);
+                }
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(COUNT_SQL)) {
+            statement.setString(1, filter);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * Benchmarks a single page query with a window function count.
+     *
+     * @return the total number of matches
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public long windowCount() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(WINDOW_SQL)) {
+            bindPage(statement);
+
+            long total = 0;
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getLong(1);
+                    total = resultSet.getLong(3);
+                }
+            }
+
+            return total;
+        }
+    }
+
+    /**
+     * Binds the filter and page parameters.
+     *
+     * @param statement the statement to bind
+     * @throws SQLException if binding fails
+     */
+    private void bindPage(PreparedStatement statement) throws SQLException {
+        statement.setString(1, filter);
+        statement.setInt(2, PAGE_SIZE);
+        statement.setInt(3, 0);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the arguments of the benchmark
+     * @throws RunnerException if the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WindowCountBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
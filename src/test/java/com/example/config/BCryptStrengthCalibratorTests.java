@@ -0,0 +1,74 @@
+package com.example.config;
+
+import static com.example.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class BCryptStrengthCalibratorTests {
+    private PasswordHashingProperties passwordHashingProperties;
+    private BCryptStrengthCalibrator calibrator;
+
+    @BeforeEach
+    void setUp() {
+        passwordHashingProperties = new PasswordHashingProperties();
+        passwordHashingProperties.setMinStrength(TEST_MIN_STRENGTH);
+        passwordHashingProperties.setMaxStrength(TEST_MAX_STRENGTH);
+        calibrator = new BCryptStrengthCalibrator(passwordHashingProperties);
+    }
+
+    @Test
+    @DisplayName("Tests that the strength is raised while hashes stay within the target latency")
+    void strengthFor_WithinTarget() {
+        // Given
+        passwordHashingProperties.setTargetLatency(Duration.ofNanos(TEST_HASH_NANOS * 5));
+
+        // When
+        int strength = calibrator.strengthFor(TEST_HASH_NANOS);
+
+        // Then
+        assertEquals(TEST_MIN_STRENGTH + 2, strength);
+    }
+
+    @Test
+    @DisplayName("Tests that the strength does not exceed the maximum strength")
+    void strengthFor_Maximum() {
+        // Given
+        passwordHashingProperties.setTargetLatency(Duration.ofNanos(TEST_HASH_NANOS * 1024));
+
+        // When
+        int strength = calibrator.strengthFor(TEST_HASH_NANOS);
+
+        // Then
+        assertEquals(TEST_MAX_STRENGTH, strength);
+    }
+
+    @Test
+    @DisplayName("Tests that the minimum strength is kept when hashes are slower than the target")
+    void strengthFor_Minimum() {
+        // Given
+        passwordHashingProperties.setTargetLatency(Duration.ofNanos(TEST_HASH_NANOS / 2));
+
+        // When
+        int strength = calibrator.strengthFor(TEST_HASH_NANOS);
+
+        // Then
+        assertEquals(TEST_MIN_STRENGTH, strength);
+    }
+
+    @Test
+    @DisplayName("Tests that the calibration picks a strength between the minimum and the maximum")
+    void calibrate_Success() {
+        // Given
+        passwordHashingProperties.setTargetLatency(Duration.ofSeconds(1));
+
+        // When
+        int strength = calibrator.calibrate();
+
+        // Then
+        assertTrue(strength >= TEST_MIN_STRENGTH && strength <= TEST_MAX_STRENGTH);
+    }
+}
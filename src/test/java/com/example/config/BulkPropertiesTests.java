@@ -0,0 +1,47 @@
+package com.example.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+public class BulkPropertiesTests {
+    private final ApplicationContextRunner contextRunner =
+            new ApplicationContextRunner().withUserConfiguration(BulkConfig.class);
+
+    @Test
+    @DisplayName("Tests that positive limits are bound")
+    void bind_Success() {
+        // Given When & Then
+        contextRunner
+                .withPropertyValues("bulk.max-rows=10", "bulk.chunk-size=5")
+                .run(
+                        context -> {
+                            assertNull(context.getStartupFailure());
+                            assertEquals(5, context.getBean(BulkProperties.class).getChunkSize());
+                        });
+    }
+
+    @Test
+    @DisplayName("Tests that a chunk size of zero fails the startup")
+    void bind_ZeroChunkSize() {
+        // Given When & Then
+        contextRunner
+                .withPropertyValues("bulk.chunk-size=0")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    @DisplayName("Tests that a negative row limit fails the startup")
+    void bind_NegativeMaxRows() {
+        // Given When & Then
+        contextRunner
+                .withPropertyValues("bulk.max-rows=-1")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @EnableConfigurationProperties(BulkProperties.class)
+    static class BulkConfig {}
+}
@@ -0,0 +1,108 @@
+package com.example.config;
+
+import static com.example.Constants.TEST_CANT_DROP_KEY_ERROR;
+import static com.example.Constants.TEST_FOREIGN_KEY_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import com.example.config.ForeignKeyCascadeInitializer.CascadingForeignKey;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ForeignKeyCascadeInitializerTests {
+    @Autowired private ForeignKeyCascadeInitializer foreignKeyCascadeInitializer;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private static final CascadingForeignKey USERS_DETAILS =
+            new CascadingForeignKey("users", "details_id", "user_details", "id");
+
+    @Test
+    @DisplayName("Tests the successful resolution of the foreign keys declared cascading")
+    void getCascadingForeignKeys_Success() {
+        // Given When
+        List<CascadingForeignKey> foreignKeys =
+                foreignKeyCascadeInitializer.getCascadingForeignKeys();
+
+        // Then
+        assertEquals(List.of(USERS_DETAILS), foreignKeys);
+    }
+
+    @Test
+    @DisplayName("Tests the successful creation of the DDL statement of a cascading foreign key")
+    void toAlterSql_Success() {
+        // Given When
+        String sql = USERS_DETAILS.toAlterSql(TEST_FOREIGN_KEY_NAME);
+
+        // Then
+        assertEquals(
+                "ALTER TABLE users DROP FOREIGN KEY fk_users_details, ADD CONSTRAINT"
+                        + " fk_users_details FOREIGN KEY (details_id) REFERENCES user_details (id)"
+                        + " ON DELETE CASCADE",
+                sql);
+    }
+
+    @Test
+    @DisplayName("Tests that no foreign key is recreated on a database other than MySQL")
+    void alignForeignKeys_UnsupportedDatabase() {
+        // Given When & Then
+        assertDoesNotThrow(() -> foreignKeyCascadeInitializer.alignForeignKeys());
+    }
+
+    @Test
+    @DisplayName("Tests that a foreign key recreated concurrently by another node counts as done")
+    void recreateForeignKey_RecreatedConcurrently() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+        doThrow(
+                        new BadSqlGrammarException(
+                                TEST_FOREIGN_KEY_NAME,
+                                TEST_FOREIGN_KEY_NAME,
+                                new SQLException(
+                                        TEST_FOREIGN_KEY_NAME, null, TEST_CANT_DROP_KEY_ERROR)))
+                .when(jdbcTemplate)
+                .execute(anyString());
+
+        ForeignKeyCascadeInitializer initializer =
+                new ForeignKeyCascadeInitializer(entityManagerFactory, jdbcTemplate);
+
+        // When & Then
+        assertDoesNotThrow(
+                () -> initializer.recreateForeignKey(USERS_DETAILS, TEST_FOREIGN_KEY_NAME));
+    }
+
+    @Test
+    @DisplayName("Tests that other failures to recreate a foreign key are rethrown")
+    void recreateForeignKey_Failure() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+        doThrow(
+                        new BadSqlGrammarException(
+                                TEST_FOREIGN_KEY_NAME,
+                                TEST_FOREIGN_KEY_NAME,
+                                new SQLException(TEST_FOREIGN_KEY_NAME)))
+                .when(jdbcTemplate)
+                .execute(anyString());
+
+        ForeignKeyCascadeInitializer initializer =
+                new ForeignKeyCascadeInitializer(entityManagerFactory, jdbcTemplate);
+
+        // When & Then
+        assertThrows(
+                BadSqlGrammarException.class,
+                () -> initializer.recreateForeignKey(USERS_DETAILS, TEST_FOREIGN_KEY_NAME));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.config;
+
+import static com.example.Constants.TEST_DUPLICATE_KEY_NAME_ERROR;
+import static com.example.Constants.TEST_INDEX_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import com.example.config.FullTextIndexInitializer.FullTextIndex;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class FullTextIndexInitializerTests {
+    @Autowired private FullTextIndexInitializer fullTextIndexInitializer;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Tests the successful resolution of the full-text indexes of searchable fields")
+    void getFullTextIndexes_Success() {
+        // Given When
+        List<String> names =
+                fullTextIndexInitializer.getFullTextIndexes().stream()
+                        .map(FullTextIndex::getName)
+                        .sorted()
+                        .toList();
+
+        // Then
+        assertEquals(
+                List.of(
+                        "ft_user_details_first_name_normalized",
+                        "ft_user_details_last_name_normalized",
+                        "ft_users_username_normalized"),
+                names);
+    }
+
+    @Test
+    @DisplayName("Tests the successful creation of the DDL statement of a full-text index")
+    void toCreateSql_Success() {
+        // Given
+        FullTextIndex index = new FullTextIndex("ft_users_username", "users", "username");
+
+        // When
+        String sql = index.toCreateSql();
+
+        // Then
+        assertEquals(
+                "CREATE FULLTEXT INDEX ft_users_username ON users (username) WITH PARSER ngram",
+                sql);
+    }
+
+    @Test
+    @DisplayName("Tests that no full-text index is created on a database without ngram support")
+    void createIndexes_UnsupportedDatabase() {
+        // Given When & Then
+        assertDoesNotThrow(() -> fullTextIndexInitializer.createIndexes());
+    }
+
+    @Test
+    @DisplayName("Tests that an index created concurrently by another node counts as created")
+    void createIndex_CreatedConcurrently() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+        doThrow(
+                        new BadSqlGrammarException(
+                                TEST_INDEX_NAME,
+                                TEST_INDEX_NAME,
+                                new SQLException(
+                                        TEST_INDEX_NAME, null, TEST_DUPLICATE_KEY_NAME_ERROR)))
+                .when(jdbcTemplate)
+                .execute(anyString());
+
+        FullTextIndexInitializer initializer =
+                new FullTextIndexInitializer(entityManagerFactory, jdbcTemplate);
+
+        // When & Then
+        assertDoesNotThrow(
+                () ->
+                        initializer.createIndex(
+                                new FullTextIndex(TEST_INDEX_NAME, "users", "username")));
+    }
+
+    @Test
+    @DisplayName("Tests that other failures to create an index are rethrown")
+    void createIndex_Failure() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+        doThrow(
+                        new BadSqlGrammarException(
+                                TEST_INDEX_NAME,
+                                TEST_INDEX_NAME,
+                                new SQLException(TEST_INDEX_NAME)))
+                .when(jdbcTemplate)
+                .execute(anyString());
+
+        FullTextIndexInitializer initializer =
+                new FullTextIndexInitializer(entityManagerFactory, jdbcTemplate);
+
+        // When & Then
+        assertThrows(
+                BadSqlGrammarException.class,
+                () ->
+                        initializer.createIndex(
+                                new FullTextIndex(TEST_INDEX_NAME, "users", "username")));
+    }
+}
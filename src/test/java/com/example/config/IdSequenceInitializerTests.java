@@ -0,0 +1,123 @@
+package com.example.config;
+
+import static com.example.Constants.*;
+import static com.example.TestUtils.buildUserCreateRequestDTO;
+import static com.example.constants.Constants.ID_ALLOCATION_SIZE;
+import static com.example.constants.Constants.USERS_SEQUENCE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.domain.user.dto.response.UserResponseDTO;
+import com.example.domain.user.repository.IUserRepository;
+import com.example.domain.user.service.IUserService;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class IdSequenceInitializerTests {
+    @Autowired private IdSequenceInitializer idSequenceInitializer;
+    @Autowired private IUserService userService;
+    @Autowired private IUserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Tests that a sequence behind the stored ids is moved past the highest id")
+    void alignSequences_LegacyIds() {
+        // Given
+        UserResponseDTO user =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        jdbcTemplate.update("UPDATE users SET id = ? WHERE id = ?", TEST_LEGACY_ID, user.getId());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        // When
+        idSequenceInitializer.alignSequences();
+
+        // Then
+        long nextValue = nextValue();
+
+        assertTrue(nextValue > TEST_LEGACY_ID + ID_ALLOCATION_SIZE);
+        assertEquals(nextValue + ID_ALLOCATION_SIZE, nextValue());
+    }
+
+    @Test
+    @DisplayName(
+            "Tests that a sequence whose increment cannot be altered is moved by drawing values")
+    void alignSequences_AlterUnsupported() {
+        // Given
+        JdbcTemplate jdbcTemplateMock = mock(JdbcTemplate.class);
+        AtomicLong sequence = new AtomicLong();
+
+        when(jdbcTemplateMock.queryForObject(anyString(), eq(Long.class)))
+                .thenAnswer(
+                        invocation ->
+                                invocation.<String>getArgument(0).startsWith("SELECT MAX")
+                                        ? TEST_LEGACY_ID
+                                        : sequence.addAndGet(ID_ALLOCATION_SIZE));
+        doThrow(new BadSqlGrammarException(USERS_SEQUENCE, USERS_SEQUENCE, new SQLException()))
+                .when(jdbcTemplateMock)
+                .execute(anyString());
+
+        IdSequenceInitializer initializer =
+                new IdSequenceInitializer(entityManagerFactory, jdbcTemplateMock);
+
+        // When
+        initializer.alignSequences();
+
+        // Then
+        assertTrue(sequence.get() > TEST_LEGACY_ID + ID_ALLOCATION_SIZE);
+        verify(jdbcTemplateMock, atLeastOnce()).execute(startsWith("ALTER SEQUENCE"));
+    }
+
+    @Test
+    @DisplayName("Tests that a sequence already ahead of the stored ids is left untouched")
+    void alignSequences_AlreadyAligned() {
+        // Given
+        userService.create(
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        long before = nextValue();
+
+        // When
+        idSequenceInitializer.alignSequences();
+
+        // Then
+        assertEquals(before + 2L * ID_ALLOCATION_SIZE, nextValue());
+    }
+
+    /**
+     * Gets the next value of the users sequence.
+     *
+     * @return the next value
+     */
+    private long nextValue() {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + USERS_SEQUENCE, Long.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.config;
+
+import static com.example.Constants.*;
+import static com.example.TestUtils.buildUserCreateRequestDTO;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.domain.user.dto.response.UserResponseDTO;
+import com.example.domain.user.repository.IUserRepository;
+import com.example.domain.user.service.IUserService;
+import java.util.Locale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class NormalizedColumnInitializerTests {
+    @Autowired private NormalizedColumnInitializer normalizedColumnInitializer;
+    @Autowired private IUserService userService;
+    @Autowired private IUserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Tests that shadow columns of rows stored before they were added are filled")
+    void fillShadowColumns_LegacyRows() {
+        // Given
+        UserResponseDTO user =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        jdbcTemplate.update(
+                "UPDATE users SET username = ?, username_normalized = NULL WHERE id = ?",
+                TEST_USERNAME.toUpperCase(Locale.ROOT),
+                user.getId());
+        jdbcTemplate.update("UPDATE user_details SET first_name_normalized = ''");
+
+        // When
+        normalizedColumnInitializer.fillShadowColumns();
+
+        // Then
+        assertEquals(
+                TEST_USERNAME.toLowerCase(Locale.ROOT),
+                jdbcTemplate.queryForObject(
+                        "SELECT username_normalized FROM users WHERE id = ?",
+                        String.class,
+                        user.getId()));
+        assertEquals(
+                TEST_FIRST_NAME.toLowerCase(Locale.ROOT),
+                jdbcTemplate.queryForObject(
+                        "SELECT first_name_normalized FROM user_details", String.class));
+    }
+
+    @Test
+    @DisplayName("Tests that filled shadow columns are left untouched")
+    void fillShadowColumns_AlreadyFilled() {
+        // Given
+        userService.create(
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        jdbcTemplate.update("UPDATE users SET username_normalized = ?", TEST_USERNAME2);
+
+        // When
+        normalizedColumnInitializer.fillShadowColumns();
+
+        // Then
+        assertEquals(
+                TEST_USERNAME2,
+                jdbcTemplate.queryForObject("SELECT username_normalized FROM users", String.class));
+    }
+}
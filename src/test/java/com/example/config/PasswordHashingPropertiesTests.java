@@ -0,0 +1,59 @@
+package com.example.config;
+
+import static com.example.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+public class PasswordHashingPropertiesTests {
+    private final ApplicationContextRunner contextRunner =
+            new ApplicationContextRunner()
+                    .withUserConfiguration(PasswordHashingPropertiesConfig.class);
+
+    @Test
+    @DisplayName("Tests that a strength range within the BCrypt limits is bound")
+    void bind_Success() {
+        // Given When & Then
+        contextRunner
+                .withPropertyValues(
+                        "password-hashing.min-strength=" + TEST_MIN_STRENGTH,
+                        "password-hashing.max-strength=" + TEST_MAX_STRENGTH)
+                .run(
+                        context -> {
+                            assertNull(context.getStartupFailure());
+                            assertEquals(
+                                    TEST_MAX_STRENGTH,
+                                    context.getBean(PasswordHashingProperties.class)
+                                            .getMaxStrength());
+                        });
+    }
+
+    @Test
+    @DisplayName("Tests that a minimum strength above the maximum strength fails the startup")
+    void bind_MinAboveMax() {
+        // Given When & Then
+        contextRunner
+                .withPropertyValues(
+                        "password-hashing.min-strength=" + TEST_MAX_STRENGTH,
+                        "password-hashing.max-strength=" + TEST_MIN_STRENGTH)
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    @DisplayName("Tests that a strength outside the BCrypt limits fails the startup")
+    void bind_OutOfRange() {
+        // Given When & Then
+        contextRunner
+                .withPropertyValues("password-hashing.min-strength=3")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+        contextRunner
+                .withPropertyValues("password-hashing.max-strength=32")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @EnableConfigurationProperties(PasswordHashingProperties.class)
+    static class PasswordHashingPropertiesConfig {}
+}
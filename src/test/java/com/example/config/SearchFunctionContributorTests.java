@@ -0,0 +1,21 @@
+package com.example.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link SearchFunctionContributor}. */
+public class SearchFunctionContributorTests {
+    @Test
+    @DisplayName("Tests that only MySQL is treated as supporting ngram full-text indexes")
+    void supportsNgramFullText() {
+        // Given When & Then
+        assertTrue(SearchFunctionContributor.supportsNgramFullText(new MySQLDialect()));
+        assertFalse(SearchFunctionContributor.supportsNgramFullText(new MariaDBDialect()));
+        assertFalse(SearchFunctionContributor.supportsNgramFullText(new H2Dialect()));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.config;
+
+import static com.example.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SecurityConfigTests {
+    @Autowired private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("Tests that new hashes carry their algorithm and need no upgrade")
+    void passwordEncoder_Encode() {
+        // When
+        String hash = passwordEncoder.encode(TEST_PASSWORD);
+
+        // Then
+        assertTrue(hash.startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches(TEST_PASSWORD, hash));
+        assertFalse(passwordEncoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    @DisplayName("Tests that hashes stored without their algorithm still match and need an upgrade")
+    void passwordEncoder_LegacyHash() {
+        // Given
+        String hash = new BCryptPasswordEncoder().encode(TEST_PASSWORD);
+
+        // When
+        boolean matches = passwordEncoder.matches(TEST_PASSWORD, hash);
+
+        // Then
+        assertTrue(matches);
+        assertTrue(passwordEncoder.upgradeEncoding(hash));
+    }
+}
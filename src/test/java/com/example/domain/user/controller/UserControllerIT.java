@@ -2,29 +2,57 @@ package com.example.domain.user.controller;
 
 import static com.example.Constants.*;
 import static com.example.TestUtils.*;
+import static com.example.constants.Constants.BATCH;
+import static com.example.constants.Constants.DELETE;
 import static com.example.constants.Constants.GET;
+import static com.example.constants.Constants.UPDATE;
 import static com.example.constants.Constants.USER_BASE_URL;
 import static com.example.enums.FilterOperator.EQUALS;
+import static com.example.enums.FilterOperator.IN;
+import static com.example.enums.FilterOperator.IS_NULL;
+import static com.example.enums.FilterOperator.STARTS_WITH;
+import static com.example.enums.LogicalOperator.OR;
+import static com.example.enums.PaginationMode.CURSOR;
+import static com.example.enums.PaginationMode.SLICE;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.http.HttpHeaders.ETAG;
 import static org.springframework.http.HttpStatus.*;
 
 import com.example.BaseIT;
 import com.example.base.dto.response.BaseResponseDTO;
+import com.example.domain.user.dto.request.UserBatchCreateRequestDTO;
+import com.example.domain.user.dto.request.UserBulkUpdateRequestDTO;
 import com.example.domain.user.dto.request.UserCreateRequestDTO;
+import com.example.domain.user.dto.request.UserDetailsPatchRequestDTO;
 import com.example.domain.user.dto.request.UserUpdateRequestDTO;
+import com.example.domain.user.dto.response.UserBatchItemResponseDTO;
 import com.example.domain.user.dto.response.UserResponseDTO;
 import com.example.domain.user.model.User;
 import com.example.domain.user.repository.IUserRepository;
+import com.example.enums.BatchItemStatus;
 import com.example.utils.dto.request.FilteringDTO;
+import com.example.utils.dto.response.BulkResponseDTO;
+import com.example.utils.dto.response.CursorPageResponseDTO;
 import com.example.utils.dto.response.ErrorResponseDTO;
+import com.example.utils.dto.response.SliceResponseDTO;
 import com.example.utils.dto.response.SuccessResponseDTO;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +60,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserControllerIT extends BaseIT {
     @Autowired private IUserRepository userRepository;
     @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private EntityManager entityManager;
 
     @Test
     @DisplayName("Tests the successful creation of a user")
@@ -110,6 +139,140 @@ public class UserControllerIT extends BaseIT {
         assertEquals(CONFLICT.value(), result.getErrorCode());
     }
 
+    @Test
+    @DisplayName("Tests that only one of several concurrent creations of a username succeeds")
+    void create_ConcurrentUsername() throws Exception {
+        // Given
+        UserCreateRequestDTO userCreateRequestDTO =
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME);
+        ExecutorService executor = Executors.newFixedThreadPool(TEST_CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int i = 0; i < TEST_CONCURRENT_REQUESTS; i++) {
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                start.await();
+
+                                return performPost(USER_BASE_URL, userCreateRequestDTO).getStatus();
+                            }));
+        }
+
+        // When
+        start.countDown();
+
+        List<Integer> statuses = new ArrayList<>();
+
+        for (Future<Integer> future : futures) {
+            statuses.add(future.get(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        executor.shutdown();
+
+        long count = userRepository.count();
+
+        userRepository.deleteAll();
+
+        // Then
+        assertEquals(1, Collections.frequency(statuses, CREATED.value()));
+        assertEquals(
+                TEST_CONCURRENT_REQUESTS - 1, Collections.frequency(statuses, CONFLICT.value()));
+        assertEquals(1, count);
+    }
+
+    @Test
+    @DisplayName("Tests the creation of a batch of users with per-user results")
+    @Transactional
+    void createBatch_Success() throws Exception {
+        // Given
+        saveUser(TEST_USERNAME);
+
+        UserBatchCreateRequestDTO userBatchCreateRequestDTO =
+                UserBatchCreateRequestDTO.builder()
+                        .users(
+                                List.of(
+                                        buildUserCreateRequestDTO(
+                                                TEST_USERNAME,
+                                                TEST_PASSWORD,
+                                                TEST_FIRST_NAME,
+                                                TEST_LAST_NAME),
+                                        buildUserCreateRequestDTO(
+                                                TEST_USERNAME2,
+                                                TEST_PASSWORD,
+                                                TEST_FIRST_NAME2,
+                                                TEST_LAST_NAME2),
+                                        buildUserCreateRequestDTO(
+                                                TEST_USERNAME3,
+                                                TEST_PASSWORD,
+                                                TEST_FIRST_NAME,
+                                                TEST_LAST_NAME2)))
+                        .build();
+
+        // When
+        SuccessResponseDTO result =
+                performPostAndExpect(
+                        USER_BASE_URL + BATCH,
+                        userBatchCreateRequestDTO,
+                        OK.value(),
+                        SuccessResponseDTO.class);
+
+        // Then
+        assertNotNull(result);
+
+        List<UserBatchItemResponseDTO> items =
+                objectMapper.convertValue(
+                        result.getData(),
+                        objectMapper
+                                .getTypeFactory()
+                                .constructCollectionType(
+                                        List.class, UserBatchItemResponseDTO.class));
+
+        assertEquals(
+                List.of(BatchItemStatus.CONFLICT, BatchItemStatus.CREATED, BatchItemStatus.CREATED),
+                items.stream().map(UserBatchItemResponseDTO::getStatus).toList());
+        assertEquals(TEST_USERNAME3, items.get(2).getUser().getUsername());
+        assertEquals(3, userRepository.count());
+        assertTrue(
+                passwordEncoder.matches(
+                        TEST_PASSWORD,
+                        userRepository
+                                .findById(items.get(1).getUser().getId())
+                                .orElseThrow()
+                                .getPassword()));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful creation of a batch of users due to an invalid user")
+    @Transactional
+    void createBatch_InvalidRequest() throws Exception {
+        // Given
+        UserBatchCreateRequestDTO userBatchCreateRequestDTO =
+                UserBatchCreateRequestDTO.builder()
+                        .users(
+                                List.of(
+                                        buildUserCreateRequestDTO(
+                                                null,
+                                                TEST_PASSWORD,
+                                                TEST_FIRST_NAME,
+                                                TEST_LAST_NAME)))
+                        .build();
+
+        // When
+        ErrorResponseDTO result =
+                performPostAndExpect(
+                        USER_BASE_URL + BATCH,
+                        userBatchCreateRequestDTO,
+                        BAD_REQUEST.value(),
+                        ErrorResponseDTO.class);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(BAD_REQUEST.value(), result.getErrorCode());
+        assertEquals(0, userRepository.count());
+    }
+
     @Test
     @DisplayName("Tests the unsuccessful creation of a user due to an invalid request")
     @Transactional
@@ -137,7 +300,7 @@ public class UserControllerIT extends BaseIT {
     void get_Success() throws Exception {
         // Given
         User user =
-                userRepository.save(
+                userRepository.saveAndFlush(
                         buildUser(
                                 null,
                                 TEST_USERNAME,
@@ -154,7 +317,7 @@ public class UserControllerIT extends BaseIT {
                                 TEST_USERNAME,
                                 null));
 
-        userRepository.save(
+        userRepository.saveAndFlush(
                 buildUser(
                         null,
                         TEST_USERNAME2,
@@ -189,12 +352,12 @@ public class UserControllerIT extends BaseIT {
                         buildFilteringDTO(
                                 TEST_FIELD_CREATED_AT,
                                 EQUALS,
-                                user.getCreatedAt().toString(),
+                                formatInstant(user.getCreatedAt()),
                                 null),
                         buildFilteringDTO(
                                 TEST_FIELD_UPDATED_AT,
                                 EQUALS,
-                                user.getUpdatedAt().toString(),
+                                formatInstant(user.getUpdatedAt()),
                                 null),
                         buildFilteringDTO(TEST_FIELD_CREATED_BY, EQUALS, user.getCreatedBy(), null),
                         buildFilteringDTO(
@@ -209,12 +372,12 @@ public class UserControllerIT extends BaseIT {
                         buildFilteringDTO(
                                 TEST_FIELD_DETAILS_CREATED_AT,
                                 EQUALS,
-                                user.getDetails().getCreatedAt().toString(),
+                                formatInstant(user.getDetails().getCreatedAt()),
                                 null),
                         buildFilteringDTO(
                                 TEST_FIELD_DETAILS_UPDATED_AT,
                                 EQUALS,
-                                user.getDetails().getUpdatedAt().toString(),
+                                formatInstant(user.getDetails().getUpdatedAt()),
                                 null),
                         buildFilteringDTO(
                                 TEST_FIELD_DETAILS_CREATED_BY,
@@ -241,6 +404,224 @@ public class UserControllerIT extends BaseIT {
         assertUserProperties(user, userResponseDTO);
     }
 
+    @Test
+    @DisplayName("Tests the successful retrieval of a known set of users in one request")
+    @Transactional
+    void get_ByIdList_Success() throws Exception {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        saveUser(TEST_USERNAME2);
+        User otherUser = saveUser(TEST_USERNAME3);
+
+        String url = USER_BASE_URL + GET;
+        List<FilteringDTO> filteringDTOList =
+                List.of(
+                        buildFilteringDTO(
+                                TEST_FIELD_ID,
+                                IN,
+                                List.of(user.getId().toString(), otherUser.getId().toString())),
+                        buildFilteringDTO(TEST_FIELD_UPDATED_BY, IS_NULL, null, null));
+
+        // When
+        SuccessResponseDTO result =
+                performPostAndExpect(url, filteringDTOList, OK.value(), SuccessResponseDTO.class);
+
+        // Then
+        assertNotNull(result);
+
+        Page<UserResponseDTO> userResponseDTOPage =
+                fromJsonToPage(toJson(result.getData()), UserResponseDTO.class);
+
+        assertEquals(2, userResponseDTOPage.getTotalElements());
+        assertEquals(
+                List.of(TEST_USERNAME, TEST_USERNAME3),
+                userResponseDTOPage.getContent().stream()
+                        .map(UserResponseDTO::getUsername)
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("Tests the successful retrieval of users matching any filter of a group")
+    @Transactional
+    void get_ByFilterGroup_Success() throws Exception {
+        // Given
+        saveUser(TEST_USERNAME);
+        saveUser(TEST_USERNAME2);
+        saveUser(TEST_USERNAME3);
+
+        String url = USER_BASE_URL + GET;
+        List<FilteringDTO> filteringDTOList =
+                List.of(
+                        buildFilteringGroup(
+                                OR,
+                                buildFilteringDTO(TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null),
+                                buildFilteringDTO(
+                                        TEST_FIELD_USERNAME, STARTS_WITH, TEST_USERNAME3, null)));
+
+        // When
+        SuccessResponseDTO result =
+                performPostAndExpect(url, filteringDTOList, OK.value(), SuccessResponseDTO.class);
+
+        // Then
+        assertNotNull(result);
+
+        Page<UserResponseDTO> userResponseDTOPage =
+                fromJsonToPage(toJson(result.getData()), UserResponseDTO.class);
+
+        assertEquals(
+                List.of(TEST_USERNAME, TEST_USERNAME3),
+                userResponseDTOPage.getContent().stream()
+                        .map(UserResponseDTO::getUsername)
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("Tests the successful retrieval of users slice by slice")
+    @Transactional
+    void get_BySlice_Success() throws Exception {
+        // Given
+        for (String username : List.of(TEST_USERNAME3, TEST_USERNAME, TEST_USERNAME2)) {
+            userRepository.save(
+                    buildUser(
+                            null,
+                            username,
+                            TEST_PASSWORD,
+                            null,
+                            null,
+                            TEST_USERNAME,
+                            null,
+                            null,
+                            TEST_FIRST_NAME,
+                            TEST_LAST_NAME,
+                            null,
+                            null,
+                            TEST_USERNAME,
+                            null));
+        }
+
+        Map<String, String> params =
+                Map.of(
+                        TEST_FIELD_LIMIT,
+                        String.valueOf(2),
+                        TEST_FIELD_ORDER_BY,
+                        TEST_FIELD_USERNAME,
+                        TEST_FIELD_ORDER_DIRECTION,
+                        TEST_ORDER_DIRECTION,
+                        TEST_FIELD_PAGINATION,
+                        SLICE.name());
+        String url = USER_BASE_URL + GET + "?" + toQueryString(params);
+
+        // When
+        SuccessResponseDTO firstResult =
+                performPostAndExpect(url, null, OK.value(), SuccessResponseDTO.class);
+        SliceResponseDTO<UserResponseDTO> firstSlice =
+                fromJsonToSlice(toJson(firstResult.getData()), UserResponseDTO.class);
+        SuccessResponseDTO secondResult =
+                performPostAndExpect(
+                        url + "&" + TEST_FIELD_PAGE + "=1",
+                        null,
+                        OK.value(),
+                        SuccessResponseDTO.class);
+        SliceResponseDTO<UserResponseDTO> secondSlice =
+                fromJsonToSlice(toJson(secondResult.getData()), UserResponseDTO.class);
+
+        // Then
+        assertEquals(
+                List.of(TEST_USERNAME, TEST_USERNAME2),
+                firstSlice.getContent().stream().map(UserResponseDTO::getUsername).toList());
+        assertTrue(firstSlice.isHasNext());
+        assertEquals(
+                List.of(TEST_USERNAME3),
+                secondSlice.getContent().stream().map(UserResponseDTO::getUsername).toList());
+        assertFalse(secondSlice.isHasNext());
+        assertEquals(1, secondSlice.getPage());
+    }
+
+    @Test
+    @DisplayName("Tests the successful retrieval of users page by page with a cursor")
+    @Transactional
+    void get_ByCursor_Success() throws Exception {
+        // Given
+        for (String username : List.of(TEST_USERNAME3, TEST_USERNAME, TEST_USERNAME2)) {
+            userRepository.save(
+                    buildUser(
+                            null,
+                            username,
+                            TEST_PASSWORD,
+                            null,
+                            null,
+                            TEST_USERNAME,
+                            null,
+                            null,
+                            TEST_FIRST_NAME,
+                            TEST_LAST_NAME,
+                            null,
+                            null,
+                            TEST_USERNAME,
+                            null));
+        }
+
+        Map<String, String> params =
+                Map.of(
+                        TEST_FIELD_LIMIT,
+                        String.valueOf(2),
+                        TEST_FIELD_ORDER_BY,
+                        TEST_FIELD_USERNAME,
+                        TEST_FIELD_ORDER_DIRECTION,
+                        TEST_ORDER_DIRECTION,
+                        TEST_FIELD_PAGINATION,
+                        CURSOR.name());
+        String url = USER_BASE_URL + GET + "?" + toQueryString(params);
+
+        // When
+        SuccessResponseDTO firstResult =
+                performPostAndExpect(url, null, OK.value(), SuccessResponseDTO.class);
+        CursorPageResponseDTO<UserResponseDTO> firstPage =
+                fromJsonToCursorPage(toJson(firstResult.getData()), UserResponseDTO.class);
+        SuccessResponseDTO secondResult =
+                performPostAndExpect(
+                        url + "&" + TEST_FIELD_CURSOR + "=" + firstPage.getNextCursor(),
+                        null,
+                        OK.value(),
+                        SuccessResponseDTO.class);
+        CursorPageResponseDTO<UserResponseDTO> secondPage =
+                fromJsonToCursorPage(toJson(secondResult.getData()), UserResponseDTO.class);
+
+        // Then
+        assertEquals(
+                List.of(TEST_USERNAME, TEST_USERNAME2),
+                firstPage.getContent().stream().map(UserResponseDTO::getUsername).toList());
+        assertTrue(firstPage.isHasNext());
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals(
+                List.of(TEST_USERNAME3),
+                secondPage.getContent().stream().map(UserResponseDTO::getUsername).toList());
+        assertFalse(secondPage.isHasNext());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful retrieval of users due to an invalid cursor")
+    @Transactional
+    void get_InvalidCursor() throws Exception {
+        // Given
+        Map<String, String> params =
+                Map.of(
+                        TEST_FIELD_PAGINATION,
+                        CURSOR.name(),
+                        TEST_FIELD_CURSOR,
+                        TEST_INVALID_CURSOR);
+        String url = USER_BASE_URL + GET + "?" + toQueryString(params);
+
+        // When
+        ErrorResponseDTO result =
+                performPostAndExpect(url, null, BAD_REQUEST.value(), ErrorResponseDTO.class);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(BAD_REQUEST.value(), result.getErrorCode());
+    }
+
     @Test
     @DisplayName(
             "Tests the unsuccessful retrieval of a user due to invalid date format in the filter")
@@ -382,7 +763,7 @@ public class UserControllerIT extends BaseIT {
                                 TEST_USERNAME,
                                 null));
         UserUpdateRequestDTO userUpdateRequestDTO =
-                buildUserUpdateRequestDTO(TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME);
+                buildUserUpdateRequestDTO(null, TEST_FIRST_NAME, TEST_LAST_NAME);
 
         // When
         ErrorResponseDTO result =
@@ -418,6 +799,244 @@ public class UserControllerIT extends BaseIT {
         assertEquals(BAD_REQUEST.value(), result.getErrorCode());
     }
 
+    @Test
+    @DisplayName("Tests the successful retrieval of a user by id with its ETag")
+    @Transactional
+    void getById_Success() throws Exception {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+
+        // When
+        MockHttpServletResponse response =
+                performGetAndExpect(
+                        USER_BASE_URL + "/" + user.getId(), new HttpHeaders(), OK.value());
+
+        // Then
+        SuccessResponseDTO result =
+                fromJson(response.getContentAsString(), SuccessResponseDTO.class);
+
+        assertNotNull(result);
+        assertNotNull(response.getHeader(ETAG));
+        assertUserProperties(
+                user, objectMapper.convertValue(result.getData(), UserResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Tests that a user whose ETag matches If-None-Match is not sent again")
+    @Transactional
+    void getById_NotModified() throws Exception {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        String url = USER_BASE_URL + "/" + user.getId();
+        String eTag = performGetAndExpect(url, new HttpHeaders(), OK.value()).getHeader(ETAG);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+
+        // When
+        MockHttpServletResponse response = performGetAndExpect(url, headers, NOT_MODIFIED.value());
+
+        // Then
+        assertEquals(eTag, response.getHeader(ETAG));
+        assertEquals(0, response.getContentLength());
+    }
+
+    @Test
+    @DisplayName("Tests that an updated user is sent again with a new ETag")
+    @Transactional
+    void getById_ModifiedAfterUpdate() throws Exception {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        String url = USER_BASE_URL + "/" + user.getId();
+        String eTag = performGetAndExpect(url, new HttpHeaders(), OK.value()).getHeader(ETAG);
+
+        performPatchAndExpect(
+                url,
+                buildUserUpdateRequestDTO(null, TEST_FIRST_NAME2, TEST_LAST_NAME2),
+                OK.value(),
+                SuccessResponseDTO.class);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+
+        // When
+        MockHttpServletResponse response = performGetAndExpect(url, headers, OK.value());
+
+        // Then
+        assertNotEquals(eTag, response.getHeader(ETAG));
+    }
+
+    @Test
+    @DisplayName("Tests the successful update of a user whose ETag matches If-Match")
+    @Transactional
+    void update_IfMatch_Success() throws Exception {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        String url = USER_BASE_URL + "/" + user.getId();
+        String eTag = performGetAndExpect(url, new HttpHeaders(), OK.value()).getHeader(ETAG);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(eTag);
+
+        // When
+        MockHttpServletResponse response =
+                performPatchAndExpect(
+                        url,
+                        headers,
+                        buildUserUpdateRequestDTO(null, TEST_FIRST_NAME2, TEST_LAST_NAME2),
+                        OK.value());
+
+        // Then
+        assertNotNull(response.getHeader(ETAG));
+        assertNotEquals(eTag, response.getHeader(ETAG));
+        assertEquals(
+                response.getHeader(ETAG),
+                performGetAndExpect(url, new HttpHeaders(), OK.value()).getHeader(ETAG));
+    }
+
+    @Test
+    @DisplayName("Tests the successful update of a user whose ETag is one of a list in If-Match")
+    @Transactional
+    void update_IfMatchList_Success() throws Exception {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        String url = USER_BASE_URL + "/" + user.getId();
+        String eTag = performGetAndExpect(url, new HttpHeaders(), OK.value()).getHeader(ETAG);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(List.of("\"" + user.getId() + "-" + TEST_VERSION2 + "\"", eTag));
+
+        // When
+        MockHttpServletResponse response =
+                performPatchAndExpect(
+                        url,
+                        headers,
+                        buildUserUpdateRequestDTO(null, TEST_FIRST_NAME2, TEST_LAST_NAME2),
+                        OK.value());
+
+        // Then
+        assertNotEquals(eTag, response.getHeader(ETAG));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful update of a user modified since its ETag was read")
+    @Transactional
+    void update_PreconditionFailed() throws Exception {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        String url = USER_BASE_URL + "/" + user.getId();
+        String eTag = performGetAndExpect(url, new HttpHeaders(), OK.value()).getHeader(ETAG);
+
+        performPatchAndExpect(
+                url,
+                buildUserUpdateRequestDTO(null, TEST_FIRST_NAME2, null),
+                OK.value(),
+                SuccessResponseDTO.class);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(eTag);
+
+        // When
+        MockHttpServletResponse response =
+                performPatchAndExpect(
+                        url,
+                        headers,
+                        buildUserUpdateRequestDTO(null, null, TEST_LAST_NAME2),
+                        PRECONDITION_FAILED.value());
+
+        // Then
+        ErrorResponseDTO result = fromJson(response.getContentAsString(), ErrorResponseDTO.class);
+
+        assertEquals(PRECONDITION_FAILED.value(), result.getErrorCode());
+
+        entityManager.clear();
+
+        assertEquals(
+                TEST_LAST_NAME,
+                userRepository
+                        .findById(user.getId())
+                        .map(found -> found.getDetails().getLastName())
+                        .orElse(null));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful deletion of a user whose ETag does not match If-Match")
+    @Transactional
+    void delete_PreconditionFailed() throws Exception {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        String url = USER_BASE_URL + "/" + user.getId();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch("\"" + user.getId() + "-" + TEST_VERSION2 + "\"");
+
+        // When
+        MockHttpServletResponse response =
+                performDeleteAndExpect(url, headers, PRECONDITION_FAILED.value());
+
+        // Then
+        ErrorResponseDTO result = fromJson(response.getContentAsString(), ErrorResponseDTO.class);
+
+        assertEquals(PRECONDITION_FAILED.value(), result.getErrorCode());
+        assertTrue(userRepository.existsById(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Tests the successful deletion of a user whose ETag matches If-Match")
+    @Transactional
+    void delete_IfMatch_Success() throws Exception {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        String url = USER_BASE_URL + "/" + user.getId();
+        String eTag = performGetAndExpect(url, new HttpHeaders(), OK.value()).getHeader(ETAG);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(eTag);
+
+        // When
+        performDeleteAndExpect(url, headers, OK.value());
+
+        // Then
+        assertFalse(userRepository.existsById(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Tests the successful deletion of a user whose ETag matches a weak If-Match tag")
+    @Transactional
+    void delete_IfMatchWeak_Success() throws Exception {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        String url = USER_BASE_URL + "/" + user.getId();
+        String eTag = performGetAndExpect(url, new HttpHeaders(), OK.value()).getHeader(ETAG);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch("W/" + eTag);
+
+        // When
+        performDeleteAndExpect(url, headers, OK.value());
+
+        // Then
+        assertFalse(userRepository.existsById(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful retrieval of a user by id due to the user not being found")
+    @Transactional
+    void getById_UserNotFound() throws Exception {
+        // Given
+
+        // When
+        MockHttpServletResponse response =
+                performGetAndExpect(
+                        USER_BASE_URL + "/" + TEST_ID, new HttpHeaders(), NOT_FOUND.value());
+
+        // Then
+        ErrorResponseDTO result = fromJson(response.getContentAsString(), ErrorResponseDTO.class);
+
+        assertNotNull(result);
+        assertEquals(NOT_FOUND.value(), result.getErrorCode());
+    }
+
     @Test
     @DisplayName("Tests the successful deletion of a user")
     @Transactional
@@ -467,6 +1086,190 @@ public class UserControllerIT extends BaseIT {
         assertEquals(NOT_FOUND.value(), result.getErrorCode());
     }
 
+    @Test
+    @DisplayName("Tests the successful update of the details of the users matching a filter")
+    @Transactional
+    void updateDetails_Success() throws Exception {
+        // Given
+        saveUser(TEST_USERNAME);
+        saveUser(TEST_USERNAME2);
+        saveUser(TEST_USERNAME3);
+
+        UserBulkUpdateRequestDTO userBulkUpdateRequestDTO =
+                UserBulkUpdateRequestDTO.builder()
+                        .filters(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME,
+                                                IN,
+                                                List.of(TEST_USERNAME, TEST_USERNAME3))))
+                        .details(
+                                UserDetailsPatchRequestDTO.builder()
+                                        .lastName(TEST_LAST_NAME2)
+                                        .build())
+                        .build();
+
+        // When
+        SuccessResponseDTO result =
+                performPostAndExpect(
+                        USER_BASE_URL + UPDATE,
+                        userBulkUpdateRequestDTO,
+                        OK.value(),
+                        SuccessResponseDTO.class);
+
+        // Then
+        entityManager.clear();
+
+        assertNotNull(result);
+        assertEquals(
+                2, objectMapper.convertValue(result.getData(), BulkResponseDTO.class).getCount());
+        assertEquals(
+                List.of(TEST_LAST_NAME2, TEST_LAST_NAME, TEST_LAST_NAME2),
+                userRepository.findAll(Sort.by(TEST_FIELD_USERNAME)).stream()
+                        .map(user -> user.getDetails().getLastName())
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful update of the details of users due to invalid details")
+    @Transactional
+    void updateDetails_InvalidDetails() throws Exception {
+        // Given
+        UserBulkUpdateRequestDTO userBulkUpdateRequestDTO =
+                UserBulkUpdateRequestDTO.builder()
+                        .filters(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null)))
+                        .details(
+                                UserDetailsPatchRequestDTO.builder()
+                                        .lastName(TEST_INVALID_SHORT_NAME)
+                                        .build())
+                        .build();
+
+        // When
+        ErrorResponseDTO result =
+                performPostAndExpect(
+                        USER_BASE_URL + UPDATE,
+                        userBulkUpdateRequestDTO,
+                        BAD_REQUEST.value(),
+                        ErrorResponseDTO.class);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(BAD_REQUEST.value(), result.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Tests the successful deletion of the users matching a filter")
+    @Transactional
+    void deleteByFilter_Success() throws Exception {
+        // Given
+        saveUser(TEST_USERNAME);
+        saveUser(TEST_USERNAME2);
+        saveUser(TEST_USERNAME3);
+
+        List<FilteringDTO> filteringDTOList =
+                List.of(
+                        buildFilteringDTO(
+                                TEST_FIELD_USERNAME, IN, List.of(TEST_USERNAME, TEST_USERNAME3)));
+
+        // When
+        SuccessResponseDTO result =
+                performPostAndExpect(
+                        USER_BASE_URL + DELETE,
+                        filteringDTOList,
+                        OK.value(),
+                        SuccessResponseDTO.class);
+
+        // Then
+        assertNotNull(result);
+
+        BulkResponseDTO bulk = objectMapper.convertValue(result.getData(), BulkResponseDTO.class);
+
+        assertEquals(2, bulk.getCount());
+        assertFalse(bulk.isDryRun());
+        assertEquals(
+                List.of(TEST_USERNAME2),
+                userRepository.findAll().stream().map(User::getUsername).toList());
+    }
+
+    @Test
+    @DisplayName("Tests that a dry run of a delete by filter only counts the matching users")
+    @Transactional
+    void deleteByFilter_DryRun() throws Exception {
+        // Given
+        saveUser(TEST_USERNAME);
+        saveUser(TEST_USERNAME2);
+
+        List<FilteringDTO> filteringDTOList =
+                List.of(buildFilteringDTO(TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null));
+
+        // When
+        SuccessResponseDTO result =
+                performPostAndExpect(
+                        USER_BASE_URL + DELETE + "?dryRun=true",
+                        filteringDTOList,
+                        OK.value(),
+                        SuccessResponseDTO.class);
+
+        // Then
+        assertNotNull(result);
+
+        BulkResponseDTO bulk = objectMapper.convertValue(result.getData(), BulkResponseDTO.class);
+
+        assertEquals(1, bulk.getCount());
+        assertTrue(bulk.isDryRun());
+        assertEquals(2, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful deletion of users due to a missing filter")
+    @Transactional
+    void deleteByFilter_NoFilter() throws Exception {
+        // Given
+        saveUser(TEST_USERNAME);
+
+        // When
+        ErrorResponseDTO result =
+                performPostAndExpect(
+                        USER_BASE_URL + DELETE,
+                        List.of(),
+                        BAD_REQUEST.value(),
+                        ErrorResponseDTO.class);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(BAD_REQUEST.value(), result.getErrorCode());
+        assertEquals(1, userRepository.count());
+    }
+
+    /**
+     * Saves and flushes a user with the test properties and the given username, so that its
+     * timestamps are set.
+     *
+     * @param username the username
+     * @return the saved user
+     */
+    private User saveUser(String username) {
+        return userRepository.saveAndFlush(
+                buildUser(
+                        null,
+                        username,
+                        TEST_PASSWORD,
+                        null,
+                        null,
+                        TEST_USERNAME,
+                        null,
+                        null,
+                        TEST_FIRST_NAME,
+                        TEST_LAST_NAME,
+                        null,
+                        null,
+                        TEST_USERNAME,
+                        null));
+    }
+
     /**
      * Asserts the properties of the given user.
      *
@@ -0,0 +1,295 @@
+package com.example.domain.user.repository;
+
+import static com.example.Constants.*;
+import static com.example.TestUtils.buildFilteringDTO;
+import static com.example.TestUtils.buildUser;
+import static com.example.enums.FilterOperator.EQUALS;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.domain.user.dto.response.UserResponseDTO;
+import com.example.domain.user.mapper.IUserMapper;
+import com.example.domain.user.model.User;
+import com.example.domain.user.model.UserDetails;
+import com.example.domain.user.specification.UserSpecification;
+import com.example.enums.CountStrategy;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserRepositoryTests {
+    @Autowired private IUserRepository userRepository;
+    @Autowired private IUserDetailsRepository userDetailsRepository;
+    @Autowired private UserSpecification userSpecification;
+    @Autowired private EntityManager entityManager;
+    @Autowired private UserResponseProjection userResponseProjection;
+    @Autowired private IUserMapper userMapper;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Tests that a row stored without a version is loaded at version 0")
+    @Transactional
+    void findById_LegacyVersion() {
+        // Given
+        jdbcTemplate.update(
+                "INSERT INTO user_details (id, created_at, created_by, updated_at, first_name,"
+                        + " last_name) VALUES (?, CURRENT_TIMESTAMP, ?, CURRENT_TIMESTAMP, ?, ?)",
+                TEST_LEGACY_ID,
+                TEST_USERNAME,
+                TEST_FIRST_NAME,
+                TEST_LAST_NAME);
+
+        // When
+        UserDetails userDetails = userDetailsRepository.findById(TEST_LEGACY_ID).orElseThrow();
+
+        // Then
+        assertEquals(0L, userDetails.getVersion());
+    }
+
+    @Test
+    @DisplayName("Tests the successful retrieval of a page and its total in a single statement")
+    @Transactional
+    void findAll_WindowCount_Success() {
+        // Given
+        saveUsers();
+
+        Specification<User> specification =
+                userSpecification.buildSpecification(
+                        null, TEST_FIELD_USERNAME, TEST_ORDER_DIRECTION);
+
+        // When
+        Page<UserResponseDTO> page =
+                userRepository.findAll(
+                        specification,
+                        PageRequest.of(0, 2),
+                        userResponseProjection,
+                        CountStrategy.WINDOW);
+
+        // Then
+        assertEquals(
+                List.of(TEST_USERNAME, TEST_USERNAME2),
+                page.getContent().stream().map(UserResponseDTO::getUsername).toList());
+        assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Tests that the window function total only counts the filtered rows")
+    @Transactional
+    void findAll_WindowCount_Filtered() {
+        // Given
+        saveUsers();
+
+        Specification<User> specification =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null))),
+                        null,
+                        null);
+
+        // When
+        Page<UserResponseDTO> page =
+                userRepository.findAll(
+                        specification,
+                        PageRequest.of(0, 1),
+                        userResponseProjection,
+                        CountStrategy.WINDOW);
+
+        // Then
+        assertEquals(1, page.getContent().size());
+        assertEquals(1, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Tests the successful retrieval of a page with a sorted pageable and no filter")
+    @Transactional
+    void findAll_WindowCount_SortedPageable() {
+        // Given
+        saveUsers();
+
+        // When
+        Page<UserResponseDTO> page =
+                userRepository.findAll(
+                        null,
+                        PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, TEST_FIELD_USERNAME)),
+                        userResponseProjection,
+                        CountStrategy.WINDOW);
+
+        // Then
+        assertEquals(
+                List.of(TEST_USERNAME3),
+                page.getContent().stream().map(UserResponseDTO::getUsername).toList());
+        assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Tests that the total is still counted for a page past the last one")
+    @Transactional
+    void findAll_WindowCount_PastLastPage() {
+        // Given
+        saveUsers();
+
+        Specification<User> specification = userSpecification.buildSpecification(null, null, null);
+
+        // When
+        Page<UserResponseDTO> page =
+                userRepository.findAll(
+                        specification,
+                        PageRequest.of(5, 2),
+                        userResponseProjection,
+                        CountStrategy.WINDOW);
+
+        // Then
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Tests the successful projection of users without loading entities")
+    @Transactional
+    void findAll_Projection_Success() {
+        // Given
+        saveUsers();
+        userRepository.flush();
+        entityManager.clear();
+
+        Specification<User> specification =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_DETAILS_FIRST_NAME,
+                                                EQUALS,
+                                                TEST_FIRST_NAME,
+                                                null))),
+                        TEST_FIELD_USERNAME,
+                        TEST_ORDER_DIRECTION);
+        List<UserResponseDTO> expected =
+                userRepository.findAll(specification).stream()
+                        .map(userMapper::toResponseDTO)
+                        .toList();
+        entityManager.clear();
+
+        // When
+        Page<UserResponseDTO> page =
+                userRepository.findAll(
+                        specification,
+                        PageRequest.of(0, 10),
+                        userResponseProjection,
+                        CountStrategy.WINDOW);
+
+        // Then
+        assertEquals(expected, page.getContent());
+        assertEquals(3, page.getTotalElements());
+        assertEquals(
+                0,
+                entityManager
+                        .unwrap(SessionImplementor.class)
+                        .getPersistenceContextInternal()
+                        .getNumberOfManagedEntities());
+    }
+
+    @Test
+    @DisplayName("Tests that a prefix search on the normalized username is an index range scan")
+    void usernameNormalizedIndex_RangeScan() {
+        // Given
+        String sql = "EXPLAIN SELECT id FROM users WHERE username_normalized LIKE 'te%'";
+
+        // When
+        String plan = String.valueOf(entityManager.createNativeQuery(sql).getSingleResult());
+
+        // Then
+        assertTrue(plan.contains("IDX_USERS_USERNAME_NORMALIZED"), plan);
+        assertTrue(plan.contains("USERNAME_NORMALIZED >="), plan);
+    }
+
+    @Test
+    @DisplayName("Tests the successful retrieval of the ids of the filtered users up to a limit")
+    @Transactional
+    void findIds_Success() {
+        // Given
+        saveUsers();
+
+        List<Long> expected =
+                userRepository.findAll().stream().map(User::getId).sorted().limit(2).toList();
+
+        // When
+        List<Long> ids =
+                userRepository.findIds(userSpecification.buildSpecification(null, null, null), 2);
+
+        // Then
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    @DisplayName(
+            "Tests that a bulk update also sets the normalized shadow, audit and version fields")
+    @Transactional
+    void updateAllByIdInBatch_Success() {
+        // Given
+        saveUsers();
+        userRepository.flush();
+
+        List<Long> detailsIds =
+                userRepository.findDetailsIds(
+                        userRepository.findAll().stream().map(User::getId).toList());
+        entityManager.clear();
+
+        // When
+        int updated =
+                userDetailsRepository.updateAllByIdInBatch(
+                        detailsIds, Map.of("firstName", TEST_FIRST_NAME2), TEST_USERNAME2);
+        entityManager.clear();
+
+        // Then
+        assertEquals(3, updated);
+
+        for (UserDetails details : userDetailsRepository.findAllById(detailsIds)) {
+            assertEquals(TEST_FIRST_NAME2, details.getFirstName());
+            assertEquals(
+                    TEST_FIRST_NAME2.toLowerCase(Locale.ROOT), details.getFirstNameNormalized());
+            assertEquals(TEST_LAST_NAME, details.getLastName());
+            assertEquals(TEST_USERNAME2, details.getUpdatedBy());
+            assertTrue(details.getUpdatedAt().isAfter(details.getCreatedAt()));
+            assertEquals(TEST_VERSION2, details.getVersion());
+        }
+    }
+
+    /** Saves three users with different usernames. */
+    private void saveUsers() {
+        for (String username : List.of(TEST_USERNAME2, TEST_USERNAME3, TEST_USERNAME)) {
+            userRepository.save(
+                    buildUser(
+                            null,
+                            username,
+                            TEST_PASSWORD,
+                            null,
+                            null,
+                            TEST_USERNAME,
+                            null,
+                            null,
+                            TEST_FIRST_NAME,
+                            TEST_LAST_NAME,
+                            null,
+                            null,
+                            TEST_USERNAME,
+                            null));
+        }
+    }
+}
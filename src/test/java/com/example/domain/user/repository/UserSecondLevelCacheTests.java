@@ -0,0 +1,195 @@
+package com.example.domain.user.repository;
+
+import static com.example.Constants.*;
+import static com.example.TestUtils.buildUserCreateRequestDTO;
+import static com.example.TestUtils.buildUserUpdateRequestDTO;
+import static com.example.constants.Constants.USER_REGION;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.domain.user.dto.response.UserResponseDTO;
+import com.example.domain.user.model.User;
+import com.example.domain.user.service.IUserService;
+import com.example.exception.ConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/** Tests that point loads of users are served from the second-level cache. */
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserSecondLevelCacheTests {
+    @Autowired private IUserService userService;
+    @Autowired private IUserRepository userRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Tests that a repeated load by id does not hit the database")
+    void findById_CacheHit() {
+        // Given
+        UserResponseDTO user =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        sessionFactory.getCache().evictAllRegions();
+        userRepository.findById(user.getId());
+
+        double hits = countRegionHits();
+
+        // When
+        long statements = countStatements(() -> userRepository.findById(user.getId()));
+
+        // Then
+        assertEquals(0, statements);
+        assertEquals(hits + 1, countRegionHits());
+    }
+
+    @Test
+    @DisplayName("Tests that a repeated load by username does not hit the database")
+    void findByNaturalId_CacheHit() {
+        // Given
+        UserResponseDTO user =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        sessionFactory.getCache().evictAllRegions();
+        userRepository.findByNaturalId(TEST_USERNAME);
+
+        long naturalIdHits = statistics.getNaturalIdCacheHitCount();
+
+        // When
+        Optional<User> found = userRepository.findByNaturalId(TEST_USERNAME);
+        long statements = countStatements(() -> userRepository.findByNaturalId(TEST_USERNAME));
+
+        // Then
+        assertEquals(user.getId(), found.map(User::getId).orElse(null));
+        assertEquals(0, statements);
+        assertTrue(statistics.getNaturalIdCacheHitCount() > naturalIdHits);
+    }
+
+    @Test
+    @DisplayName("Tests that creating a taken username is rejected from the natural-id cache")
+    void create_UsernameTaken_CacheHit() {
+        // Given
+        userService.create(
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        sessionFactory.getCache().evictAllRegions();
+        userRepository.findByNaturalId(TEST_USERNAME);
+
+        long before = statistics.getPrepareStatementCount();
+
+        // When
+        assertThrows(
+                ConflictException.class,
+                () ->
+                        userService.create(
+                                buildUserCreateRequestDTO(
+                                        TEST_USERNAME,
+                                        TEST_PASSWORD,
+                                        TEST_FIRST_NAME,
+                                        TEST_LAST_NAME)));
+
+        // Then
+        assertEquals(before, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Tests that an update refreshes the cached user instead of serving a stale one")
+    void findById_AfterUpdate() {
+        // Given
+        UserResponseDTO user =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        userRepository.findById(user.getId());
+
+        // When
+        userService.update(
+                user.getId(),
+                buildUserUpdateRequestDTO(null, TEST_FIRST_NAME2, TEST_LAST_NAME2),
+                null);
+        Optional<User> found = userRepository.findById(user.getId());
+
+        // Then
+        assertEquals(
+                TEST_LAST_NAME2,
+                found.map(cached -> cached.getDetails().getLastName()).orElse(null));
+    }
+
+    @Test
+    @DisplayName("Tests that a delete does not leave the cached user behind")
+    void findById_AfterDelete() {
+        // Given
+        UserResponseDTO user =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        userRepository.findById(user.getId());
+        userRepository.findByNaturalId(TEST_USERNAME);
+
+        // When
+        userService.delete(user.getId(), List.of(user.getVersion()));
+
+        // Then
+        assertTrue(userRepository.findById(user.getId()).isEmpty());
+        assertTrue(userRepository.findByNaturalId(TEST_USERNAME).isEmpty());
+    }
+
+    /**
+     * Counts the statements prepared by a call.
+     *
+     * @param call the call
+     * @return the number of prepared statements
+     */
+    private long countStatements(Supplier<?> call) {
+        long before = statistics.getPrepareStatementCount();
+
+        call.get();
+
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    /**
+     * Counts the hits of the user region.
+     *
+     * @return the number of hits
+     */
+    private double countRegionHits() {
+        return meterRegistry
+                .get("hibernate.second.level.cache.requests")
+                .tags("region", USER_REGION, "result", "hit")
+                .functionCounter()
+                .count();
+    }
+}
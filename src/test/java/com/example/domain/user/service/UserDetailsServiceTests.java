@@ -1,11 +1,11 @@
 package com.example.domain.user.service;
 
 import static com.example.Constants.*;
+import static com.example.domain.user.specification.UserSpecification.FIELD_FIRST_NAME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import com.example.domain.user.dto.request.UserDetailsRequestDTO;
-import com.example.domain.user.model.UserDetails;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,31 +18,28 @@ public class UserDetailsServiceTests {
     @InjectMocks private UserDetailsServiceImpl userDetailsService;
 
     @Test
-    @DisplayName("Tests the successful update of user details.")
-    public void updateUserDetails_Success() {
+    @DisplayName("Tests that only the given user details are updated.")
+    public void buildUpdateValues_Success() {
         // Given
-        UserDetails userDetails =
-                UserDetails.builder().firstName(TEST_FIRST_NAME).lastName(TEST_LAST_NAME).build();
-        UserDetailsRequestDTO userDetailsRequestDTO =
-                UserDetailsRequestDTO.builder().firstName(TEST_FIRST_NAME2).build();
+        String firstName = TEST_FIRST_NAME2;
 
         // When
-        boolean result = userDetailsService.updateUserDetails(userDetails, userDetailsRequestDTO);
+        Map<String, Object> result = userDetailsService.buildUpdateValues(firstName, null);
 
         // Then
-        assertTrue(result);
+        assertEquals(Map.of(FIELD_FIRST_NAME, TEST_FIRST_NAME2), result);
     }
 
     @Test
-    @DisplayName("Tests the successful update of audit fields.")
-    public void updateAuditFields_Success() {
+    @DisplayName("Tests that no user details are updated when none are given.")
+    public void buildUpdateValues_Empty() {
         // Given
-        UserDetails userDetails = new UserDetails();
+        String firstName = null;
 
         // When
-        userDetailsService.updateAuditFields(userDetails, true);
+        Map<String, Object> result = userDetailsService.buildUpdateValues(firstName, null);
 
         // Then
-        assertEquals("unknown", userDetails.getUpdatedBy());
+        assertTrue(result.isEmpty());
     }
 }
@@ -0,0 +1,275 @@
+package com.example.domain.user.service;
+
+import static com.example.Constants.*;
+import static com.example.TestUtils.*;
+import static com.example.constants.Constants.USERS_CACHE;
+import static com.example.enums.FilterOperator.EQUALS;
+import static com.example.enums.FilterOperator.STARTS_WITH;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.domain.user.dto.request.UserDetailsPatchRequestDTO;
+import com.example.domain.user.dto.response.UserResponseDTO;
+import com.example.domain.user.repository.IUserRepository;
+import com.example.exception.NotFoundException;
+import com.example.utils.dto.request.FilteringDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Tests the result cache of the user listing and its invalidation by committed writes. */
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserServiceCacheTests {
+    @Autowired private IUserService userService;
+    @Autowired private IUserRepository userRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics =
+                entityManager
+                        .getEntityManagerFactory()
+                        .unwrap(SessionFactory.class)
+                        .getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Tests that an identical listing with reordered filters is served from the cache")
+    void get_CacheHit() {
+        // Given
+        userService.create(
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        double hits = countHits();
+        List<FilteringDTO> filters =
+                List.of(
+                        buildFilteringDTO(TEST_FIELD_USERNAME, STARTS_WITH, TEST_USERNAME, null),
+                        buildFilteringDTO(
+                                TEST_FIELD_DETAILS_FIRST_NAME, EQUALS, TEST_FIRST_NAME, null));
+
+        // When
+        Page<UserResponseDTO> first = list(filters);
+        long statements = countStatements(() -> list(List.of(filters.get(1), filters.get(0))));
+
+        // Then
+        assertEquals(1, first.getTotalElements());
+        assertEquals(0, statements);
+        assertEquals(hits + 1, countHits());
+    }
+
+    @Test
+    @DisplayName("Tests that committed creates, updates and deletes invalidate cached listings")
+    void get_InvalidatedByWrites() {
+        // Given
+        UserResponseDTO user =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        list(List.of());
+
+        // When
+        userService.create(
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME2, TEST_PASSWORD, TEST_FIRST_NAME2, TEST_LAST_NAME2));
+        Page<UserResponseDTO> afterCreate = list(List.of());
+
+        userService.update(
+                user.getId(),
+                buildUserUpdateRequestDTO(null, TEST_FIRST_NAME, TEST_LAST_NAME2),
+                null);
+        Page<UserResponseDTO> afterUpdate = list(List.of());
+
+        userService.delete(user.getId(), null);
+        Page<UserResponseDTO> afterDelete = list(List.of());
+
+        // Then
+        assertEquals(2, afterCreate.getTotalElements());
+        assertEquals(TEST_LAST_NAME2, afterUpdate.getContent().get(0).getDetails().getLastName());
+        assertEquals(1, afterDelete.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Tests that a user read by id is cached until a committed update")
+    void get_ById_CachedUntilUpdate() {
+        // Given
+        UserResponseDTO user =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        userService.get(user.getId());
+
+        // When
+        long statements = countStatements(() -> userService.get(user.getId()));
+
+        userService.update(
+                user.getId(),
+                buildUserUpdateRequestDTO(null, TEST_FIRST_NAME, TEST_LAST_NAME2),
+                null);
+        UserResponseDTO afterUpdate = userService.get(user.getId());
+
+        // Then
+        assertEquals(0, statements);
+        assertEquals(TEST_LAST_NAME2, afterUpdate.getDetails().getLastName());
+    }
+
+    @Test
+    @DisplayName("Tests that a committed update only evicts the updated user from the cache")
+    void get_ById_OtherUsersKept() {
+        // Given
+        UserResponseDTO user =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+        UserResponseDTO other =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME2, TEST_PASSWORD, TEST_FIRST_NAME2, TEST_LAST_NAME2));
+
+        userService.get(user.getId());
+        userService.get(other.getId());
+
+        // When
+        userService.update(
+                user.getId(),
+                buildUserUpdateRequestDTO(null, TEST_FIRST_NAME, TEST_LAST_NAME2),
+                null);
+        long statements = countStatements(() -> userService.get(other.getId()));
+
+        // Then
+        assertEquals(0, statements);
+    }
+
+    @Test
+    @DisplayName("Tests that a committed delete by filter invalidates cached users and listings")
+    void get_InvalidatedByBulkDelete() {
+        // Given
+        UserResponseDTO user =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        userService.get(user.getId());
+        list(List.of());
+
+        // When
+        userService.delete(
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringDTO(
+                                        TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null))),
+                false);
+        Page<UserResponseDTO> afterDelete = list(List.of());
+
+        // Then
+        assertEquals(0, afterDelete.getTotalElements());
+        assertThrows(NotFoundException.class, () -> userService.get(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Tests that a committed update by filter invalidates cached users")
+    void get_ById_InvalidatedByBulkUpdate() {
+        // Given
+        UserResponseDTO user =
+                userService.create(
+                        buildUserCreateRequestDTO(
+                                TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        userService.get(user.getId());
+
+        // When
+        userService.updateDetails(
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringDTO(
+                                        TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null))),
+                UserDetailsPatchRequestDTO.builder().lastName(TEST_LAST_NAME2).build());
+        UserResponseDTO afterUpdate = userService.get(user.getId());
+
+        // Then
+        assertEquals(TEST_LAST_NAME2, afterUpdate.getDetails().getLastName());
+    }
+
+    @Test
+    @DisplayName("Tests that listings inside a transaction are not cached")
+    void get_InsideTransaction() {
+        // Given
+        userService.create(
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME));
+
+        // When
+        long statements =
+                transactionTemplate.execute(
+                        status -> {
+                            list(List.of());
+
+                            return countStatements(() -> list(List.of()));
+                        });
+
+        // Then
+        assertTrue(statements > 0);
+    }
+
+    /**
+     * Lists the first page of users ordered by id.
+     *
+     * @param filters the search parameters
+     * @return the page of response DTOs
+     */
+    private Page<UserResponseDTO> list(List<FilteringDTO> filters) {
+        return userService.get(
+                0, TEST_LIMIT, TEST_ORDER_BY, TEST_ORDER_DIRECTION, new ArrayList<>(filters));
+    }
+
+    /**
+     * Counts the statements prepared by a call.
+     *
+     * @param call the call
+     * @return the number of prepared statements
+     */
+    private long countStatements(Supplier<?> call) {
+        statistics.clear();
+
+        call.get();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Counts the hits of the users cache.
+     *
+     * @return the number of hits
+     */
+    private double countHits() {
+        return meterRegistry
+                .get("cache.gets")
+                .tags("cache", USERS_CACHE, "result", "hit")
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.domain.user.service;
+
+import static com.example.Constants.*;
+import static com.example.TestUtils.buildFilteringDTO;
+import static com.example.TestUtils.buildUser;
+import static com.example.TestUtils.buildUserUpdateRequestDTO;
+import static com.example.enums.FilterOperator.EQUALS;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.domain.user.model.User;
+import com.example.domain.user.repository.IUserRepository;
+import com.example.exception.NotModifiedException;
+import com.example.utils.dto.request.FilteringDTO;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Guards the number of statements executed per listing page against N+1 selects, per bulk insert
+ * against one round trip per row, and per update against loading the user first.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserServiceStatementCountTests {
+    private static final int USERS = 6;
+    private static final int BULK_USERS = 20;
+
+    @Autowired private IUserService userService;
+    @Autowired private IUserRepository userRepository;
+    @Autowired private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics =
+                entityManager
+                        .getEntityManagerFactory()
+                        .unwrap(SessionFactory.class)
+                        .getStatistics();
+    }
+
+    @Test
+    @DisplayName("Tests that a page of users costs the same number of statements for any page size")
+    @Transactional
+    void get_ConstantStatementCount() {
+        // Given
+        saveUsers();
+
+        // When
+        long small =
+                countStatements(
+                        limit ->
+                                userService.get(
+                                        0, limit, TEST_FIELD_USERNAME, TEST_ORDER_DIRECTION, null),
+                        1);
+        long large =
+                countStatements(
+                        limit ->
+                                userService.get(
+                                        0, limit, TEST_FIELD_USERNAME, TEST_ORDER_DIRECTION, null),
+                        USERS - 1);
+
+        // Then
+        assertEquals(2, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    @DisplayName(
+            "Tests that a slice of users costs the same number of statements for any page size")
+    @Transactional
+    void getSlice_ConstantStatementCount() {
+        // Given
+        saveUsers();
+
+        // When
+        long small =
+                countStatements(
+                        limit ->
+                                userService.getSlice(
+                                        0,
+                                        limit,
+                                        TEST_FIELD_USERNAME,
+                                        TEST_ORDER_DIRECTION,
+                                        detailsFilter()),
+                        1);
+        long large =
+                countStatements(
+                        limit ->
+                                userService.getSlice(
+                                        0,
+                                        limit,
+                                        TEST_FIELD_USERNAME,
+                                        TEST_ORDER_DIRECTION,
+                                        detailsFilter()),
+                        USERS - 1);
+
+        // Then
+        assertEquals(1, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    @DisplayName(
+            "Tests that a cursor page of users costs the same number of statements for any page size")
+    @Transactional
+    void getByCursor_ConstantStatementCount() {
+        // Given
+        saveUsers();
+
+        // When
+        long small =
+                countStatements(
+                        limit ->
+                                userService.getByCursor(
+                                        null,
+                                        limit,
+                                        TEST_FIELD_USERNAME,
+                                        TEST_ORDER_DIRECTION,
+                                        null),
+                        1);
+        long large =
+                countStatements(
+                        limit ->
+                                userService.getByCursor(
+                                        null,
+                                        limit,
+                                        TEST_FIELD_USERNAME,
+                                        TEST_ORDER_DIRECTION,
+                                        null),
+                        USERS - 1);
+
+        // Then
+        assertEquals(1, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    @DisplayName("Tests that bulk inserts of users are batched instead of sent row by row")
+    @Transactional
+    void save_BatchedInserts() {
+        // Given
+        statistics.clear();
+
+        // When
+        saveUsers(BULK_USERS);
+
+        // Then
+        assertTrue(statistics.getPrepareStatementCount() < BULK_USERS);
+    }
+
+    @Test
+    @DisplayName("Tests that an update of a user costs two UPDATEs and one projection read")
+    @Transactional
+    void update_ConditionalStatements() {
+        // Given
+        saveUsers(1);
+
+        Long id = userRepository.findAll().get(0).getId();
+
+        // When
+        long statements =
+                countStatements(
+                        limit ->
+                                userService.update(
+                                        id,
+                                        buildUserUpdateRequestDTO(null, null, TEST_LAST_NAME2),
+                                        null),
+                        0);
+
+        // Then
+        assertEquals(3, statements);
+    }
+
+    @Test
+    @DisplayName("Tests that an update changing nothing writes no row")
+    @Transactional
+    void update_NoChange_NoWrite() {
+        // Given
+        saveUsers(1);
+
+        User user = userRepository.findAll().get(0);
+        Long id = user.getId();
+        Long version = user.getVersion();
+
+        // When
+        long statements =
+                countStatements(
+                        limit ->
+                                assertThrows(
+                                        NotModifiedException.class,
+                                        () ->
+                                                userService.update(
+                                                        id,
+                                                        buildUserUpdateRequestDTO(
+                                                                null, null, TEST_LAST_NAME),
+                                                        List.of(version))),
+                        0);
+
+        // Then
+        assertEquals(2, statements);
+        assertEquals(version, userRepository.findById(id).map(User::getVersion).orElse(null));
+    }
+
+    /**
+     * Counts the statements prepared by a listing call on an empty persistence context.
+     *
+     * @param listing the listing call taking the page size
+     * @param limit the page size
+     * @return the number of prepared statements
+     */
+    private long countStatements(IntConsumer listing, int limit) {
+        entityManager.clear();
+        statistics.clear();
+
+        listing.accept(limit);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Builds a filter on the fetched details association.
+     *
+     * @return the search parameters
+     */
+    private List<FilteringDTO> detailsFilter() {
+        return new ArrayList<>(
+                List.of(
+                        buildFilteringDTO(
+                                TEST_FIELD_DETAILS_FIRST_NAME, EQUALS, TEST_FIRST_NAME, null)));
+    }
+
+    /** Saves users with different usernames and flushes them. */
+    private void saveUsers() {
+        saveUsers(USERS);
+    }
+
+    /**
+     * Saves users with different usernames and flushes them.
+     *
+     * @param count the number of users
+     */
+    private void saveUsers(int count) {
+        for (int i = 0; i < count; i++) {
+            userRepository.save(
+                    buildUser(
+                            null,
+                            TEST_USERNAME + i,
+                            TEST_PASSWORD,
+                            null,
+                            null,
+                            TEST_USERNAME,
+                            null,
+                            null,
+                            TEST_FIRST_NAME,
+                            TEST_LAST_NAME,
+                            null,
+                            null,
+                            TEST_USERNAME,
+                            null));
+        }
+
+        userRepository.flush();
+    }
+}
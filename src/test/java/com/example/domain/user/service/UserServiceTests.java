@@ -1,37 +1,72 @@
 package com.example.domain.user.service;
 
 import static com.example.Constants.*;
+import static com.example.TestUtils.buildUserCreateRequestDTO;
+import static com.example.constants.Constants.UK_USERS_USERNAME;
+import static com.example.domain.user.specification.UserSpecification.FIELD_DETAILS;
+import static com.example.domain.user.specification.UserSpecification.FIELD_FIRST_NAME;
+import static com.example.domain.user.specification.UserSpecification.FIELD_LAST_NAME;
+import static com.example.domain.user.specification.UserSpecification.FIELD_PASSWORD;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.example.base.repository.IDeleteCondition;
+import com.example.base.repository.IUpdateCondition;
+import com.example.config.BulkProperties;
+import com.example.config.PaginationProperties;
+import com.example.config.ResultCacheInvalidator;
 import com.example.domain.user.dto.request.UserCreateRequestDTO;
+import com.example.domain.user.dto.request.UserDetailsPatchRequestDTO;
 import com.example.domain.user.dto.request.UserDetailsRequestDTO;
 import com.example.domain.user.dto.request.UserUpdateRequestDTO;
+import com.example.domain.user.dto.response.UserBatchItemResponseDTO;
 import com.example.domain.user.dto.response.UserResponseDTO;
 import com.example.domain.user.mapper.IUserMapper;
 import com.example.domain.user.model.User;
 import com.example.domain.user.model.UserDetails;
+import com.example.domain.user.repository.IUserDetailsRepository;
 import com.example.domain.user.repository.IUserRepository;
+import com.example.domain.user.repository.UserResponseProjection;
 import com.example.domain.user.specification.UserSpecification;
+import com.example.enums.BatchItemStatus;
+import com.example.enums.CountStrategy;
+import com.example.exception.BulkLimitExceededException;
 import com.example.exception.ConflictException;
+import com.example.exception.InvalidFilterException;
 import com.example.exception.NotFoundException;
 import com.example.exception.NotModifiedException;
+import com.example.exception.PreconditionFailedException;
 import com.example.utils.dto.request.FilteringDTO;
+import com.example.utils.dto.response.CursorPageResponseDTO;
+import com.example.utils.dto.response.SliceResponseDTO;
 import com.example.utils.service.IMessageService;
+import com.example.utils.service.IPasswordHashingService;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /** Unit tests for {@link UserServiceImpl}. */
 @ExtendWith(MockitoExtension.class)
@@ -39,10 +74,17 @@ public class UserServiceTests {
     @InjectMocks private UserServiceImpl userService;
     @Mock private IMessageService messageService;
     @Mock private IUserDetailsService userDetailsService;
+    @Mock private IUsernameFilterService usernameFilterService;
     @Mock private IUserRepository userRepository;
+    @Mock private IUserDetailsRepository userDetailsRepository;
     @Mock private IUserMapper userMapper;
     @Mock private UserSpecification specification;
-    @Mock private PasswordEncoder passwordEncoder;
+    @Mock private IPasswordHashingService passwordHashingService;
+    @Mock private PaginationProperties paginationProperties;
+    @Mock private UserResponseProjection userResponseProjection;
+    @Mock private BulkProperties bulkProperties;
+    @Mock private ResultCacheInvalidator resultCacheInvalidator;
+    @Mock private TransactionTemplate transactionTemplate;
 
     @Test
     @DisplayName("Tests the successful creation of a user.")
@@ -59,10 +101,9 @@ public class UserServiceTests {
         User user = User.builder().details(userDetails).build();
         UserResponseDTO userResponseDTO = UserResponseDTO.builder().build();
 
-        when(userRepository.existsByUsername(TEST_USERNAME)).thenReturn(false);
-        when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(TEST_PASSWORD);
+        when(passwordHashingService.encode(TEST_PASSWORD)).thenReturn(TEST_PASSWORD);
         when(userMapper.toEntity(userCreateRequestDTO, "unknown")).thenReturn(user);
-        when(userRepository.save(user)).thenReturn(user);
+        when(userRepository.saveAndFlush(user)).thenReturn(user);
         when(userMapper.toResponseDTO(user)).thenReturn(userResponseDTO);
 
         // When
@@ -71,26 +112,288 @@ public class UserServiceTests {
         // Then
         assertEquals(userResponseDTO, result);
 
-        verify(userRepository).existsByUsername(TEST_USERNAME);
-        verify(passwordEncoder).encode(TEST_PASSWORD);
+        verify(usernameFilterService).mightContain(TEST_USERNAME);
+        verify(userRepository, never()).findByNaturalId(any());
+        verify(passwordHashingService).encode(TEST_PASSWORD);
         verify(userMapper).toEntity(userCreateRequestDTO, "unknown");
-        verify(userRepository).save(user);
+        verify(userRepository).saveAndFlush(user);
         verify(userMapper).toResponseDTO(user);
     }
 
+    @Test
+    @DisplayName("Tests that a username the username filter might contain is checked first.")
+    void create_UsernameFilterHit() {
+        // Given
+        UserCreateRequestDTO userCreateRequestDTO =
+                UserCreateRequestDTO.builder()
+                        .username(TEST_USERNAME)
+                        .password(TEST_PASSWORD)
+                        .build();
+
+        when(usernameFilterService.mightContain(TEST_USERNAME)).thenReturn(true);
+        when(userRepository.findByNaturalId(TEST_USERNAME))
+                .thenReturn(Optional.of(User.builder().build()));
+
+        // When & Then
+        assertThrows(ConflictException.class, () -> userService.create(userCreateRequestDTO));
+
+        verify(usernameFilterService, never()).recordFalsePositive();
+        verifyNoInteractions(passwordHashingService);
+        verify(userRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName(
+            "Tests that a username the username filter wrongly reports is counted and created.")
+    void create_UsernameFilterFalsePositive() {
+        // Given
+        UserCreateRequestDTO userCreateRequestDTO =
+                UserCreateRequestDTO.builder()
+                        .username(TEST_USERNAME)
+                        .password(TEST_PASSWORD)
+                        .build();
+        User user = User.builder().build();
+
+        when(usernameFilterService.mightContain(TEST_USERNAME)).thenReturn(true);
+        when(userRepository.findByNaturalId(TEST_USERNAME)).thenReturn(Optional.empty());
+        when(passwordHashingService.encode(TEST_PASSWORD)).thenReturn(TEST_PASSWORD2);
+        when(userMapper.toEntity(userCreateRequestDTO, "unknown")).thenReturn(user);
+        when(userRepository.saveAndFlush(user)).thenReturn(user);
+
+        // When
+        userService.create(userCreateRequestDTO);
+
+        // Then
+        verify(usernameFilterService).recordFalsePositive();
+        verify(userRepository).saveAndFlush(user);
+    }
+
     @Test
     @DisplayName("Tests the unsuccessful creation of a user due to username exists.")
     void create_UsernameExists() {
         // Given
         UserCreateRequestDTO userCreateRequestDTO =
                 UserCreateRequestDTO.builder().username(TEST_USERNAME).build();
+        User user = User.builder().build();
 
-        when(userRepository.existsByUsername(TEST_USERNAME)).thenReturn(true);
+        when(userMapper.toEntity(userCreateRequestDTO, "unknown")).thenReturn(user);
+        when(userRepository.saveAndFlush(user))
+                .thenThrow(
+                        new DataIntegrityViolationException(
+                                TEST_USERNAME,
+                                new ConstraintViolationException(
+                                        TEST_USERNAME,
+                                        null,
+                                        UK_USERS_USERNAME.toUpperCase(Locale.ROOT))));
 
         // When & Then
         assertThrows(ConflictException.class, () -> userService.create(userCreateRequestDTO));
 
-        verify(userRepository).existsByUsername(TEST_USERNAME);
+        verify(userRepository).saveAndFlush(user);
+    }
+
+    @Test
+    @DisplayName("Tests that other integrity violations on creation are not reported as conflicts.")
+    void create_OtherIntegrityViolation() {
+        // Given
+        UserCreateRequestDTO userCreateRequestDTO =
+                UserCreateRequestDTO.builder().username(TEST_USERNAME).build();
+        User user = User.builder().build();
+
+        when(userMapper.toEntity(userCreateRequestDTO, "unknown")).thenReturn(user);
+        when(userRepository.saveAndFlush(user))
+                .thenThrow(new DataIntegrityViolationException(TEST_USERNAME));
+
+        // When & Then
+        assertThrows(
+                DataIntegrityViolationException.class,
+                () -> userService.create(userCreateRequestDTO));
+
+        verify(userRepository).saveAndFlush(user);
+    }
+
+    @Test
+    @DisplayName("Tests the creation of a batch with taken and repeated usernames.")
+    void createBatch_Success() {
+        // Given
+        UserCreateRequestDTO taken =
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME);
+        UserCreateRequestDTO created =
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME2, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME);
+        UserCreateRequestDTO repeated =
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME2.toUpperCase(Locale.ROOT),
+                        TEST_PASSWORD,
+                        TEST_FIRST_NAME,
+                        TEST_LAST_NAME);
+        User user = User.builder().build();
+        UserResponseDTO userResponseDTO = UserResponseDTO.builder().build();
+
+        when(usernameFilterService.mightContain(any())).thenReturn(true);
+        when(userRepository.findUsernames(
+                        List.of(
+                                TEST_USERNAME,
+                                TEST_USERNAME2,
+                                TEST_USERNAME2.toUpperCase(Locale.ROOT))))
+                .thenReturn(List.of(TEST_USERNAME.toUpperCase(Locale.ROOT)));
+        when(passwordHashingService.encodeAll(List.of(TEST_PASSWORD)))
+                .thenReturn(List.of(TEST_PASSWORD2));
+        when(userMapper.toEntity(created, "unknown")).thenReturn(user);
+        when(userRepository.saveAllAndFlush(List.of(user))).thenReturn(List.of(user));
+        when(userMapper.toResponseDTO(user)).thenReturn(userResponseDTO);
+
+        // When
+        List<UserBatchItemResponseDTO> result =
+                userService.createBatch(List.of(taken, created, repeated));
+
+        // Then
+        assertEquals(
+                List.of(
+                        BatchItemStatus.CONFLICT,
+                        BatchItemStatus.CREATED,
+                        BatchItemStatus.CONFLICT),
+                result.stream().map(UserBatchItemResponseDTO::getStatus).toList());
+        assertEquals(
+                List.of(0, 1, 2), result.stream().map(UserBatchItemResponseDTO::getIndex).toList());
+        assertEquals(userResponseDTO, result.get(1).getUser());
+        assertEquals(TEST_PASSWORD2, created.getPassword());
+        assertEquals(TEST_PASSWORD, taken.getPassword());
+
+        verify(passwordHashingService).encodeAll(List.of(TEST_PASSWORD));
+        verify(userRepository).saveAllAndFlush(List.of(user));
+    }
+
+    @Test
+    @DisplayName("Tests that a batch of usernames absent from the username filter is not queried.")
+    void createBatch_UsernameFilterMiss() {
+        // Given
+        UserCreateRequestDTO userCreateRequestDTO =
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME);
+        User user = User.builder().build();
+
+        when(passwordHashingService.encodeAll(List.of(TEST_PASSWORD)))
+                .thenReturn(List.of(TEST_PASSWORD2));
+        when(userMapper.toEntity(userCreateRequestDTO, "unknown")).thenReturn(user);
+        when(userRepository.saveAllAndFlush(List.of(user))).thenReturn(List.of(user));
+
+        // When
+        List<UserBatchItemResponseDTO> result =
+                userService.createBatch(List.of(userCreateRequestDTO));
+
+        // Then
+        assertEquals(BatchItemStatus.CREATED, result.get(0).getStatus());
+
+        verify(usernameFilterService).mightContain(TEST_USERNAME);
+        verify(userRepository, never()).findUsernames(any());
+    }
+
+    @Test
+    @DisplayName(
+            "Tests that a username taken while a batch is inserted is reported as a conflict and"
+                    + " the rest of the batch is inserted.")
+    void createBatch_ConcurrentConflict() {
+        // Given
+        UserCreateRequestDTO taken =
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME);
+        UserCreateRequestDTO created =
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME2, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME);
+        User takenUser = User.builder().username(TEST_USERNAME).build();
+        User createdUser = User.builder().username(TEST_USERNAME2).build();
+        UserResponseDTO userResponseDTO = UserResponseDTO.builder().build();
+
+        when(usernameFilterService.mightContain(any())).thenReturn(true);
+        when(userRepository.findUsernames(List.of(TEST_USERNAME, TEST_USERNAME2)))
+                .thenReturn(List.of(), List.of(TEST_USERNAME));
+        when(passwordHashingService.encodeAll(List.of(TEST_PASSWORD, TEST_PASSWORD)))
+                .thenReturn(List.of(TEST_PASSWORD2, TEST_PASSWORD2));
+        when(userMapper.toEntity(taken, "unknown")).thenReturn(takenUser);
+        when(userMapper.toEntity(created, "unknown")).thenReturn(createdUser);
+        when(userRepository.saveAllAndFlush(List.of(takenUser, createdUser)))
+                .thenThrow(
+                        new DataIntegrityViolationException(
+                                TEST_USERNAME,
+                                new ConstraintViolationException(
+                                        TEST_USERNAME, null, UK_USERS_USERNAME)));
+        when(userRepository.saveAllAndFlush(List.of(createdUser))).thenReturn(List.of(createdUser));
+        when(userMapper.toResponseDTO(createdUser)).thenReturn(userResponseDTO);
+
+        // When
+        List<UserBatchItemResponseDTO> result = userService.createBatch(List.of(taken, created));
+
+        // Then
+        assertEquals(
+                List.of(BatchItemStatus.CONFLICT, BatchItemStatus.CREATED),
+                result.stream().map(UserBatchItemResponseDTO::getStatus).toList());
+        assertEquals(userResponseDTO, result.get(1).getUser());
+
+        verify(passwordHashingService).encodeAll(List.of(TEST_PASSWORD, TEST_PASSWORD));
+    }
+
+    @Test
+    @DisplayName(
+            "Tests that a username violation with no username taken when checked again fails the"
+                    + " batch.")
+    void createBatch_ConflictNotFound() {
+        // Given
+        UserCreateRequestDTO userCreateRequestDTO =
+                buildUserCreateRequestDTO(
+                        TEST_USERNAME, TEST_PASSWORD, TEST_FIRST_NAME, TEST_LAST_NAME);
+        User user = User.builder().build();
+
+        when(userRepository.findUsernames(List.of(TEST_USERNAME))).thenReturn(List.of());
+        when(passwordHashingService.encodeAll(List.of(TEST_PASSWORD)))
+                .thenReturn(List.of(TEST_PASSWORD2));
+        when(userMapper.toEntity(userCreateRequestDTO, "unknown")).thenReturn(user);
+        when(userRepository.saveAllAndFlush(List.of(user)))
+                .thenThrow(
+                        new DataIntegrityViolationException(
+                                TEST_USERNAME,
+                                new ConstraintViolationException(
+                                        TEST_USERNAME, null, UK_USERS_USERNAME)));
+
+        // When & Then
+        assertThrows(
+                ConflictException.class,
+                () -> userService.createBatch(List.of(userCreateRequestDTO)));
+
+        verify(userRepository).saveAllAndFlush(List.of(user));
+    }
+
+    @Test
+    @DisplayName("Tests the successful retrieval of a user by id.")
+    void get_ById_Success() {
+        // Given
+        User user = User.builder().build();
+        UserResponseDTO userResponseDTO = UserResponseDTO.builder().build();
+
+        when(userRepository.findById(TEST_ID)).thenReturn(Optional.of(user));
+        when(userMapper.toResponseDTO(user)).thenReturn(userResponseDTO);
+
+        // When
+        UserResponseDTO result = userService.get(TEST_ID);
+
+        // Then
+        assertEquals(userResponseDTO, result);
+
+        verify(userRepository).findById(TEST_ID);
+        verify(userMapper).toResponseDTO(user);
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful retrieval of a user by id due to not found.")
+    void get_ById_NotFound() {
+        // Given
+        when(userRepository.findById(TEST_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(NotFoundException.class, () -> userService.get(TEST_ID));
+
+        verify(userRepository).findById(TEST_ID);
     }
 
     @Test
@@ -103,16 +406,15 @@ public class UserServiceTests {
         @SuppressWarnings("unchecked")
         Specification<User> specificationMock = mock(Specification.class);
 
-        UserDetails userDetails = UserDetails.builder().build();
-        User user = User.builder().details(userDetails).build();
         UserResponseDTO userResponseDTO = UserResponseDTO.builder().build();
 
+        when(paginationProperties.getCountStrategy()).thenReturn(CountStrategy.QUERY);
         when(specification.buildSpecification(
                         filteringDTOList, TEST_ORDER_BY, TEST_ORDER_DIRECTION))
                 .thenReturn(specificationMock);
-        when(userRepository.findAll(specificationMock, pageable))
-                .thenReturn(new PageImpl<>(List.of(user)));
-        when(userMapper.toResponseDTO(user)).thenReturn(userResponseDTO);
+        when(userRepository.findAll(
+                        specificationMock, pageable, userResponseProjection, CountStrategy.QUERY))
+                .thenReturn(new PageImpl<>(List.of(userResponseDTO)));
 
         // When
         Page<UserResponseDTO> result =
@@ -128,44 +430,218 @@ public class UserServiceTests {
 
         verify(specification)
                 .buildSpecification(filteringDTOList, TEST_ORDER_BY, TEST_ORDER_DIRECTION);
-        verify(userRepository).findAll(specificationMock, pageable);
-        verify(userMapper).toResponseDTO(user);
+        verify(userRepository)
+                .findAll(specificationMock, pageable, userResponseProjection, CountStrategy.QUERY);
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    @DisplayName("Tests the successful retrieval of users with a window function count.")
+    void get_WindowCount_Success() {
+        // Given
+        List<FilteringDTO> filteringDTOList = List.of(FilteringDTO.builder().build());
+        Pageable pageable = PageRequest.of(TEST_PAGE, TEST_LIMIT);
+
+        @SuppressWarnings("unchecked")
+        Specification<User> specificationMock = mock(Specification.class);
+
+        UserResponseDTO userResponseDTO = UserResponseDTO.builder().build();
+
+        when(paginationProperties.getCountStrategy()).thenReturn(CountStrategy.WINDOW);
+        when(specification.buildSpecification(
+                        filteringDTOList, TEST_ORDER_BY, TEST_ORDER_DIRECTION))
+                .thenReturn(specificationMock);
+        when(userRepository.findAll(
+                        specificationMock, pageable, userResponseProjection, CountStrategy.WINDOW))
+                .thenReturn(new PageImpl<>(List.of(userResponseDTO)));
+
+        // When
+        Page<UserResponseDTO> result =
+                userService.get(
+                        TEST_PAGE,
+                        TEST_LIMIT,
+                        TEST_ORDER_BY,
+                        TEST_ORDER_DIRECTION,
+                        filteringDTOList);
+
+        // Then
+        assertEquals(List.of(userResponseDTO), result.getContent());
+
+        verify(userRepository)
+                .findAll(specificationMock, pageable, userResponseProjection, CountStrategy.WINDOW);
+    }
+
+    @Test
+    @DisplayName("Tests the successful retrieval of users by cursor.")
+    void getByCursor_Success() {
+        // Given
+        List<FilteringDTO> filteringDTOList = List.of(FilteringDTO.builder().build());
+        Sort sort = Sort.by(TEST_ORDER_BY);
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        ScrollPosition nextPosition = ScrollPosition.forward(Map.of(TEST_ORDER_BY, TEST_ID));
+
+        @SuppressWarnings("unchecked")
+        Specification<User> specificationMock = mock(Specification.class);
+
+        User user = User.builder().details(UserDetails.builder().build()).build();
+        UserResponseDTO userResponseDTO = UserResponseDTO.builder().build();
+        Window<User> window = Window.from(List.of(user), index -> nextPosition, true);
+
+        when(specification.buildKeysetSort(TEST_ORDER_BY, TEST_ORDER_DIRECTION)).thenReturn(sort);
+        when(specification.parseCursor(TEST_CURSOR, sort)).thenReturn(position);
+        when(specification.buildKeysetSpecification(filteringDTOList, TEST_ORDER_BY))
+                .thenReturn(specificationMock);
+        when(specification.withFetch(specificationMock, FIELD_DETAILS))
+                .thenReturn(specificationMock);
+        when(userRepository.<User, Window<User>>findBy(eq(specificationMock), any()))
+                .thenReturn(window);
+        when(userMapper.toResponseDTO(user)).thenReturn(userResponseDTO);
+        when(specification.createCursor(nextPosition)).thenReturn(TEST_CURSOR2);
+
+        // When
+        CursorPageResponseDTO<UserResponseDTO> result =
+                userService.getByCursor(
+                        TEST_CURSOR,
+                        TEST_LIMIT,
+                        TEST_ORDER_BY,
+                        TEST_ORDER_DIRECTION,
+                        filteringDTOList);
+
+        // Then
+        assertEquals(List.of(userResponseDTO), result.getContent());
+        assertEquals(TEST_LIMIT, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals(TEST_CURSOR2, result.getNextCursor());
+
+        verify(specification).buildKeysetSpecification(filteringDTOList, TEST_ORDER_BY);
+        verify(userRepository).findBy(eq(specificationMock), any());
+        verify(specification).createCursor(nextPosition);
+    }
+
+    @Test
+    @DisplayName("Tests the successful retrieval of users without a count query.")
+    void getSlice_Success() {
+        // Given
+        List<FilteringDTO> filteringDTOList = List.of(FilteringDTO.builder().build());
+
+        @SuppressWarnings("unchecked")
+        Specification<User> specificationMock = mock(Specification.class);
+
+        User user = User.builder().details(UserDetails.builder().build()).build();
+        UserResponseDTO userResponseDTO = UserResponseDTO.builder().build();
+        Window<User> window = Window.from(List.of(user), ScrollPosition::offset, true);
+
+        when(specification.buildSpecification(
+                        filteringDTOList, TEST_ORDER_BY, TEST_ORDER_DIRECTION))
+                .thenReturn(specificationMock);
+        when(specification.withFetch(specificationMock, FIELD_DETAILS))
+                .thenReturn(specificationMock);
+        when(userRepository.<User, Window<User>>findBy(eq(specificationMock), any()))
+                .thenReturn(window);
+        when(userMapper.toResponseDTO(user)).thenReturn(userResponseDTO);
+
+        // When
+        SliceResponseDTO<UserResponseDTO> result =
+                userService.getSlice(
+                        TEST_PAGE,
+                        TEST_LIMIT,
+                        TEST_ORDER_BY,
+                        TEST_ORDER_DIRECTION,
+                        filteringDTOList);
+
+        // Then
+        assertEquals(List.of(userResponseDTO), result.getContent());
+        assertEquals(TEST_PAGE, result.getPage());
+        assertEquals(TEST_LIMIT, result.getSize());
+        assertTrue(result.isHasNext());
+
+        verify(userRepository).findBy(eq(specificationMock), any());
+        verify(userRepository, never()).count(any(Specification.class));
     }
 
     @Test
-    @DisplayName("Tests the successful update of a user.")
+    @DisplayName("Tests the successful update of a user without loading it.")
     void update_Success() {
         // Given
-        UserDetailsRequestDTO userDetailsRequestDTO = UserDetailsRequestDTO.builder().build();
+        UserDetailsRequestDTO userDetailsRequestDTO =
+                UserDetailsRequestDTO.builder().firstName(TEST_FIRST_NAME2).build();
         UserUpdateRequestDTO userUpdateRequestDTO =
                 UserUpdateRequestDTO.builder()
                         .password(TEST_PASSWORD2)
                         .details(userDetailsRequestDTO)
                         .build();
-        UserDetails userDetails = UserDetails.builder().build();
-        User user = User.builder().password(TEST_PASSWORD).details(userDetails).build();
         UserResponseDTO userResponseDTO = UserResponseDTO.builder().build();
+        Map<String, Object> values = Map.of(FIELD_FIRST_NAME, TEST_FIRST_NAME2);
 
-        when(userRepository.findById(TEST_ID)).thenReturn(Optional.of(user));
-        when(userDetailsService.updateUserDetails(userDetails, userDetailsRequestDTO))
-                .thenReturn(true);
-        doNothing().when(userDetailsService).updateAuditFields(userDetails, true);
-        when(passwordEncoder.encode(TEST_PASSWORD2)).thenReturn(TEST_PASSWORD2);
-        when(userRepository.saveAndFlush(user)).thenReturn(user);
-        when(userMapper.toResponseDTO(user)).thenReturn(userResponseDTO);
+        @SuppressWarnings("unchecked")
+        IUpdateCondition<User> userCondition = mock(IUpdateCondition.class);
+        @SuppressWarnings("unchecked")
+        IUpdateCondition<UserDetails> detailsCondition = mock(IUpdateCondition.class);
+
+        when(passwordHashingService.encode(TEST_PASSWORD2)).thenReturn(TEST_PASSWORD2);
+        when(userDetailsService.buildUpdateValues(TEST_FIRST_NAME2, null)).thenReturn(values);
+        when(specification.updateById(TEST_ID, List.of(TEST_VERSION))).thenReturn(userCondition);
+        when(userRepository.updateAll(
+                        userCondition, Map.of(FIELD_PASSWORD, TEST_PASSWORD2), "unknown"))
+                .thenReturn(1);
+        when(specification.updateDetailsOf(TEST_ID)).thenReturn(detailsCondition);
+        when(userDetailsRepository.updateIfChanged(detailsCondition, values, "unknown"))
+                .thenReturn(1);
+        stubGetResponse(List.of(userResponseDTO));
+        stubTransaction();
 
         // When
-        UserResponseDTO result = userService.update(TEST_ID, userUpdateRequestDTO);
+        UserResponseDTO result =
+                userService.update(TEST_ID, userUpdateRequestDTO, List.of(TEST_VERSION));
 
         // Then
         assertEquals(userResponseDTO, result);
 
-        verify(userRepository).findById(TEST_ID);
-        verify(userDetailsService).updateUserDetails(userDetails, userDetailsRequestDTO);
-        verify(userDetailsService).updateAuditFields(userDetails, true);
-        verify(passwordEncoder).encode(TEST_PASSWORD2);
-        verify(userRepository).saveAndFlush(user);
-        verify(userMapper).toResponseDTO(user);
+        InOrder inOrder = inOrder(passwordHashingService, transactionTemplate);
+
+        inOrder.verify(passwordHashingService).encode(TEST_PASSWORD2);
+        inOrder.verify(transactionTemplate).execute(any());
+        verify(resultCacheInvalidator).evictAfterCommit(User.class, List.of(TEST_ID));
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Tests that an update of the details alone bumps the user only if they change.")
+    void update_Details_Success() {
+        // Given
+        UserDetailsRequestDTO userDetailsRequestDTO =
+                UserDetailsRequestDTO.builder().firstName(TEST_FIRST_NAME2).build();
+        UserUpdateRequestDTO userUpdateRequestDTO =
+                UserUpdateRequestDTO.builder().details(userDetailsRequestDTO).build();
+        UserResponseDTO userResponseDTO = UserResponseDTO.builder().build();
+        Map<String, Object> values = Map.of(FIELD_FIRST_NAME, TEST_FIRST_NAME2);
+
+        @SuppressWarnings("unchecked")
+        IUpdateCondition<User> userCondition = mock(IUpdateCondition.class);
+        @SuppressWarnings("unchecked")
+        IUpdateCondition<UserDetails> detailsCondition = mock(IUpdateCondition.class);
+
+        when(userDetailsService.buildUpdateValues(TEST_FIRST_NAME2, null)).thenReturn(values);
+        when(specification.updateByIdIfDetailsChange(TEST_ID, List.of(TEST_VERSION), values))
+                .thenReturn(userCondition);
+        when(userRepository.updateAll(userCondition, Map.of(), "unknown")).thenReturn(1);
+        when(specification.updateDetailsOf(TEST_ID)).thenReturn(detailsCondition);
+        when(userDetailsRepository.updateIfChanged(detailsCondition, values, "unknown"))
+                .thenReturn(1);
+        stubGetResponse(List.of(userResponseDTO));
+        stubTransaction();
+
+        // When
+        UserResponseDTO result =
+                userService.update(TEST_ID, userUpdateRequestDTO, List.of(TEST_VERSION));
+
+        // Then
+        assertEquals(userResponseDTO, result);
+
+        verify(specification, never()).updateById(any(), any());
+        verify(resultCacheInvalidator).evictAfterCommit(User.class, List.of(TEST_ID));
+        verifyNoInteractions(passwordHashingService);
     }
 
     @Test
@@ -175,66 +651,314 @@ public class UserServiceTests {
         UserUpdateRequestDTO userUpdateRequestDTO =
                 UserUpdateRequestDTO.builder().password(TEST_PASSWORD).build();
 
-        when(userRepository.findById(TEST_ID)).thenReturn(Optional.empty());
+        when(passwordHashingService.encode(TEST_PASSWORD)).thenReturn(TEST_PASSWORD);
+        when(userRepository.updateAll(any(), any(), any())).thenReturn(0);
+        stubGetResponse(List.of());
+        stubTransaction();
 
         // When & Then
         assertThrows(
-                NotFoundException.class, () -> userService.update(TEST_ID, userUpdateRequestDTO));
+                NotFoundException.class,
+                () -> userService.update(TEST_ID, userUpdateRequestDTO, null));
 
-        verify(userRepository).findById(TEST_ID);
+        verify(resultCacheInvalidator, never()).evictAfterCommit(any(), any());
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful update of a user due to another version.")
+    void update_PreconditionFailed() {
+        // Given
+        UserUpdateRequestDTO userUpdateRequestDTO =
+                UserUpdateRequestDTO.builder().password(TEST_PASSWORD).build();
+
+        when(passwordHashingService.encode(TEST_PASSWORD)).thenReturn(TEST_PASSWORD);
+        when(userRepository.updateAll(any(), any(), any())).thenReturn(0);
+        stubGetResponse(List.of(UserResponseDTO.builder().version(TEST_VERSION2).build()));
+        stubTransaction();
+
+        // When & Then
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> userService.update(TEST_ID, userUpdateRequestDTO, List.of(TEST_VERSION)));
+
+        verify(userDetailsRepository, never()).updateIfChanged(any(), any(), any());
+        verify(resultCacheInvalidator, never()).evictAfterCommit(any(), any());
     }
 
     @Test
     @DisplayName("Tests the unsuccessful update of a user due to not modified.")
     void update_NotModified() {
         // Given
-        UserDetailsRequestDTO userDetailsRequestDTO = UserDetailsRequestDTO.builder().build();
+        UserDetailsRequestDTO userDetailsRequestDTO =
+                UserDetailsRequestDTO.builder().firstName(TEST_FIRST_NAME).build();
         UserUpdateRequestDTO userUpdateRequestDTO =
-                UserUpdateRequestDTO.builder()
-                        .password(TEST_PASSWORD)
-                        .details(userDetailsRequestDTO)
-                        .build();
-        User user = User.builder().password(TEST_PASSWORD).build();
+                UserUpdateRequestDTO.builder().details(userDetailsRequestDTO).build();
+        Map<String, Object> values = Map.of(FIELD_FIRST_NAME, TEST_FIRST_NAME);
 
-        when(userRepository.findById(TEST_ID)).thenReturn(Optional.of(user));
-        when(userDetailsService.updateUserDetails(user.getDetails(), userDetailsRequestDTO))
-                .thenReturn(false);
+        @SuppressWarnings("unchecked")
+        IUpdateCondition<User> userCondition = mock(IUpdateCondition.class);
+
+        when(userDetailsService.buildUpdateValues(TEST_FIRST_NAME, null)).thenReturn(values);
+        when(specification.updateByIdIfDetailsChange(TEST_ID, null, values))
+                .thenReturn(userCondition);
+        when(userRepository.updateAll(userCondition, Map.of(), "unknown")).thenReturn(0);
+        stubGetResponse(List.of(UserResponseDTO.builder().version(TEST_VERSION).build()));
+        stubTransaction();
 
         // When & Then
         assertThrows(
                 NotModifiedException.class,
-                () -> userService.update(TEST_ID, userUpdateRequestDTO));
+                () -> userService.update(TEST_ID, userUpdateRequestDTO, null));
 
-        verify(userRepository).findById(TEST_ID);
-        verify(userDetailsService).updateUserDetails(user.getDetails(), userDetailsRequestDTO);
+        verify(userDetailsRepository, never()).updateIfChanged(any(), any(), any());
+        verify(resultCacheInvalidator, never()).evictAfterCommit(any(), any());
     }
 
     @Test
-    @DisplayName("Tests the successful deletion of a user.")
+    @DisplayName("Tests that an empty update of a user at another version fails its precondition.")
+    void update_Empty_PreconditionFailed() {
+        // Given
+        UserUpdateRequestDTO userUpdateRequestDTO = UserUpdateRequestDTO.builder().build();
+
+        stubGetResponse(List.of(UserResponseDTO.builder().version(TEST_VERSION2).build()));
+
+        // When & Then
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> userService.update(TEST_ID, userUpdateRequestDTO, List.of(TEST_VERSION)));
+
+        verify(userRepository, never()).updateAll(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Tests the successful deletion of a user without loading it.")
     void delete_Success() {
         // Given
-        User user = User.builder().build();
+        @SuppressWarnings("unchecked")
+        IDeleteCondition<UserDetails> conditionMock = mock(IDeleteCondition.class);
 
-        when(userRepository.findById(TEST_ID)).thenReturn(Optional.of(user));
-        doNothing().when(userRepository).delete(user);
+        when(specification.deleteDetailsOf(TEST_ID, List.of(TEST_VERSION)))
+                .thenReturn(conditionMock);
+        when(userDetailsRepository.deleteAll(conditionMock)).thenReturn(1);
 
         // When
-        userService.delete(TEST_ID);
+        userService.delete(TEST_ID, List.of(TEST_VERSION));
 
         // Then
-        verify(userRepository).findById(TEST_ID);
-        verify(userRepository).delete(user);
+        verify(resultCacheInvalidator).evictAfterCommit(User.class, List.of(TEST_ID));
+        verify(userRepository, never()).findDetailsIds(any());
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Tests the unsuccessful deletion of a user due to not found.")
     void delete_NotFound() {
         // Given
-        when(userRepository.findById(TEST_ID)).thenReturn(Optional.empty());
+        @SuppressWarnings("unchecked")
+        IDeleteCondition<UserDetails> conditionMock = mock(IDeleteCondition.class);
+
+        when(specification.deleteDetailsOf(TEST_ID, null)).thenReturn(conditionMock);
+        when(userDetailsRepository.deleteAll(conditionMock)).thenReturn(0);
+        stubGetResponse(List.of());
 
         // When & Then
-        assertThrows(NotFoundException.class, () -> userService.delete(TEST_ID));
+        assertThrows(NotFoundException.class, () -> userService.delete(TEST_ID, null));
 
-        verify(userRepository).findById(TEST_ID);
+        verify(resultCacheInvalidator, never()).evictAfterCommit(any(), any());
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful deletion of a user due to another version.")
+    void delete_PreconditionFailed() {
+        // Given
+        @SuppressWarnings("unchecked")
+        IDeleteCondition<UserDetails> conditionMock = mock(IDeleteCondition.class);
+
+        when(specification.deleteDetailsOf(TEST_ID, List.of(TEST_VERSION)))
+                .thenReturn(conditionMock);
+        when(userDetailsRepository.deleteAll(conditionMock)).thenReturn(0);
+        stubGetResponse(List.of(UserResponseDTO.builder().version(TEST_VERSION2).build()));
+
+        // When & Then
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> userService.delete(TEST_ID, List.of(TEST_VERSION)));
+
+        verify(resultCacheInvalidator, never()).evictAfterCommit(any(), any());
+    }
+
+    @Test
+    @DisplayName("Tests the successful deletion of users matching a filter, chunk by chunk.")
+    void delete_ByFilter_Success() {
+        // Given
+        List<FilteringDTO> filteringDTOList = List.of(FilteringDTO.builder().build());
+
+        @SuppressWarnings("unchecked")
+        Specification<User> specificationMock = mock(Specification.class);
+
+        when(specification.buildSpecification(filteringDTOList, null, null))
+                .thenReturn(specificationMock);
+        when(bulkProperties.getMaxRows()).thenReturn(TEST_MAX_ROWS);
+        when(bulkProperties.getChunkSize()).thenReturn(TEST_CHUNK_SIZE);
+        when(userRepository.findIds(specificationMock, TEST_MAX_ROWS + 1))
+                .thenReturn(List.of(TEST_ID, TEST_ID2, TEST_ID3));
+        when(userRepository.findDetailsIds(List.of(TEST_ID, TEST_ID2)))
+                .thenReturn(List.of(TEST_ID, TEST_ID2));
+        when(userRepository.findDetailsIds(List.of(TEST_ID3))).thenReturn(List.of(TEST_ID3));
+
+        // When
+        long result = userService.delete(filteringDTOList, false);
+
+        // Then
+        assertEquals(3, result);
+
+        verify(userRepository).deleteAllByIdInBatch(List.of(TEST_ID, TEST_ID2));
+        verify(userDetailsRepository).deleteAllByIdInBatch(List.of(TEST_ID, TEST_ID2));
+        verify(userRepository).deleteAllByIdInBatch(List.of(TEST_ID3));
+        verify(userDetailsRepository).deleteAllByIdInBatch(List.of(TEST_ID3));
+        verify(resultCacheInvalidator)
+                .evictAfterCommit(User.class, List.of(TEST_ID, TEST_ID2, TEST_ID3));
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Tests that a dry run only counts the users matching a filter.")
+    void delete_ByFilter_DryRun() {
+        // Given
+        List<FilteringDTO> filteringDTOList = List.of(FilteringDTO.builder().build());
+
+        @SuppressWarnings("unchecked")
+        Specification<User> specificationMock = mock(Specification.class);
+
+        when(specification.buildSpecification(filteringDTOList, null, null))
+                .thenReturn(specificationMock);
+        when(userRepository.count(specificationMock)).thenReturn((long) TEST_MAX_ROWS + 1);
+
+        // When
+        long result = userService.delete(filteringDTOList, true);
+
+        // Then
+        assertEquals(TEST_MAX_ROWS + 1, result);
+
+        verify(userRepository, never()).deleteAllByIdInBatch(any());
+        verifyNoInteractions(resultCacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful deletion of users due to too many matches.")
+    void delete_ByFilter_LimitExceeded() {
+        // Given
+        List<FilteringDTO> filteringDTOList = List.of(FilteringDTO.builder().build());
+
+        @SuppressWarnings("unchecked")
+        Specification<User> specificationMock = mock(Specification.class);
+
+        when(specification.buildSpecification(filteringDTOList, null, null))
+                .thenReturn(specificationMock);
+        when(bulkProperties.getMaxRows()).thenReturn(TEST_CHUNK_SIZE);
+        when(userRepository.findIds(specificationMock, TEST_CHUNK_SIZE + 1))
+                .thenReturn(List.of(TEST_ID, TEST_ID2, TEST_ID3));
+
+        // When & Then
+        assertThrows(
+                BulkLimitExceededException.class,
+                () -> userService.delete(filteringDTOList, false));
+
+        verify(userRepository, never()).deleteAllByIdInBatch(any());
+        verifyNoInteractions(resultCacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful deletion of users due to a missing filter.")
+    void delete_ByFilter_NoFilter() {
+        // Given
+        List<FilteringDTO> filteringDTOList = List.of();
+
+        // When & Then
+        assertThrows(
+                InvalidFilterException.class, () -> userService.delete(filteringDTOList, false));
+
+        verifyNoInteractions(userRepository, specification);
+    }
+
+    @Test
+    @DisplayName("Tests the successful update of the details of users matching a filter.")
+    void updateDetails_Success() {
+        // Given
+        List<FilteringDTO> filteringDTOList = List.of(FilteringDTO.builder().build());
+        UserDetailsPatchRequestDTO userDetailsPatchRequestDTO =
+                UserDetailsPatchRequestDTO.builder().lastName(TEST_LAST_NAME2).build();
+        Map<String, Object> values = Map.of(FIELD_LAST_NAME, TEST_LAST_NAME2);
+
+        @SuppressWarnings("unchecked")
+        Specification<User> specificationMock = mock(Specification.class);
+
+        when(specification.buildSpecification(filteringDTOList, null, null))
+                .thenReturn(specificationMock);
+        when(userDetailsService.buildUpdateValues(null, TEST_LAST_NAME2)).thenReturn(values);
+        when(bulkProperties.getMaxRows()).thenReturn(TEST_MAX_ROWS);
+        when(bulkProperties.getChunkSize()).thenReturn(TEST_CHUNK_SIZE);
+        when(userRepository.findIds(specificationMock, TEST_MAX_ROWS + 1))
+                .thenReturn(List.of(TEST_ID, TEST_ID2));
+        when(userRepository.findDetailsIds(List.of(TEST_ID, TEST_ID2)))
+                .thenReturn(List.of(TEST_ID2, TEST_ID3));
+        when(userDetailsRepository.updateAllByIdInBatch(
+                        List.of(TEST_ID2, TEST_ID3), values, "unknown"))
+                .thenReturn(2);
+
+        // When
+        long result = userService.updateDetails(filteringDTOList, userDetailsPatchRequestDTO);
+
+        // Then
+        assertEquals(2, result);
+
+        verify(userRepository)
+                .updateAllByIdInBatch(List.of(TEST_ID, TEST_ID2), Map.of(), "unknown");
+        verify(resultCacheInvalidator).evictAfterCommit(User.class, List.of(TEST_ID, TEST_ID2));
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful update of the details of users due to no changes.")
+    void updateDetails_NotModified() {
+        // Given
+        List<FilteringDTO> filteringDTOList = List.of(FilteringDTO.builder().build());
+        UserDetailsPatchRequestDTO userDetailsPatchRequestDTO =
+                UserDetailsPatchRequestDTO.builder().build();
+
+        // When & Then
+        assertThrows(
+                NotModifiedException.class,
+                () -> userService.updateDetails(filteringDTOList, userDetailsPatchRequestDTO));
+
+        verifyNoInteractions(userRepository, userDetailsRepository, resultCacheInvalidator);
+    }
+
+    /** Stubs the transaction template to run its callbacks directly. */
+    private void stubTransaction() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(
+                        invocation ->
+                                invocation
+                                        .<TransactionCallback<?>>getArgument(0)
+                                        .doInTransaction(null));
+    }
+
+    /**
+     * Stubs the projection read of the user with {@code TEST_ID}.
+     *
+     * @param users the users the read finds
+     */
+    private void stubGetResponse(List<UserResponseDTO> users) {
+        @SuppressWarnings("unchecked")
+        Specification<User> specificationMock = mock(Specification.class);
+
+        when(specification.byId(TEST_ID)).thenReturn(specificationMock);
+        when(userRepository.findAll(
+                        specificationMock,
+                        Pageable.unpaged(),
+                        userResponseProjection,
+                        CountStrategy.QUERY))
+                .thenReturn(new PageImpl<>(users));
     }
 }
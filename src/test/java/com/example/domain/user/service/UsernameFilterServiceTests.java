@@ -0,0 +1,155 @@
+package com.example.domain.user.service;
+
+import static com.example.Constants.*;
+import static com.example.domain.user.service.UsernameFilterServiceImpl.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.config.UsernameFilterProperties;
+import com.example.domain.user.model.User;
+import com.example.domain.user.repository.IUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/** Unit tests for {@link UsernameFilterServiceImpl}. */
+@ExtendWith(MockitoExtension.class)
+public class UsernameFilterServiceTests {
+    @Mock private IUserRepository userRepository;
+    @Mock private EntityManagerFactory entityManagerFactory;
+    @Mock private SessionFactoryImplementor sessionFactory;
+    @Mock private ServiceRegistryImplementor serviceRegistry;
+    @Mock private EventListenerRegistry eventListenerRegistry;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private UsernameFilterServiceImpl usernameFilterService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        usernameFilterService =
+                new UsernameFilterServiceImpl(
+                        userRepository,
+                        new UsernameFilterProperties(),
+                        entityManagerFactory,
+                        transactionManager,
+                        meterRegistry);
+
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class))
+                .thenReturn(sessionFactory);
+        when(sessionFactory.getServiceRegistry()).thenReturn(serviceRegistry);
+        when(serviceRegistry.requireService(EventListenerRegistry.class))
+                .thenReturn(eventListenerRegistry);
+
+        usernameFilterService.register();
+    }
+
+    @Test
+    @DisplayName("Tests that the filter registers itself for inserts and updates.")
+    void register_Success() {
+        // Given
+
+        // When
+
+        // Then
+        verify(eventListenerRegistry).appendListeners(EventType.POST_INSERT, usernameFilterService);
+        verify(eventListenerRegistry).appendListeners(EventType.POST_UPDATE, usernameFilterService);
+    }
+
+    @Test
+    @DisplayName("Tests that every username might exist before the filter is built.")
+    void mightContain_BeforeRebuild() {
+        // Given
+
+        // When
+        boolean result = usernameFilterService.mightContain(TEST_USERNAME);
+
+        // Then
+        assertTrue(result);
+        assertEquals(1.0, meterRegistry.get(METRIC_EXPECTED_FPP).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Tests that a rebuilt filter only reports streamed usernames, in any case.")
+    void rebuild_Success() {
+        // Given
+        when(userRepository.count()).thenReturn(2L);
+        when(userRepository.streamUsernames())
+                .thenReturn(Stream.of(TEST_USERNAME, TEST_USERNAME2.toUpperCase(Locale.ROOT)));
+
+        // When
+        usernameFilterService.rebuild();
+
+        // Then
+        assertTrue(usernameFilterService.mightContain(TEST_USERNAME.toUpperCase(Locale.ROOT)));
+        assertTrue(usernameFilterService.mightContain(TEST_USERNAME2));
+        assertFalse(usernameFilterService.mightContain(TEST_USERNAME3));
+        assertEquals(2.0, meterRegistry.get(METRIC_SIZE).gauge().value());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get(METRIC_LOOKUPS)
+                        .tags(TAG_RESULT, RESULT_ABSENT)
+                        .counter()
+                        .count());
+        assertEquals(
+                2.0,
+                meterRegistry
+                        .get(METRIC_LOOKUPS)
+                        .tags(TAG_RESULT, RESULT_MIGHT_EXIST)
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("Tests that inserted and updated users are added to the filter.")
+    void onPostInsert_onPostUpdate_Success() {
+        // Given
+        PostInsertEvent insertEvent = mock(PostInsertEvent.class);
+        PostUpdateEvent updateEvent = mock(PostUpdateEvent.class);
+
+        when(userRepository.streamUsernames()).thenReturn(Stream.empty());
+        when(insertEvent.getEntity()).thenReturn(User.builder().username(TEST_USERNAME).build());
+        when(updateEvent.getEntity()).thenReturn(User.builder().username(TEST_USERNAME2).build());
+
+        usernameFilterService.run(null);
+
+        // When
+        usernameFilterService.onPostInsert(insertEvent);
+        usernameFilterService.onPostUpdate(updateEvent);
+
+        // Then
+        assertTrue(usernameFilterService.mightContain(TEST_USERNAME));
+        assertTrue(usernameFilterService.mightContain(TEST_USERNAME2));
+        assertFalse(usernameFilterService.mightContain(TEST_USERNAME3));
+        assertFalse(usernameFilterService.requiresPostCommitHandling(null));
+    }
+
+    @Test
+    @DisplayName("Tests that false positives are counted.")
+    void recordFalsePositive_Success() {
+        // Given
+
+        // When
+        usernameFilterService.recordFalsePositive();
+
+        // Then
+        assertEquals(1.0, meterRegistry.get(METRIC_FALSE_POSITIVES).counter().count());
+    }
+}
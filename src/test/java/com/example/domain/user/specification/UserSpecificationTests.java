@@ -2,22 +2,37 @@ package com.example.domain.user.specification;
 
 import static com.example.Constants.*;
 import static com.example.TestUtils.buildFilteringDTO;
+import static com.example.TestUtils.buildFilteringGroup;
 import static com.example.TestUtils.buildUser;
+import static com.example.TestUtils.formatInstant;
 import static com.example.enums.FilterOperator.*;
+import static com.example.enums.LogicalOperator.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.example.base.specification.BaseSpecificationImpl;
 import com.example.domain.user.model.User;
 import com.example.domain.user.repository.IUserRepository;
+import com.example.exception.InvalidCursorException;
 import com.example.exception.InvalidDateFormatException;
 import com.example.exception.InvalidFilterException;
 import com.example.utils.dto.request.FilteringDTO;
 import com.example.utils.service.MessageServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +43,7 @@ public class UserSpecificationTests {
     @Autowired private UserSpecification userSpecification;
     @Autowired private MessageServiceImpl messageService;
     @Autowired private IUserRepository userRepository;
+    @Autowired private EntityManager entityManager;
 
     @Test
     @DisplayName("Tests the successful creation of a specification due to a null filtering list")
@@ -206,7 +222,7 @@ public class UserSpecificationTests {
                                 buildFilteringDTO(
                                         TEST_FIELD_CREATED_AT,
                                         EQUALS,
-                                        user.getCreatedAt().toString(),
+                                        formatInstant(user.getCreatedAt()),
                                         null)));
         Specification<User> specification =
                 userSpecification.buildSpecification(filteringDTOList, null, null);
@@ -467,6 +483,21 @@ public class UserSpecificationTests {
         assertThrows(InvalidDateFormatException.class, () -> userRepository.findAll(specification));
     }
 
+    @Test
+    @DisplayName("Tests the unsuccessful creation of a specification due to a non-numeric long")
+    void buildSpecification_InvalidLong() {
+        // Given
+        List<FilteringDTO> filteringDTOList =
+                new ArrayList<>(
+                        List.of(buildFilteringDTO(TEST_FIELD_ID, EQUALS, TEST_INVALID_LONG, null)));
+
+        Specification<User> specification =
+                userSpecification.buildSpecification(filteringDTOList, null, null);
+
+        // When & Then
+        assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
+    }
+
     @Test
     @DisplayName(
             "Tests the unsuccessful creation of a specification due to invalid filter with null value")
@@ -572,6 +603,857 @@ public class UserSpecificationTests {
         assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
     }
 
+    @Test
+    @DisplayName(
+            "Tests the successful reuse of a compiled filter plan for filters of the same shape with different values")
+    @Transactional
+    void buildSpecification_SameShapeDifferentValues() {
+        // Given
+        saveUser();
+
+        Specification<User> matchingSpecification =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null))),
+                        null,
+                        null);
+        Specification<User> notMatchingSpecification =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME,
+                                                EQUALS,
+                                                TEST_USERNAME2,
+                                                null))),
+                        null,
+                        null);
+
+        // When
+        List<User> matchingUsers = userRepository.findAll(matchingSpecification);
+        List<User> notMatchingUsers = userRepository.findAll(notMatchingSpecification);
+
+        // Then
+        assertEquals(1, matchingUsers.size());
+        assertTrue(notMatchingUsers.isEmpty());
+    }
+
+    @Test
+    @DisplayName(
+            "Tests the unsuccessful creation of a specification due to invalid filter with unknown field")
+    void buildSpecification_UnknownField() {
+        // Given
+        List<FilteringDTO> filteringDTOList =
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringDTO(
+                                        TEST_FIELD_UNKNOWN, EQUALS, TEST_USERNAME, null)));
+
+        Specification<User> specification =
+                userSpecification.buildSpecification(filteringDTOList, null, null);
+
+        // When & Then
+        assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
+    }
+
+    @Test
+    @DisplayName(
+            "Tests the unsuccessful creation of a specification due to invalid filter with a nested field of a basic attribute")
+    void buildSpecification_NestedFieldOfBasicAttribute() {
+        // Given
+        List<FilteringDTO> filteringDTOList =
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringDTO(
+                                        TEST_FIELD_USERNAME + "." + TEST_FIELD_ID,
+                                        EQUALS,
+                                        TEST_USERNAME,
+                                        null)));
+
+        Specification<User> specification =
+                userSpecification.buildSpecification(filteringDTOList, null, null);
+
+        // When & Then
+        assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
+    }
+
+    @Test
+    @DisplayName(
+            "Tests the unsuccessful creation of a specification due to invalid filter with unsupported field type")
+    void buildSpecification_UnsupportedFieldType() {
+        // Given
+        List<FilteringDTO> filteringDTOList =
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringDTO(
+                                        TEST_FIELD_DETAILS, EQUALS, TEST_USERNAME, null)));
+
+        Specification<User> specification =
+                userSpecification.buildSpecification(filteringDTOList, null, null);
+
+        // When & Then
+        assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
+    }
+
+    @Test
+    @DisplayName("Tests that a case-insensitive username filter targets the normalized column")
+    @Transactional
+    void buildSpecification_NormalizedField() {
+        // Given
+        saveUser();
+        userRepository.flush();
+        entityManager
+                .createNativeQuery("UPDATE users SET username_normalized = :value")
+                .setParameter("value", TEST_USERNAME2)
+                .executeUpdate();
+
+        List<FilteringDTO> filteringDTOList =
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringDTO(
+                                        TEST_FIELD_USERNAME,
+                                        EQUALS,
+                                        TEST_USERNAME2.toUpperCase(Locale.ROOT),
+                                        null)));
+        Specification<User> specification =
+                userSpecification.buildSpecification(filteringDTOList, null, null);
+
+        // When
+        List<User> users = userRepository.findAll(specification);
+
+        // Then
+        assertEquals(1, users.size());
+    }
+
+    @Test
+    @DisplayName("Tests that the normalized columns follow updates of their source fields")
+    @Transactional
+    void buildSpecification_NormalizedFieldAfterUpdate() {
+        // Given
+        User user = saveUser();
+        user.setUsername(TEST_USERNAME2.toUpperCase(Locale.ROOT));
+        user.getDetails().setFirstName(TEST_FIRST_NAME2.toUpperCase(Locale.ROOT));
+        userRepository.saveAndFlush(user);
+
+        List<FilteringDTO> filteringDTOList =
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringDTO(
+                                        TEST_FIELD_USERNAME, STARTS_WITH, TEST_USERNAME2, null),
+                                buildFilteringDTO(
+                                        TEST_FIELD_DETAILS_FIRST_NAME,
+                                        EQUALS,
+                                        TEST_FIRST_NAME2,
+                                        null)));
+        Specification<User> specification =
+                userSpecification.buildSpecification(filteringDTOList, null, null);
+
+        // When
+        List<User> users = userRepository.findAll(specification);
+
+        // Then
+        assertEquals(1, users.size());
+        assertEquals(TEST_USERNAME2, users.get(0).getUsernameNormalized());
+        assertEquals(
+                TEST_FIRST_NAME2.toLowerCase(Locale.ROOT),
+                users.get(0).getDetails().getFirstNameNormalized());
+    }
+
+    @Test
+    @DisplayName("Tests that wildcard characters in a string filter are matched literally")
+    @Transactional
+    void buildSpecification_WildcardValue() {
+        // Given
+        saveUser(TEST_USERNAME2);
+        saveUser(TEST_WILDCARD_USERNAME);
+
+        Specification<User> search =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME, CONTAINS, "t%2", null))),
+                        null,
+                        null);
+        Specification<User> startsWith =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME, STARTS_WITH, "test%", null))),
+                        null,
+                        null);
+        Specification<User> shortTerm =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME, CONTAINS, "_", null))),
+                        null,
+                        null);
+
+        // When
+        List<User> searchUsers = userRepository.findAll(search);
+        List<User> startsWithUsers = userRepository.findAll(startsWith);
+        List<User> shortTermUsers = userRepository.findAll(shortTerm);
+
+        // Then
+        assertEquals(
+                List.of(TEST_WILDCARD_USERNAME),
+                searchUsers.stream().map(User::getUsername).toList());
+        assertEquals(
+                List.of(TEST_WILDCARD_USERNAME),
+                startsWithUsers.stream().map(User::getUsername).toList());
+        assertEquals(List.of(), shortTermUsers);
+    }
+
+    @Test
+    @DisplayName("Tests the successful substring search on searchable fields")
+    @Transactional
+    void buildSpecification_SearchableField() {
+        // Given
+        saveUser(TEST_USERNAME);
+        saveUser(TEST_USERNAME2);
+        saveUser(TEST_USERNAME3);
+
+        Specification<User> contains =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME, CONTAINS, "ST.2", null))),
+                        null,
+                        null);
+        Specification<User> endsWith =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME, ENDS_WITH, ".3", null))),
+                        null,
+                        null);
+        Specification<User> shortTerm =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME, CONTAINS, "2", null))),
+                        null,
+                        null);
+
+        // When
+        List<User> containsUsers = userRepository.findAll(contains);
+        List<User> endsWithUsers = userRepository.findAll(endsWith);
+        List<User> shortTermUsers = userRepository.findAll(shortTerm);
+
+        // Then
+        assertEquals(
+                List.of(TEST_USERNAME2), containsUsers.stream().map(User::getUsername).toList());
+        assertEquals(
+                List.of(TEST_USERNAME3), endsWithUsers.stream().map(User::getUsername).toList());
+        assertEquals(
+                List.of(TEST_USERNAME2), shortTermUsers.stream().map(User::getUsername).toList());
+    }
+
+    @Test
+    @DisplayName("Tests the successful fetching of details without affecting count queries")
+    @Transactional
+    void withFetch_Success() {
+        // Given
+        saveUser();
+
+        Specification<User> specification =
+                userSpecification.withFetch(null, UserSpecification.FIELD_DETAILS);
+
+        // When
+        List<User> users = userRepository.findAll(specification);
+        long count = userRepository.count(specification);
+
+        // Then
+        assertEquals(1, users.size());
+        assertEquals(1, count);
+    }
+
+    @Test
+    @DisplayName("Tests that filters and the sort key on the same association share one join")
+    @Transactional
+    void buildSpecification_NestedFieldsShareJoin() {
+        // Given
+        saveUser();
+
+        List<FilteringDTO> filteringDTOList =
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringDTO(
+                                        TEST_FIELD_DETAILS_FIRST_NAME,
+                                        EQUALS,
+                                        TEST_FIRST_NAME,
+                                        null),
+                                buildFilteringDTO(
+                                        TEST_FIELD_DETAILS_LAST_NAME, EQUALS, TEST_LAST_NAME, null),
+                                buildFilteringDTO(
+                                        TEST_FIELD_DETAILS_CREATED_AT,
+                                        GREATER_THAN,
+                                        TEST_DATE,
+                                        null)));
+        Specification<User> specification =
+                userSpecification.buildSpecification(
+                        filteringDTOList, TEST_FIELD_DETAILS_LAST_NAME, TEST_ORDER_DIRECTION);
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = criteriaBuilder.createQuery(User.class);
+        Root<User> root = query.from(User.class);
+
+        // When
+        specification.toPredicate(root, query, criteriaBuilder);
+        List<User> users = userRepository.findAll(specification);
+
+        // Then
+        assertEquals(1, root.getJoins().size());
+        assertEquals(1, users.size());
+    }
+
+    @Test
+    @DisplayName("Tests that filters on a fetched association reuse the fetch join")
+    @Transactional
+    void withFetch_SharesJoinWithFilters() {
+        // Given
+        List<FilteringDTO> filteringDTOList =
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringDTO(
+                                        TEST_FIELD_DETAILS_FIRST_NAME,
+                                        EQUALS,
+                                        TEST_FIRST_NAME,
+                                        null)));
+        Specification<User> specification =
+                userSpecification.withFetch(
+                        userSpecification.buildSpecification(
+                                filteringDTOList,
+                                TEST_FIELD_DETAILS_LAST_NAME,
+                                TEST_ORDER_DIRECTION),
+                        UserSpecification.FIELD_DETAILS);
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = criteriaBuilder.createQuery(User.class);
+        Root<User> root = query.from(User.class);
+
+        // When
+        specification.toPredicate(root, query, criteriaBuilder);
+
+        // Then
+        assertEquals(1, root.getFetches().size());
+        assertTrue(root.getJoins().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Tests the successful ordering by a nested field")
+    @Transactional
+    void buildSpecification_NestedSort() {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        user.getDetails().setLastName(TEST_LAST_NAME2);
+        saveUser(TEST_USERNAME2);
+
+        Specification<User> ascending =
+                userSpecification.buildSpecification(
+                        null, TEST_FIELD_DETAILS_LAST_NAME, TEST_ORDER_DIRECTION);
+        Specification<User> descending =
+                userSpecification.buildSpecification(
+                        null, TEST_FIELD_DETAILS_LAST_NAME, TEST_ORDER_DIRECTION_DESC);
+
+        // When
+        List<User> ascendingUsers = userRepository.findAll(ascending);
+        List<User> descendingUsers = userRepository.findAll(descending);
+
+        // Then
+        assertEquals(
+                List.of(TEST_USERNAME2, TEST_USERNAME),
+                ascendingUsers.stream().map(User::getUsername).toList());
+        assertEquals(
+                List.of(TEST_USERNAME, TEST_USERNAME2),
+                descendingUsers.stream().map(User::getUsername).toList());
+    }
+
+    @Test
+    @DisplayName("Tests the successful filtering by a set of string values")
+    @Transactional
+    void buildSpecification_InFilter() {
+        // Given
+        saveUser(TEST_USERNAME);
+        saveUser(TEST_USERNAME2);
+        saveUser(TEST_USERNAME3);
+
+        List<String> values =
+                List.of(TEST_USERNAME, TEST_USERNAME3.toUpperCase(Locale.ROOT), TEST_USERNAME);
+        Specification<User> in =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(buildFilteringDTO(TEST_FIELD_USERNAME, IN, values))),
+                        TEST_FIELD_USERNAME,
+                        TEST_ORDER_DIRECTION);
+        Specification<User> notIn =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(buildFilteringDTO(TEST_FIELD_USERNAME, NOT_IN, values))),
+                        null,
+                        null);
+
+        // When
+        List<User> inUsers = userRepository.findAll(in);
+        List<User> notInUsers = userRepository.findAll(notIn);
+
+        // Then
+        assertEquals(
+                List.of(TEST_USERNAME, TEST_USERNAME3),
+                inUsers.stream().map(User::getUsername).toList());
+        assertEquals(List.of(TEST_USERNAME2), notInUsers.stream().map(User::getUsername).toList());
+    }
+
+    @Test
+    @DisplayName("Tests the successful filtering by a value list larger than one chunk")
+    @Transactional
+    void buildSpecification_ChunkedInFilter() {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        User otherUser = saveUser(TEST_USERNAME2);
+
+        List<String> values = new ArrayList<>();
+
+        for (long id = -1; values.size() < BaseSpecificationImpl.MAX_IN_CHUNK_SIZE; id--) {
+            values.add(String.valueOf(id));
+        }
+
+        values.add(user.getId().toString());
+
+        List<FilteringDTO> filteringDTOList =
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringDTO(TEST_FIELD_ID, IN, values),
+                                buildFilteringDTO(
+                                        TEST_FIELD_CREATED_AT,
+                                        IN,
+                                        List.of(
+                                                formatInstant(user.getCreatedAt()),
+                                                formatInstant(otherUser.getCreatedAt())))));
+        Specification<User> specification =
+                userSpecification.buildSpecification(filteringDTOList, null, null);
+
+        // When
+        List<User> users = userRepository.findAll(specification);
+
+        // Then
+        assertEquals(List.of(user.getId()), users.stream().map(User::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Tests the successful filtering by null checks")
+    @Transactional
+    void buildSpecification_NullCheckFilters() {
+        // Given
+        saveUser();
+
+        Specification<User> isNull =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_DETAILS_FIRST_NAME,
+                                                IS_NULL,
+                                                null,
+                                                null))),
+                        null,
+                        null);
+        Specification<User> isNotNull =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_DETAILS_FIRST_NAME,
+                                                IS_NOT_NULL,
+                                                null,
+                                                null))),
+                        null,
+                        null);
+
+        // When
+        List<User> isNullUsers = userRepository.findAll(isNull);
+        List<User> isNotNullUsers = userRepository.findAll(isNotNull);
+
+        // Then
+        assertTrue(isNullUsers.isEmpty());
+        assertEquals(1, isNotNullUsers.size());
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful creation of a specification due to missing IN values")
+    void buildSpecification_InFilterWithoutValues() {
+        // Given
+        Specification<User> specification =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(buildFilteringDTO(TEST_FIELD_USERNAME, IN, List.of()))),
+                        null,
+                        null);
+
+        // When & Then
+        assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful creation of a specification due to an empty IN value")
+    void buildSpecification_InFilterWithEmptyValue() {
+        // Given
+        Specification<User> specification =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME,
+                                                NOT_IN,
+                                                List.of(TEST_USERNAME, "")))),
+                        null,
+                        null);
+
+        // When & Then
+        assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful creation of a specification due to a non-numeric IN value")
+    void buildSpecification_InFilterWithInvalidLong() {
+        // Given
+        Specification<User> specification =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(
+                                List.of(
+                                        buildFilteringDTO(
+                                                TEST_FIELD_ID,
+                                                IN,
+                                                List.of(
+                                                        String.valueOf(TEST_ID),
+                                                        TEST_INVALID_LONG)))),
+                        null,
+                        null);
+
+        // When & Then
+        assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
+    }
+
+    @Test
+    @DisplayName("Tests the successful filtering by a group of alternatives")
+    @Transactional
+    void buildSpecification_OrGroup() {
+        // Given
+        saveUser(TEST_USERNAME);
+        saveUser(TEST_USERNAME2);
+        User user = saveUser(TEST_USERNAME3);
+        user.getDetails().setLastName(TEST_LAST_NAME2);
+
+        FilteringDTO group =
+                buildFilteringGroup(
+                        OR,
+                        buildFilteringDTO(TEST_FIELD_USERNAME, STARTS_WITH, TEST_USERNAME2, null),
+                        buildFilteringDTO(
+                                TEST_FIELD_DETAILS_LAST_NAME, EQUALS, TEST_LAST_NAME2, null));
+        Specification<User> specification =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(List.of(group)), TEST_FIELD_USERNAME, TEST_ORDER_DIRECTION);
+
+        // When
+        List<User> users = userRepository.findAll(specification);
+
+        // Then
+        assertEquals(
+                List.of(TEST_USERNAME2, TEST_USERNAME3),
+                users.stream().map(User::getUsername).toList());
+    }
+
+    @Test
+    @DisplayName("Tests the successful filtering by nested and negated groups")
+    @Transactional
+    void buildSpecification_NestedGroups() {
+        // Given
+        saveUser(TEST_USERNAME);
+        saveUser(TEST_USERNAME2);
+        saveUser(TEST_USERNAME3);
+
+        FilteringDTO group =
+                buildFilteringGroup(
+                        AND,
+                        buildFilteringDTO(
+                                TEST_FIELD_DETAILS_FIRST_NAME, EQUALS, TEST_FIRST_NAME, null),
+                        buildFilteringGroup(
+                                NOT,
+                                buildFilteringGroup(
+                                        OR,
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null),
+                                        buildFilteringDTO(
+                                                TEST_FIELD_USERNAME,
+                                                EQUALS,
+                                                TEST_USERNAME3,
+                                                null))));
+        Specification<User> specification =
+                userSpecification.buildSpecification(new ArrayList<>(List.of(group)), null, null);
+
+        // When
+        List<User> users = userRepository.findAll(specification);
+
+        // Then
+        assertEquals(List.of(TEST_USERNAME2), users.stream().map(User::getUsername).toList());
+    }
+
+    @Test
+    @DisplayName("Tests that indexed equality filters are evaluated before other filters")
+    void buildSpecification_OrdersBySelectivity() {
+        // Given
+        List<FilteringDTO> filteringDTOList =
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringGroup(
+                                        OR,
+                                        buildFilteringDTO(
+                                                TEST_FIELD_CREATED_BY, EQUALS, TEST_USERNAME, null),
+                                        buildFilteringDTO(
+                                                TEST_FIELD_UPDATED_BY,
+                                                EQUALS,
+                                                TEST_USERNAME,
+                                                null)),
+                                buildFilteringDTO(
+                                        TEST_FIELD_CREATED_BY, NOT_EQUALS, TEST_USERNAME2, null),
+                                buildFilteringDTO(
+                                        TEST_FIELD_CREATED_AT, GREATER_THAN, TEST_DATE, null),
+                                buildFilteringDTO(
+                                        TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null)));
+
+        // When
+        String hql =
+                toHqlString(userSpecification.buildSpecification(filteringDTOList, null, null));
+
+        // Then
+        int username = hql.indexOf("usernameNormalized");
+        int createdAt = hql.indexOf("createdAt");
+        int createdBy = hql.indexOf("createdBy) <>");
+        int updatedBy = hql.indexOf("updatedBy");
+
+        assertTrue(username < createdAt, hql);
+        assertTrue(createdAt < createdBy, hql);
+        assertTrue(createdBy < updatedBy, hql);
+    }
+
+    @Test
+    @DisplayName("Tests that range filters on the same field are collapsed into one range")
+    @Transactional
+    void buildSpecification_CollapsesRanges() {
+        // Given
+        User user = saveUser(TEST_USERNAME);
+        User otherUser = saveUser(TEST_USERNAME2);
+        saveUser(TEST_USERNAME3);
+
+        long id = user.getId();
+        List<FilteringDTO> filteringDTOList =
+                new ArrayList<>(
+                        List.of(
+                                buildFilteringDTO(
+                                        TEST_FIELD_ID, GREATER_THAN, String.valueOf(id - 10), null),
+                                buildFilteringDTO(
+                                        TEST_FIELD_ID,
+                                        BETWEEN,
+                                        String.valueOf(id),
+                                        String.valueOf(id + 10)),
+                                buildFilteringDTO(
+                                        TEST_FIELD_ID,
+                                        LESS_THAN,
+                                        otherUser.getId().toString(),
+                                        null),
+                                buildFilteringDTO(
+                                        TEST_FIELD_ID, LESS_THAN, String.valueOf(id + 5), null)));
+        Specification<User> specification =
+                userSpecification.buildSpecification(filteringDTOList, null, null);
+
+        // When
+        List<User> users = userRepository.findAll(specification);
+        String hql = toHqlString(specification);
+
+        // Then
+        assertEquals(List.of(user.getId()), users.stream().map(User::getId).toList());
+        assertTrue(
+                hql.matches(
+                        ".* where (\\w+)\\.id >= " + id + " and \\1\\.id < " + otherUser.getId()),
+                hql);
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful creation of a specification due to an empty group")
+    void buildSpecification_EmptyGroup() {
+        // Given
+        Specification<User> specification =
+                userSpecification.buildSpecification(
+                        new ArrayList<>(List.of(buildFilteringGroup(OR))), null, null);
+
+        // When & Then
+        assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
+    }
+
+    @Test
+    @DisplayName(
+            "Tests the unsuccessful creation of a specification due to too deeply nested groups")
+    void buildSpecification_TooDeepGroups() {
+        // Given
+        FilteringDTO group = buildFilteringDTO(TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null);
+
+        for (int i = 0; i < BaseSpecificationImpl.MAX_FILTER_DEPTH; i++) {
+            group = buildFilteringGroup(AND, group);
+        }
+
+        Specification<User> specification =
+                userSpecification.buildSpecification(new ArrayList<>(List.of(group)), null, null);
+
+        // When & Then
+        assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
+    }
+
+    @Test
+    @DisplayName("Tests that restricted fields are removed from nested groups")
+    void removeParam_NestedGroup() {
+        // Given
+        FilteringDTO group =
+                buildFilteringGroup(
+                        OR,
+                        buildFilteringDTO(TEST_FIELD_PASSWORD, EQUALS, TEST_PASSWORD, null),
+                        buildFilteringDTO(TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null));
+
+        // When
+        userSpecification.buildSpecification(new ArrayList<>(List.of(group)), null, null);
+
+        // Then
+        assertEquals(1, group.getFilters().size());
+        assertEquals(TEST_FIELD_USERNAME, group.getFilters().get(0).getField());
+    }
+
+    @Test
+    @DisplayName("Tests the successful scrolling through all users by keyset pagination")
+    @Transactional
+    void buildKeysetSpecification_ScrollsAllPages() {
+        // Given
+        saveUser(TEST_USERNAME2);
+        saveUser(TEST_USERNAME);
+        saveUser(TEST_USERNAME3);
+
+        Sort sort = userSpecification.buildKeysetSort(TEST_FIELD_USERNAME, TEST_ORDER_DIRECTION);
+        Specification<User> specification =
+                userSpecification.buildKeysetSpecification(null, TEST_FIELD_USERNAME);
+
+        // When
+        Window<User> first =
+                userRepository.findBy(
+                        specification,
+                        query ->
+                                query.sortBy(sort)
+                                        .limit(2)
+                                        .scroll(userSpecification.parseCursor(null, sort)));
+        String cursor = userSpecification.createCursor(first.positionAt(first.size() - 1));
+        Window<User> second =
+                userRepository.findBy(
+                        specification,
+                        query ->
+                                query.sortBy(sort)
+                                        .limit(2)
+                                        .scroll(userSpecification.parseCursor(cursor, sort)));
+
+        // Then
+        assertEquals(
+                List.of(TEST_USERNAME, TEST_USERNAME2),
+                first.getContent().stream().map(User::getUsername).toList());
+        assertTrue(first.hasNext());
+        assertEquals(
+                List.of(TEST_USERNAME3),
+                second.getContent().stream().map(User::getUsername).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    @DisplayName("Tests the successful creation of a keyset sort on the id only")
+    void buildKeysetSort_Id() {
+        // Given When
+        Sort sort = userSpecification.buildKeysetSort(TEST_FIELD_ID, TEST_ORDER_DIRECTION_DESC);
+
+        // Then
+        assertEquals(Sort.by(Sort.Direction.DESC, TEST_FIELD_ID), sort);
+    }
+
+    @Test
+    @DisplayName(
+            "Tests the unsuccessful creation of a keyset specification due to a restricted sort field")
+    void buildKeysetSpecification_RestrictedSortField() {
+        // Given
+        Specification<User> specification =
+                userSpecification.buildKeysetSpecification(null, TEST_FIELD_PASSWORD);
+
+        // When & Then
+        assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
+    }
+
+    @Test
+    @DisplayName(
+            "Tests the unsuccessful creation of a keyset specification due to a nullable sort field")
+    void buildKeysetSpecification_NullableSortField() {
+        // Given
+        Specification<User> specification =
+                userSpecification.buildKeysetSpecification(null, TEST_FIELD_UPDATED_BY);
+
+        // When & Then
+        assertThrows(InvalidFilterException.class, () -> userRepository.findAll(specification));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful parsing of a malformed cursor")
+    void parseCursor_Malformed() {
+        // Given
+        Sort sort = userSpecification.buildKeysetSort(TEST_FIELD_ID, TEST_ORDER_DIRECTION);
+
+        // When & Then
+        assertThrows(
+                InvalidCursorException.class,
+                () -> userSpecification.parseCursor(TEST_INVALID_CURSOR, sort));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful parsing of a cursor created for another sort")
+    void parseCursor_OtherSort() {
+        // Given
+        Sort sort = userSpecification.buildKeysetSort(TEST_FIELD_USERNAME, TEST_ORDER_DIRECTION);
+        String cursor =
+                userSpecification.createCursor(
+                        ScrollPosition.forward(Map.of(TEST_FIELD_ID, TEST_ID)));
+
+        // When & Then
+        assertThrows(
+                InvalidCursorException.class, () -> userSpecification.parseCursor(cursor, sort));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful parsing of a cursor holding a value of another type")
+    void parseCursor_WrongType() {
+        // Given
+        Sort sort = userSpecification.buildKeysetSort(TEST_FIELD_CREATED_AT, TEST_ORDER_DIRECTION);
+        String cursor =
+                userSpecification.createCursor(
+                        ScrollPosition.forward(
+                                Map.of(
+                                        TEST_FIELD_CREATED_AT,
+                                        TEST_USERNAME,
+                                        TEST_FIELD_ID,
+                                        TEST_ID)));
+
+        // When & Then
+        assertThrows(
+                InvalidCursorException.class, () -> userSpecification.parseCursor(cursor, sort));
+    }
+
     @Test
     @DisplayName("Tests the successful removal of a parameter")
     void removeParam_Success() {
@@ -591,10 +1473,37 @@ public class UserSpecificationTests {
 
     /** Saves a user with the test properties. */
     private User saveUser() {
-        return userRepository.save(
+        return saveUser(TEST_USERNAME);
+    }
+
+    /**
+     * Renders the query of a specification as HQL.
+     *
+     * @param specification the specification
+     * @return the HQL string
+     */
+    private String toHqlString(Specification<User> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = criteriaBuilder.createQuery(User.class);
+        Root<User> root = query.from(User.class);
+
+        query.select(root).where(specification.toPredicate(root, query, criteriaBuilder));
+
+        return ((SqmSelectStatement<?>) query).toHqlString();
+    }
+
+    /**
+     * Saves and flushes a user with the test properties and the given username, so that its
+     * timestamps are set.
+     *
+     * @param username the username
+     * @return the saved user
+     */
+    private User saveUser(String username) {
+        return userRepository.saveAndFlush(
                 buildUser(
                         null,
-                        TEST_USERNAME,
+                        username,
                         TEST_PASSWORD,
                         null,
                         null,
@@ -0,0 +1,116 @@
+package com.example.utils.cache;
+
+import static com.example.Constants.*;
+import static com.example.TestUtils.buildFilteringDTO;
+import static com.example.TestUtils.buildFilteringGroup;
+import static com.example.enums.FilterOperator.*;
+import static com.example.enums.LogicalOperator.OR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.example.domain.user.service.IUserService;
+import com.example.utils.dto.request.FilteringDTO;
+import java.lang.reflect.Method;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link FilterKeyGenerator}. */
+public class FilterKeyGeneratorTests {
+    private final FilterKeyGenerator filterKeyGenerator = new FilterKeyGenerator();
+
+    private Method method;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        method =
+                IUserService.class.getMethod(
+                        "get", int.class, int.class, String.class, String.class, List.class);
+    }
+
+    @Test
+    @DisplayName("Tests that the order of filters, group members and IN values is ignored.")
+    void generate_OrderIndependent() {
+        // Given
+        List<FilteringDTO> filters =
+                List.of(
+                        buildFilteringDTO(TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null),
+                        buildFilteringDTO(TEST_FIELD_ID, IN, List.of("1", "2", "1")),
+                        buildFilteringGroup(
+                                OR,
+                                buildFilteringDTO(
+                                        TEST_FIELD_DETAILS_FIRST_NAME,
+                                        EQUALS,
+                                        TEST_FIRST_NAME,
+                                        null),
+                                buildFilteringDTO(
+                                        TEST_FIELD_DETAILS_LAST_NAME,
+                                        EQUALS,
+                                        TEST_LAST_NAME,
+                                        null)));
+        List<FilteringDTO> reorderedFilters =
+                List.of(
+                        buildFilteringGroup(
+                                OR,
+                                buildFilteringDTO(
+                                        TEST_FIELD_DETAILS_LAST_NAME, EQUALS, TEST_LAST_NAME, null),
+                                buildFilteringDTO(
+                                        TEST_FIELD_DETAILS_FIRST_NAME,
+                                        EQUALS,
+                                        TEST_FIRST_NAME,
+                                        null)),
+                        buildFilteringDTO(TEST_FIELD_ID, IN, List.of("2", "1")),
+                        buildFilteringDTO(TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null));
+
+        // When
+        Object key = generate(TEST_PAGE, filters);
+        Object reorderedKey = generate(TEST_PAGE, reorderedFilters);
+
+        // Then
+        assertEquals(key, reorderedKey);
+        assertEquals(key.hashCode(), reorderedKey.hashCode());
+    }
+
+    @Test
+    @DisplayName("Tests that a missing filter list is keyed like an empty one.")
+    void generate_NullFilterList() {
+        // Given When
+        Object key = generate(TEST_PAGE, null);
+        Object emptyKey = generate(TEST_PAGE, List.of());
+
+        // Then
+        assertEquals(key, emptyKey);
+    }
+
+    @Test
+    @DisplayName("Tests that different pages and filter values get different keys.")
+    void generate_DifferentRequests() {
+        // Given
+        List<FilteringDTO> filters =
+                List.of(buildFilteringDTO(TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME, null));
+        List<FilteringDTO> otherFilters =
+                List.of(buildFilteringDTO(TEST_FIELD_USERNAME, EQUALS, TEST_USERNAME2, null));
+
+        // When
+        Object key = generate(TEST_PAGE, filters);
+        Object otherPageKey = generate(TEST_PAGE2, filters);
+        Object otherFiltersKey = generate(TEST_PAGE, otherFilters);
+
+        // Then
+        assertNotEquals(key, otherPageKey);
+        assertNotEquals(key, otherFiltersKey);
+    }
+
+    /**
+     * Generates the key of a listing call.
+     *
+     * @param page the page number
+     * @param filters the search parameters
+     * @return the key
+     */
+    private Object generate(int page, List<FilteringDTO> filters) {
+        return filterKeyGenerator.generate(
+                null, method, page, TEST_LIMIT, TEST_ORDER_BY, TEST_ORDER_DIRECTION, filters);
+    }
+}
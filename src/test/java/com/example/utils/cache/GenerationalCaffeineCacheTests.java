@@ -0,0 +1,204 @@
+package com.example.utils.cache;
+
+import static com.example.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+/** Unit tests for {@link GenerationalCaffeineCache}. */
+public class GenerationalCaffeineCacheTests {
+    private GenerationalCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache =
+                new GenerationalCaffeineCache(
+                        TEST_CACHE_NAME, Caffeine.newBuilder().build(), false);
+    }
+
+    @Test
+    @DisplayName("Tests that a loaded value is stored")
+    void get_Success() {
+        // When
+        String value = cache.get(TEST_ID, () -> TEST_USERNAME);
+
+        // Then
+        assertEquals(TEST_USERNAME, value);
+        assertEquals(TEST_USERNAME, cache.get(TEST_ID, String.class));
+    }
+
+    @Test
+    @DisplayName("Tests that a cached value is returned without loading")
+    void get_CacheHit() {
+        // Given
+        cache.put(TEST_ID, TEST_USERNAME);
+
+        // When
+        String value = cache.get(TEST_ID, () -> TEST_USERNAME2);
+
+        // Then
+        assertEquals(TEST_USERNAME, value);
+    }
+
+    @Test
+    @DisplayName("Tests that a value loaded while the cache is cleared is returned but not stored")
+    void get_ClearedDuringLoad() throws Exception {
+        // Given
+        Thread clear = new Thread(cache::clear);
+
+        // When
+        String value =
+                cache.get(
+                        TEST_ID,
+                        () -> {
+                            startAndAwaitBlocked(clear);
+
+                            return TEST_USERNAME;
+                        });
+        clear.join();
+
+        // Then
+        assertEquals(TEST_USERNAME, value);
+        assertNull(cache.get(TEST_ID));
+    }
+
+    @Test
+    @DisplayName("Tests that a value loaded while another key is evicted is stored")
+    void get_OtherKeyEvictedDuringLoad() {
+        // When
+        cache.get(
+                TEST_ID,
+                () -> {
+                    CompletableFuture.runAsync(() -> cache.evict(TEST_ID2)).join();
+
+                    return TEST_USERNAME;
+                });
+
+        // Then
+        assertEquals(TEST_USERNAME, cache.get(TEST_ID, String.class));
+    }
+
+    @Test
+    @DisplayName("Tests that an eviction of a key waits for its load and removes the loaded value")
+    void get_EvictedDuringLoad() throws Exception {
+        // Given
+        Thread eviction = new Thread(() -> cache.evict(TEST_ID));
+
+        // When
+        String value =
+                cache.get(
+                        TEST_ID,
+                        () -> {
+                            startAndAwaitBlocked(eviction);
+
+                            return TEST_USERNAME;
+                        });
+        eviction.join();
+
+        // Then
+        assertEquals(TEST_USERNAME, value);
+        assertNull(cache.get(TEST_ID));
+    }
+
+    @Test
+    @DisplayName("Tests that concurrent reads of a missing key share a single load")
+    void get_ConcurrentLoads() throws Exception {
+        // Given
+        int threads = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(threads);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> values = new ArrayList<>();
+
+        try {
+            // When
+            for (int i = 0; i < threads; i++) {
+                values.add(
+                        executor.submit(
+                                () -> {
+                                    started.countDown();
+
+                                    return cache.get(
+                                            TEST_ID,
+                                            () -> {
+                                                loads.incrementAndGet();
+                                                release.await(5, TimeUnit.SECONDS);
+
+                                                return TEST_USERNAME;
+                                            });
+                                }));
+            }
+
+            started.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            for (Future<String> value : values) {
+                assertEquals(TEST_USERNAME, value.get(5, TimeUnit.SECONDS));
+            }
+
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Tests that values loaded after an eviction are stored again")
+    void get_AfterEviction() {
+        // Given
+        cache.put(TEST_ID, TEST_USERNAME);
+        cache.evictIfPresent(TEST_ID);
+        cache.invalidate();
+
+        // When
+        cache.get(TEST_ID, () -> TEST_USERNAME2);
+
+        // Then
+        assertEquals(TEST_USERNAME2, cache.get(TEST_ID, String.class));
+    }
+
+    @Test
+    @DisplayName("Tests that a failing load is reported and nothing is stored")
+    void get_Failure() {
+        // When & Then
+        assertThrows(
+                Cache.ValueRetrievalException.class,
+                () ->
+                        cache.get(
+                                TEST_ID,
+                                () -> {
+                                    throw new IllegalStateException(TEST_USERNAME);
+                                }));
+        assertNull(cache.get(TEST_ID));
+    }
+
+    /**
+     * Starts a thread and waits until it blocks or terminates.
+     *
+     * @param thread the thread
+     */
+    private static void startAndAwaitBlocked(Thread thread) {
+        thread.start();
+
+        while (thread.getState() == Thread.State.NEW
+                || thread.getState() == Thread.State.RUNNABLE) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.utils.criteria;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link ParameterPadding}. */
+public class ParameterPaddingTests {
+
+    @Test
+    @DisplayName("Tests that a single value is not padded.")
+    void pad_SingleValue() {
+        // Given
+        List<Long> values = List.of(1L);
+
+        // When
+        List<Long> result = ParameterPadding.pad(values);
+
+        // Then
+        assertEquals(values, result);
+    }
+
+    @Test
+    @DisplayName("Tests that a power of two sized list is not padded.")
+    void pad_PowerOfTwo() {
+        // Given
+        List<Long> values = List.of(1L, 2L, 3L, 4L);
+
+        // When
+        List<Long> result = ParameterPadding.pad(values);
+
+        // Then
+        assertEquals(values, result);
+    }
+
+    @Test
+    @DisplayName("Tests the padding to the next power of two with the last value.")
+    void pad_RepeatsLastValue() {
+        // Given
+        List<Long> values = List.of(1L, 2L, 3L, 4L, 5L);
+
+        // When
+        List<Long> result = ParameterPadding.pad(values);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 5L, 5L, 5L), result);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.utils.criteria;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link RangeBounds}. */
+public class RangeBoundsTests {
+    private CriteriaBuilder criteriaBuilder;
+    private Expression<Long> expression;
+    private Predicate predicate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        criteriaBuilder = mock(CriteriaBuilder.class);
+        expression = mock(Expression.class);
+        predicate = mock(Predicate.class);
+    }
+
+    @Test
+    @DisplayName("Tests that the tightest inclusive bounds are collapsed into a between.")
+    void toPredicate_Between() {
+        // Given
+        RangeBounds<Long> range = new RangeBounds<>();
+        range.addLower(1L, true);
+        range.addLower(3L, true);
+        range.addUpper(9L, true);
+        range.addUpper(7L, true);
+
+        when(criteriaBuilder.between(expression, 3L, 7L)).thenReturn(predicate);
+
+        // When
+        Predicate result = range.toPredicate(criteriaBuilder, expression);
+
+        // Then
+        assertSame(predicate, result);
+    }
+
+    @Test
+    @DisplayName("Tests that an exclusive bound wins over an inclusive bound of the same value.")
+    void toPredicate_ExclusiveBoundOfSameValue() {
+        // Given
+        RangeBounds<Long> range = new RangeBounds<>();
+        range.addLower(3L, false);
+        range.addLower(3L, true);
+        range.addLower(2L, true);
+
+        when(criteriaBuilder.greaterThan(expression, 3L)).thenReturn(predicate);
+
+        // When
+        Predicate result = range.toPredicate(criteriaBuilder, expression);
+
+        // Then
+        assertSame(predicate, result);
+    }
+
+    @Test
+    @DisplayName("Tests that mixed bounds are combined with a conjunction.")
+    void toPredicate_MixedBounds() {
+        // Given
+        RangeBounds<Long> range = new RangeBounds<>();
+        range.addLower(3L, true);
+        range.addUpper(7L, true);
+        range.addUpper(7L, false);
+
+        Predicate lower = mock(Predicate.class);
+        Predicate upper = mock(Predicate.class);
+
+        when(criteriaBuilder.greaterThanOrEqualTo(expression, 3L)).thenReturn(lower);
+        when(criteriaBuilder.lessThan(expression, 7L)).thenReturn(upper);
+        when(criteriaBuilder.and(lower, upper)).thenReturn(predicate);
+
+        // When
+        Predicate result = range.toPredicate(criteriaBuilder, expression);
+
+        // Then
+        assertSame(predicate, result);
+    }
+
+    @Test
+    @DisplayName("Tests that an upper bound alone is kept as a single comparison.")
+    void toPredicate_UpperBoundOnly() {
+        // Given
+        RangeBounds<Long> range = new RangeBounds<>();
+        range.addUpper(7L, true);
+        range.addUpper(8L, false);
+
+        when(criteriaBuilder.lessThanOrEqualTo(expression, 7L)).thenReturn(predicate);
+
+        // When
+        Predicate result = range.toPredicate(criteriaBuilder, expression);
+
+        // Then
+        assertSame(predicate, result);
+    }
+}
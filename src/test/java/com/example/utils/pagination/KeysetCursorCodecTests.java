@@ -0,0 +1,77 @@
+package com.example.utils.pagination;
+
+import static com.example.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link KeysetCursorCodec}. */
+public class KeysetCursorCodecTests {
+
+    @Test
+    @DisplayName("Tests the successful encoding and decoding of keys of every supported type.")
+    void encodeDecode_Success() {
+        // Given
+        Map<String, Object> keys = new LinkedHashMap<>();
+
+        keys.put(TEST_FIELD_USERNAME, TEST_USERNAME);
+        keys.put(TEST_FIELD_CREATED_AT, TEST_INSTANT);
+        keys.put(TEST_FIELD_ID, TEST_ID);
+
+        // When
+        String cursor = KeysetCursorCodec.encode(keys);
+        Map<String, Object> result = KeysetCursorCodec.decode(cursor);
+
+        // Then
+        assertEquals(keys, result);
+        assertEquals(List.copyOf(keys.keySet()), List.copyOf(result.keySet()));
+        assertFalse(cursor.contains(TEST_USERNAME));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful encoding of a key of an unsupported type.")
+    void encode_UnsupportedType() {
+        // Given
+        Map<String, Object> keys = Map.of(TEST_FIELD_ID, 1);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursorCodec.encode(keys));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful decoding of malformed cursors.")
+    void decode_Malformed() {
+        // Given
+        String valid = KeysetCursorCodec.encode(Map.of(TEST_FIELD_ID, TEST_ID));
+        byte[] bytes = Base64.getUrlDecoder().decode(valid);
+        byte[] wrongVersion = bytes.clone();
+        byte[] unknownType = bytes.clone();
+        byte[] trailing = new byte[bytes.length + 1];
+
+        wrongVersion[0] = 0;
+        unknownType[4 + TEST_FIELD_ID.length()] = 'X';
+        System.arraycopy(bytes, 0, trailing, 0, bytes.length);
+
+        // When & Then
+        assertNull(KeysetCursorCodec.decode(TEST_INVALID_CURSOR));
+        assertNull(KeysetCursorCodec.decode(valid.substring(0, valid.length() - 2)));
+        assertNull(KeysetCursorCodec.decode(encode(wrongVersion)));
+        assertNull(KeysetCursorCodec.decode(encode(unknownType)));
+        assertNull(KeysetCursorCodec.decode(encode(trailing)));
+    }
+
+    /**
+     * Encodes raw bytes the way cursors are encoded.
+     *
+     * @param bytes the bytes
+     * @return the encoded bytes
+     */
+    private String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
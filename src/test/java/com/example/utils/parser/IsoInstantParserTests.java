@@ -0,0 +1,103 @@
+package com.example.utils.parser;
+
+import static com.example.Constants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link IsoInstantParser}. */
+public class IsoInstantParserTests {
+
+    @Test
+    @DisplayName("Tests the successful parsing of a date.")
+    void parse_Date() {
+        // Given
+        Instant expected = LocalDate.parse(TEST_DATE).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        // When
+        Instant result = IsoInstantParser.parse(TEST_DATE);
+
+        // Then
+        assertEquals(expected, result);
+    }
+
+    @Test
+    @DisplayName("Tests the successful parsing of a date-time.")
+    void parse_DateTime() {
+        // Given
+        Instant expected = Instant.parse(TEST_DATE_TIME + "Z");
+
+        // When
+        Instant result = IsoInstantParser.parse(TEST_DATE_TIME);
+
+        // Then
+        assertEquals(expected, result);
+    }
+
+    @Test
+    @DisplayName("Tests the successful parsing of a date-time with microseconds.")
+    void parse_DateTimeWithMicros() {
+        // Given
+        Instant expected = Instant.parse(TEST_DATE_TIME_WITH_MICROS);
+
+        // When
+        Instant result = IsoInstantParser.parse(TEST_DATE_TIME_WITH_MICROS);
+
+        // Then
+        assertEquals(expected, result);
+    }
+
+    @Test
+    @DisplayName("Tests the successful parsing of dates around leap days and the epoch.")
+    void parse_CalendarEdges() {
+        // Given When & Then
+        assertEquals(Instant.parse("2024-02-29T00:00:00Z"), IsoInstantParser.parse("2024-02-29"));
+        assertEquals(Instant.parse("2000-03-01T00:00:00Z"), IsoInstantParser.parse("2000-03-01"));
+        assertEquals(Instant.EPOCH, IsoInstantParser.parse("1970-01-01T00:00:00"));
+        assertEquals(
+                Instant.parse("1969-12-31T23:59:59Z"),
+                IsoInstantParser.parse("1969-12-31T23:59:59"));
+        assertEquals(Instant.parse("0000-01-01T00:00:00Z"), IsoInstantParser.parse("0000-01-01"));
+        assertEquals(
+                Instant.parse("9999-12-31T23:59:59.999999Z"),
+                IsoInstantParser.parse("9999-12-31T23:59:59.999999Z"));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful parsing of values that are not valid calendar dates.")
+    void parse_InvalidCalendarValues() {
+        // Given When & Then
+        assertNull(IsoInstantParser.parse("2023-02-29"));
+        assertNull(IsoInstantParser.parse("1900-02-29"));
+        assertNull(IsoInstantParser.parse("2024-04-31"));
+        assertNull(IsoInstantParser.parse("2024-00-10"));
+        assertNull(IsoInstantParser.parse("2024-13-10"));
+        assertNull(IsoInstantParser.parse("2024-01-00"));
+        assertNull(IsoInstantParser.parse("2024-01-01T24:00:00"));
+        assertNull(IsoInstantParser.parse("2024-01-01T23:60:00"));
+        assertNull(IsoInstantParser.parse("2024-01-01T23:59:60"));
+    }
+
+    @Test
+    @DisplayName("Tests the unsuccessful parsing of values in unsupported formats.")
+    void parse_InvalidFormats() {
+        // Given When & Then
+        assertNull(IsoInstantParser.parse(null));
+        assertNull(IsoInstantParser.parse(TEST_INVALID_DATE));
+        assertNull(IsoInstantParser.parse("2024/07/16"));
+        assertNull(IsoInstantParser.parse("2024-07-1a"));
+        assertNull(IsoInstantParser.parse("2024-07-16 10:15:30"));
+        assertNull(IsoInstantParser.parse("2024-07-16T10-15:30"));
+        assertNull(IsoInstantParser.parse("2024-07-16T10:15-30"));
+        assertNull(IsoInstantParser.parse("2024-07-16T1a:15:30"));
+        assertNull(IsoInstantParser.parse("2024-07-16T10:15:30.123Z"));
+        assertNull(IsoInstantParser.parse("2024-07-16T10:15:30,123456Z"));
+        assertNull(IsoInstantParser.parse("2024-07-16T10:15:30.123456+"));
+        assertNull(IsoInstantParser.parse("2024-07-16T10:15:30.12345aZ"));
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.utils.service;
+
+import static com.example.Constants.*;
+import static com.example.constants.Constants.PASSWORD_HASHING_REJECTED_METRIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.config.PasswordHashingProperties;
+import com.example.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/** Unit tests for {@link PasswordHashingServiceImpl}. */
+@ExtendWith(MockitoExtension.class)
+public class PasswordHashingServiceTests {
+    @Mock private PasswordEncoder passwordEncoder;
+    @Mock private IMessageService messageService;
+
+    private final PasswordHashingProperties passwordHashingProperties =
+            new PasswordHashingProperties();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExecutorService executor;
+
+    /** Sets up the test environment before each test. */
+    @BeforeEach
+    public void setUp() {
+        passwordHashingProperties.setThreads(TEST_HASHING_THREADS);
+        executor = Executors.newFixedThreadPool(TEST_HASHING_THREADS);
+    }
+
+    /** Stops the executor after each test. */
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Tests that passwords are hashed on the executor in request order.")
+    public void encodeAll_Success() {
+        // Given
+        PasswordHashingServiceImpl passwordHashingService = buildService(executor);
+
+        when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(TEST_PASSWORD2);
+        when(passwordEncoder.encode(TEST_PASSWORD2)).thenReturn(TEST_PASSWORD);
+
+        // When
+        List<String> result =
+                passwordHashingService.encodeAll(
+                        List.of(TEST_PASSWORD, TEST_PASSWORD2, TEST_PASSWORD));
+
+        // Then
+        assertEquals(List.of(TEST_PASSWORD2, TEST_PASSWORD, TEST_PASSWORD2), result);
+    }
+
+    @Test
+    @DisplayName("Tests that a hash is rejected right away when the executor is saturated.")
+    @SuppressWarnings("unchecked")
+    public void encode_Saturated() {
+        // Given
+        ExecutorService saturated = mock(ExecutorService.class);
+        PasswordHashingServiceImpl passwordHashingService = buildService(saturated);
+
+        when(saturated.submit(any(Callable.class))).thenThrow(new RejectedExecutionException());
+
+        // When & Then
+        assertThrows(
+                ServiceUnavailableException.class,
+                () -> passwordHashingService.encode(TEST_PASSWORD));
+        assertEquals(1, meterRegistry.get(PASSWORD_HASHING_REJECTED_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("Tests that a failing hash is reported with its own exception.")
+    public void encode_Failure() {
+        // Given
+        PasswordHashingServiceImpl passwordHashingService = buildService(executor);
+
+        when(passwordEncoder.encode(TEST_PASSWORD)).thenThrow(new IllegalArgumentException());
+
+        // When & Then
+        assertThrows(
+                IllegalArgumentException.class, () -> passwordHashingService.encode(TEST_PASSWORD));
+    }
+
+    /**
+     * Builds the service on an executor.
+     *
+     * @param passwordHashingExecutor the executor
+     * @return the service
+     */
+    private PasswordHashingServiceImpl buildService(ExecutorService passwordHashingExecutor) {
+        return new PasswordHashingServiceImpl(
+                passwordEncoder,
+                passwordHashingExecutor,
+                passwordHashingProperties,
+                messageService,
+                meterRegistry);
+    }
+}